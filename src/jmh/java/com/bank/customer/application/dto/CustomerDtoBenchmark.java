@@ -0,0 +1,131 @@
+package com.bank.customer.application.dto;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Trabajo por request sobre los DTOs: Bean Validation de CreateCustomerRequest
+ * (válido e inválido) y serialización Jackson de un CustomerDTO y de listas.
+ *
+ * El ObjectMapper se arma como el de Spring Boot (Jackson2ObjectMapperBuilder + JavaTimeModule,
+ * fechas como texto). Con el perfil gc se reporta gc.alloc.rate.norm (bytes por operación).
+ *
+ * mvn -Pjmh test-compile exec:exec -Djmh.args="CustomerDtoBenchmark -p listSize=1000"
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CustomerDtoBenchmark {
+
+    @Param({"20", "500"})
+    public int listSize;
+
+    private ValidatorFactory validatorFactory;
+    private Validator validator;
+    private ObjectMapper objectMapper;
+
+    private CreateCustomerRequest validRequest;
+    private CreateCustomerRequest invalidRequest;
+    private CustomerDTO customer;
+    private List<CustomerDTO> customers;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+
+        validRequest = CreateCustomerRequest.builder()
+                .name("Maria Lopez")
+                .gender("Female")
+                .identification("1712345678")
+                .address("Quito, La Mariscal")
+                .phone("0999999999")
+                .password("password123")
+                .build();
+
+        invalidRequest = CreateCustomerRequest.builder()
+                .name("M")
+                .identification("17-123")
+                .phone("call me")
+                .password("")
+                .build();
+
+        customer = customer(42L);
+        customers = new ArrayList<>(listSize);
+        for (long id = 1; id <= listSize; id++) {
+            customers.add(customer(id));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<CreateCustomerRequest>> validateValidRequest() {
+        return validator.validate(validRequest);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<CreateCustomerRequest>> validateInvalidRequest() {
+        return validator.validate(invalidRequest);
+    }
+
+    @Benchmark
+    public byte[] serializeCustomer() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(customer);
+    }
+
+    @Benchmark
+    public byte[] serializeCustomerList() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(customers);
+    }
+
+    private static CustomerDTO customer(long id) {
+        LocalDateTime now = LocalDateTime.of(2024, 1, 15, 10, 30);
+        return CustomerDTO.builder()
+                .id(id)
+                .name("Maria Lopez")
+                .gender("Female")
+                .identification(String.valueOf(1_700_000_000L + id))
+                .address("Quito, La Mariscal")
+                .phone("0999999999")
+                .status(true)
+                .createdAt(now)
+                .updatedAt(now)
+                .version(3L)
+                .build();
+    }
+}
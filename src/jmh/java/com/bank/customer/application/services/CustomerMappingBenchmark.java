@@ -0,0 +1,100 @@
+package com.bank.customer.application.services;
+
+import com.bank.customer.application.dto.CreateCustomerRequest;
+import com.bank.customer.application.dto.CustomerDTO;
+import com.bank.customer.application.dto.UpdateCustomerRequest;
+import com.bank.customer.domain.entities.Customer;
+import com.bank.customer.domain.projections.CustomerProjection;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mapeos de CustomerServiceImpl que corren en cada request: entidad/proyección a DTO,
+ * request a entidad y actualización parcial de la entidad.
+ *
+ * Con el perfil gc (activo por defecto en el perfil jmh) se reporta gc.alloc.rate.norm:
+ * bytes asignados por operación, la métrica a vigilar entre versiones.
+ *
+ * mvn -Pjmh test-compile exec:exec -Djmh.args="CustomerMappingBenchmark"
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CustomerMappingBenchmark {
+
+    private Customer customer;
+    private CustomerProjection projection;
+    private CreateCustomerRequest createRequest;
+    private UpdateCustomerRequest updateRequest;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        LocalDateTime now = LocalDateTime.of(2024, 1, 15, 10, 30);
+
+        customer = new Customer();
+        customer.setId(42L);
+        customer.setName("Maria Lopez");
+        customer.setGender("Female");
+        customer.setIdentification("1712345678");
+        customer.setAddress("Quito, La Mariscal");
+        customer.setPhone("0999999999");
+        customer.setPassword("$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BWX4Z9YtQ0sX1e6xS1vQ6ZwA1fW2");
+        customer.setStatus(true);
+        customer.setCreatedAt(now);
+        customer.setUpdatedAt(now);
+        customer.setVersion(3L);
+
+        projection = new CustomerProjection(42L, "Maria Lopez", "Female", "1712345678",
+                "Quito, La Mariscal", "0999999999", true, now, now, 3L);
+
+        createRequest = CreateCustomerRequest.builder()
+                .name("Maria Lopez")
+                .gender("Female")
+                .identification("1712345678")
+                .address("Quito, La Mariscal")
+                .phone("0999999999")
+                .password("$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BWX4Z9YtQ0sX1e6xS1vQ6ZwA1fW2")
+                .build();
+
+        updateRequest = UpdateCustomerRequest.builder()
+                .address("Guayaquil, Urdesa")
+                .phone("0988888888")
+                .build();
+    }
+
+    @Benchmark
+    public CustomerDTO entityToDto() {
+        return CustomerServiceImpl.mapToDTO(customer);
+    }
+
+    @Benchmark
+    public CustomerDTO projectionToDto() {
+        return CustomerServiceImpl.mapToDTO(projection);
+    }
+
+    @Benchmark
+    public Customer requestToEntity() {
+        return CustomerServiceImpl.mapToEntity(createRequest);
+    }
+
+    @Benchmark
+    public Customer updateEntity() {
+        CustomerServiceImpl.updateEntityFromRequest(customer, updateRequest);
+        return customer;
+    }
+}
@@ -0,0 +1,53 @@
+package com.bank.customer.domain.entities;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Métodos de negocio de Person: validación de cédula ecuatoriana (válida, dígito
+ * verificador incorrecto, provincia inválida, no numérica) y nombre formateado.
+ *
+ * mvn -Pjmh test-compile exec:exec -Djmh.args="PersonBenchmark"
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PersonBenchmark {
+
+    @Param({"1712345675", "1712345678", "9912345678", "17123456AB"})
+    public String identification;
+
+    private Person person;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        person = new Person();
+        person.setName("  maria LOPEZ  ");
+        person.setIdentification(identification);
+    }
+
+    @Benchmark
+    public boolean hasValidEcuadorianId() {
+        return person.hasValidEcuadorianId();
+    }
+
+    @Benchmark
+    public String formattedName() {
+        return person.getFormattedName();
+    }
+}
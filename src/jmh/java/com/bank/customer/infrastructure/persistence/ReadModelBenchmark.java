@@ -0,0 +1,203 @@
+package com.bank.customer.infrastructure.persistence;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lecturas con herencia JOINED (personas JOIN clientes) contra la tabla aplanada customer_view.
+ *
+ * Requiere un MySQL con schema.sql aplicado (tablas y triggers). Si la base tiene menos
+ * de "rows" clientes se completa antes de medir; los triggers llenan customer_view.
+ *
+ * mvn -Pjmh test-compile exec:exec -Djmh.args="ReadModelBenchmark -jvmArgs -Dbenchmark.jdbc.url=jdbc:mysql://..."
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Threads(8)
+@Fork(1)
+public class ReadModelBenchmark {
+
+    private static final String JOINED_COLUMNS = """
+            SELECT p.id, p.nombre, p.genero, p.identificacion, p.direccion, p.telefono,
+                   c.estado, p.created_at, p.updated_at
+            FROM personas p
+            JOIN clientes c ON c.id = p.id
+            """;
+
+    private static final String VIEW_COLUMNS = """
+            SELECT id, nombre, genero, identificacion, direccion, telefono, estado, created_at, updated_at
+            FROM customer_view
+            """;
+
+    private static final int PAGE_SIZE = 100;
+    private static final int SEED_BATCH = 5_000;
+
+    @Param("10000000")
+    public long rows;
+
+    private String url;
+    private String username;
+    private String password;
+    private long minId;
+    private long maxId;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        url = System.getProperty("benchmark.jdbc.url",
+                "jdbc:mysql://localhost:3306/customer_db?useSSL=false&serverTimezone=UTC"
+                        + "&allowPublicKeyRetrieval=true&rewriteBatchedStatements=true");
+        username = System.getProperty("benchmark.jdbc.username", "bank_user");
+        password = System.getProperty("benchmark.jdbc.password", "bank_password");
+
+        try (Connection connection = DriverManager.getConnection(url, username, password)) {
+            seed(connection);
+            try (Statement statement = connection.createStatement();
+                 ResultSet rs = statement.executeQuery("SELECT MIN(id), MAX(id) FROM customer_view")) {
+                rs.next();
+                minId = rs.getLong(1);
+                maxId = rs.getLong(2);
+            }
+        }
+    }
+
+    /**
+     * Conexión por hilo: se mide la consulta, no el pool
+     */
+    @State(Scope.Thread)
+    public static class ThreadConnection {
+
+        Connection connection;
+
+        @Setup(Level.Trial)
+        public void open(ReadModelBenchmark benchmark) throws SQLException {
+            connection = DriverManager.getConnection(benchmark.url, benchmark.username, benchmark.password);
+            connection.setReadOnly(true);
+        }
+
+        @TearDown(Level.Trial)
+        public void close() throws SQLException {
+            connection.close();
+        }
+    }
+
+    @Benchmark
+    public void joinedFindById(ThreadConnection state, Blackhole blackhole) throws SQLException {
+        query(state.connection, JOINED_COLUMNS + "WHERE p.id = ?", randomId(), 1, blackhole);
+    }
+
+    @Benchmark
+    public void viewFindById(ThreadConnection state, Blackhole blackhole) throws SQLException {
+        query(state.connection, VIEW_COLUMNS + "WHERE id = ?", randomId(), 1, blackhole);
+    }
+
+    @Benchmark
+    public void joinedPage(ThreadConnection state, Blackhole blackhole) throws SQLException {
+        query(state.connection, JOINED_COLUMNS + "WHERE p.id > ? ORDER BY p.id LIMIT " + PAGE_SIZE,
+                randomId(), PAGE_SIZE, blackhole);
+    }
+
+    @Benchmark
+    public void viewPage(ThreadConnection state, Blackhole blackhole) throws SQLException {
+        query(state.connection, VIEW_COLUMNS + "WHERE id > ? ORDER BY id LIMIT " + PAGE_SIZE,
+                randomId(), PAGE_SIZE, blackhole);
+    }
+
+    private long randomId() {
+        return ThreadLocalRandom.current().nextLong(minId, maxId + 1);
+    }
+
+    private void query(Connection connection, String sql, long id, int expected, Blackhole blackhole)
+            throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setLong(1, id);
+            statement.setFetchSize(expected);
+            try (ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    blackhole.consume(rs.getLong(1));
+                    blackhole.consume(rs.getString(2));
+                    blackhole.consume(rs.getString(4));
+                    blackhole.consume(rs.getBoolean(7));
+                    blackhole.consume(rs.getTimestamp(9));
+                }
+            }
+        }
+    }
+
+    /**
+     * Completa la base hasta "rows" clientes con INSERT en batch (IDs después del máximo actual)
+     */
+    private void seed(Connection connection) throws SQLException {
+        long existing;
+        long nextId;
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT COUNT(*), COALESCE(MAX(id), 0) FROM personas")) {
+            rs.next();
+            existing = rs.getLong(1);
+            nextId = rs.getLong(2) + 1;
+        }
+        if (existing >= rows) {
+            return;
+        }
+
+        connection.setAutoCommit(false);
+        try (PreparedStatement person = connection.prepareStatement(
+                "INSERT INTO personas (id, nombre, genero, identificacion, direccion, telefono) VALUES (?, ?, ?, ?, ?, ?)");
+             PreparedStatement customer = connection.prepareStatement(
+                     "INSERT INTO clientes (id, contrasena, estado) VALUES (?, ?, ?)")) {
+
+            for (long i = existing; i < rows; i++, nextId++) {
+                person.setLong(1, nextId);
+                person.setString(2, "Benchmark Customer " + nextId);
+                person.setString(3, nextId % 2 == 0 ? "Femenino" : "Masculino");
+                person.setString(4, String.format("9%014d", nextId));
+                person.setString(5, "Av. Benchmark " + nextId);
+                person.setString(6, "09" + String.format("%08d", nextId % 100_000_000));
+                person.addBatch();
+
+                customer.setLong(1, nextId);
+                customer.setString(2, "benchmark");
+                customer.setBoolean(3, nextId % 10 != 0);
+                customer.addBatch();
+
+                if ((i + 1) % SEED_BATCH == 0 || i + 1 == rows) {
+                    person.executeBatch();
+                    customer.executeBatch();
+                    connection.commit();
+                }
+            }
+        } finally {
+            connection.setAutoCommit(true);
+        }
+
+        // La secuencia de Hibernate debe quedar por encima de los IDs insertados a mano
+        try (Statement statement = connection.createStatement()) {
+            statement.executeUpdate("UPDATE personas_seq SET next_val = GREATEST(next_val, "
+                    + "(SELECT COALESCE(MAX(id), 0) + 50 FROM personas))");
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.bank.customer.infrastructure.security;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder.SecretKeyFactoryAlgorithm;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latencia de hash y verificación de los algoritmos candidatos, con los parámetros
+ * recomendados por OWASP como punto de partida:
+ * - bcrypt-10 / bcrypt-12: costo mínimo y costo típico tras la calibración
+ * - argon2id: 19 MiB, 2 iteraciones, 1 hilo
+ * - pbkdf2-sha256: 600.000 iteraciones
+ *
+ * mvn -Pjmh test-compile exec:exec -Djmh.args="PasswordHashingBenchmark"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class PasswordHashingBenchmark {
+
+    private static final String PASSWORD = "correct-horse-battery";
+
+    @Param({"bcrypt-10", "bcrypt-12", "argon2id", "pbkdf2-sha256"})
+    public String algorithm;
+
+    private PasswordEncoder encoder;
+    private String encoded;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        encoder = switch (algorithm) {
+            case "bcrypt-10" -> new BCryptPasswordEncoder(10);
+            case "bcrypt-12" -> new BCryptPasswordEncoder(12);
+            case "argon2id" -> new Argon2PasswordEncoder(16, 32, 1, 19 * 1024, 2);
+            case "pbkdf2-sha256" -> new Pbkdf2PasswordEncoder("", 16, 600_000,
+                    SecretKeyFactoryAlgorithm.PBKDF2WithHmacSHA256);
+            default -> throw new IllegalArgumentException("Unknown algorithm: " + algorithm);
+        };
+        encoded = encoder.encode(PASSWORD);
+    }
+
+    @Benchmark
+    public String hash() {
+        return encoder.encode(PASSWORD);
+    }
+
+    @Benchmark
+    public boolean verify() {
+        return encoder.matches(PASSWORD, encoded);
+    }
+}
@@ -0,0 +1,151 @@
+package com.bank.customer.presentation.filter;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.OutputStreamAppender;
+import com.bank.customer.infrastructure.logging.SampledDebugTurboFilter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.server.reactive.HttpHandler;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.http.server.reactive.MockServerHttpResponse;
+import org.springframework.web.reactive.function.server.HandlerStrategies;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+import java.io.OutputStream;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput de requests WebFlux con distintas configuraciones de logging.
+ *
+ * Se invoca el HttpHandler directamente con request/response mock (sin red) para que
+ * la diferencia entre variantes sea el logging. El handler imita una lectura: una línea INFO y dos DEBUG por request (como hacían
+ * controller, servicio y repositorio). Los eventos se escriben a un stream nulo para
+ * medir el costo de logging y no el del disco.
+ *
+ * - off: sin access log y logging apagado (línea base)
+ * - sync: access log + INFO con appender síncrono (configuración anterior)
+ * - async: access log + INFO detrás de AsyncAppender (perfil prod)
+ * - async-debug-sampled: además DEBUG activo con SampledDebugTurboFilter al 1%
+ * - async-debug-all: DEBUG activo sin muestreo
+ *
+ * mvn -Pjmh test-compile exec:exec -Djmh.args="RequestLoggingBenchmark"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Threads(4)
+@Fork(1)
+public class RequestLoggingBenchmark {
+
+    private static final String APP_LOGGER = "com.bank.customer.benchmark";
+    private static final Logger log = LoggerFactory.getLogger(APP_LOGGER);
+
+    @Param({"off", "sync", "async", "async-debug-sampled", "async-debug-all"})
+    public String logging;
+
+    private HttpHandler handler;
+    private LoggerContext context;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = (LoggerContext) LoggerFactory.getILoggerFactory();
+        context.reset();
+
+        Appender<ILoggingEvent> sink = nullAppender();
+        Appender<ILoggingEvent> appender = logging.startsWith("async") ? async(sink) : sink;
+
+        ch.qos.logback.classic.Logger root = context.getLogger(Logger.ROOT_LOGGER_NAME);
+        root.addAppender(appender);
+        root.setLevel(logging.equals("off") ? ch.qos.logback.classic.Level.OFF : ch.qos.logback.classic.Level.INFO);
+
+        if (logging.startsWith("async-debug")) {
+            context.getLogger(APP_LOGGER).setLevel(ch.qos.logback.classic.Level.DEBUG);
+        }
+        if (logging.equals("async-debug-sampled")) {
+            SampledDebugTurboFilter sampling = new SampledDebugTurboFilter();
+            sampling.setPrefix("com.bank.customer");
+            sampling.setSampleRate(0.01);
+            sampling.setContext(context);
+            sampling.start();
+            context.addTurboFilter(sampling);
+        }
+
+        HandlerStrategies.Builder strategies = HandlerStrategies.builder();
+        if (!logging.equals("off")) {
+            strategies.webFilter(new AccessLogWebFilter());
+        }
+        handler = RouterFunctions.toHttpHandler(
+                RouterFunctions.route().GET("/customers/{id}", RequestLoggingBenchmark::getCustomer).build(),
+                strategies.build());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.stop();
+    }
+
+    @Benchmark
+    public MockServerHttpResponse getCustomer() {
+        MockServerHttpResponse response = new MockServerHttpResponse();
+        handler.handle(MockServerHttpRequest.get("/customers/42").build(), response).block();
+        return response;
+    }
+
+    private Appender<ILoggingEvent> nullAppender() {
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern("%d{yyyy-MM-dd'T'HH:mm:ss.SSSXXX} %level [%thread] %logger{36} - %msg%n");
+        encoder.start();
+
+        OutputStreamAppender<ILoggingEvent> appender = new OutputStreamAppender<>();
+        appender.setContext(context);
+        appender.setEncoder(encoder);
+        appender.setOutputStream(OutputStream.nullOutputStream());
+        appender.start();
+        return appender;
+    }
+
+    private Appender<ILoggingEvent> async(Appender<ILoggingEvent> delegate) {
+        AsyncAppender async = new AsyncAppender();
+        async.setContext(context);
+        async.setQueueSize(8192);
+        async.setDiscardingThreshold(0);
+        async.setNeverBlock(true);
+        async.setIncludeCallerData(false);
+        async.addAppender(delegate);
+        async.start();
+        return async;
+    }
+
+    private static Mono<ServerResponse> getCustomer(ServerRequest request) {
+        Long id = Long.valueOf(request.pathVariable("id"));
+        log.debug("REST request to get Customer by ID: {}", id);
+        log.debug("Finding customer by ID: {}", id);
+        log.info("Customer found: {}", id);
+        return ServerResponse.ok().bodyValue(Map.of("id", id, "name", "John Doe", "identification", "1234567890"));
+    }
+}
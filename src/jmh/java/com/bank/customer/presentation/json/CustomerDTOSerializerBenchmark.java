@@ -0,0 +1,92 @@
+package com.bank.customer.presentation.json;
+
+import com.bank.customer.application.dto.CustomerDTO;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialización de CustomerDTO: reflexiva por defecto (@JsonFormat + BeanSerializer)
+ * contra CustomerDTOSerializer, para un DTO y para listas como las de GET /customers.
+ *
+ * mvn -Pjmh test-compile exec:exec -Djmh.args="CustomerDTOSerializerBenchmark"
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CustomerDTOSerializerBenchmark {
+
+    @Param({"reflective", "custom"})
+    public String serializer;
+
+    @Param({"1", "500"})
+    public int listSize;
+
+    private ObjectMapper objectMapper;
+    private CustomerDTO customer;
+    private List<CustomerDTO> customers;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        if (serializer.equals("custom")) {
+            objectMapper.registerModule(new SimpleModule().addSerializer(new CustomerDTOSerializer()));
+        }
+
+        customers = new ArrayList<>(listSize);
+        for (long id = 1; id <= listSize; id++) {
+            customers.add(customer(id));
+        }
+        customer = customers.get(0);
+    }
+
+    @Benchmark
+    public byte[] serializeCustomer() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(customer);
+    }
+
+    @Benchmark
+    public byte[] serializeCustomerList() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(customers);
+    }
+
+    private static CustomerDTO customer(long id) {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 15, 10, 30).plusMinutes(id);
+        return CustomerDTO.builder()
+                .id(id)
+                .name("Maria Lopez " + id)
+                .gender("Female")
+                .identification(String.valueOf(1_700_000_000L + id))
+                .address("Quito, La Mariscal")
+                .phone("0999999999")
+                .status(id % 10 != 0)
+                .createdAt(createdAt)
+                .updatedAt(createdAt.plusDays(3))
+                .version(3L)
+                .build();
+    }
+}
@@ -0,0 +1,38 @@
+package com.bank.customer.application.cache;
+
+import com.bank.customer.application.dto.CustomerDTO;
+
+import java.util.Optional;
+
+/**
+ * Caché de lectura de clientes (DTOs, nunca entidades ni contraseñas).
+ *
+ * - Por ID: el DTO completo
+ * - Por identificación: solo el ID, así un cliente ocupa una sola entrada de DTO
+ *
+ * El servicio la llena en las lecturas y la invalida en cada escritura.
+ * Los DTOs entran y salen como copias: quien los recibe puede modificarlos.
+ */
+public interface CustomerCache {
+
+    Optional<CustomerDTO> getById(Long id);
+
+    Optional<Long> getIdByIdentification(String identification);
+
+    /**
+     * Marca a tomar antes de leer el cliente de la base, para pasarla a put
+     */
+    long stamp();
+
+    /**
+     * Guarda el cliente leído después de stamp. Se descarta si el cliente se invalidó
+     * después de esa marca (la lectura pudo ver la fila anterior a una escritura ya
+     * confirmada) o si la caché ya tiene una versión más nueva.
+     */
+    void put(CustomerDTO customer, long stamp);
+
+    /**
+     * Elimina el cliente por ID y su entrada por identificación (si se conoce)
+     */
+    void evict(Long id, String identification);
+}
@@ -0,0 +1,24 @@
+package com.bank.customer.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "DTO para crear varios clientes en una sola operación")
+public class BatchCreateCustomersRequest {
+
+    // Cada elemento se valida por separado en el servicio: un elemento inválido
+    // no rechaza el lote completo, se informa en el resultado de ese elemento
+    @Schema(description = "Clientes a crear", requiredMode = Schema.RequiredMode.REQUIRED)
+    @NotEmpty(message = "Customers list cannot be empty")
+    private List<CreateCustomerRequest> customers;
+}
@@ -0,0 +1,60 @@
+package com.bank.customer.application.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Resultado de un alta masiva de clientes")
+public class BatchCreateCustomersResponse {
+
+    @Schema(description = "Cantidad de elementos recibidos", example = "3")
+    private Integer total;
+
+    @Schema(description = "Cantidad de clientes creados", example = "2")
+    private Integer created;
+
+    @Schema(description = "Cantidad de elementos rechazados", example = "1")
+    private Integer rejected;
+
+    @Schema(description = "Resultado por elemento, en el mismo orden del request")
+    private List<ItemResult> results;
+
+    public enum ItemStatus {
+        CREATED,
+        DUPLICATE,
+        INVALID
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @Schema(description = "Resultado de un elemento del lote")
+    public static class ItemResult {
+
+        @Schema(description = "Posición del elemento en el request (desde 0)", example = "0")
+        private Integer index;
+
+        @Schema(description = "Identificación del elemento", example = "1234567890")
+        private String identification;
+
+        @Schema(description = "Resultado del elemento", example = "CREATED")
+        private ItemStatus status;
+
+        @Schema(description = "ID del cliente creado", example = "1")
+        private Long id;
+
+        @Schema(description = "Motivo del rechazo", example = "Customer with identification 1234567890 already exists")
+        private String message;
+    }
+}
@@ -0,0 +1,23 @@
+package com.bank.customer.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "DTO con los IDs de clientes para una operación masiva")
+public class BulkCustomerIdsRequest {
+
+    @Schema(description = "IDs de los clientes", example = "[1, 2, 3]", requiredMode = Schema.RequiredMode.REQUIRED)
+    @NotEmpty(message = "At least one customer ID is required")
+    private List<@NotNull(message = "Customer ID cannot be null") Long> ids;
+}
@@ -0,0 +1,21 @@
+package com.bank.customer.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Resultado de una operación masiva sobre clientes")
+public class BulkOperationResponse {
+
+    @Schema(description = "IDs distintos recibidos", example = "3")
+    private Integer requested;
+
+    @Schema(description = "Clientes afectados (los IDs inexistentes no cuentan)", example = "2")
+    private Integer affected;
+}
@@ -1,5 +1,7 @@
 package com.bank.customer.application.dto;
 
+import com.bank.customer.domain.validation.Identification;
+import com.bank.customer.domain.validation.PhoneNumber;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.*;
 import lombok.AllArgsConstructor;
@@ -25,10 +27,7 @@ public class CreateCustomerRequest {
 
     @Schema(description = "Número de identificación (10-20 dígitos)", example = "2222222222", requiredMode = Schema.RequiredMode.REQUIRED, pattern = "^[0-9]{10,20}$")
     @NotBlank(message = "Identification is required")
-    @Pattern(
-            regexp = "^[0-9]{10,20}$",
-            message = "Identification must contain between 10 and 20 numeric digits"
-    )
+    @Identification
     private String identification;
 
     @Schema(description = "Dirección de residencia", example = "Quito, La Mariscal", maxLength = 200)
@@ -36,10 +35,7 @@ public class CreateCustomerRequest {
     private String address;
 
     @Schema(description = "Número de teléfono", example = "0999999999", pattern = "^[0-9+\\-\\s()]{7,15}$")
-    @Pattern(
-            regexp = "^[0-9+\\-\\s()]{7,15}$",
-            message = "Invalid phone format. Use numbers, +, -, spaces or parentheses"
-    )
+    @PhoneNumber(message = "Invalid phone format. Use numbers, +, -, spaces or parentheses")
     private String phone;
 
     @Schema(description = "Contraseña del cliente", example = "password123", requiredMode = Schema.RequiredMode.REQUIRED, minLength = 4, maxLength = 255, format = "password")
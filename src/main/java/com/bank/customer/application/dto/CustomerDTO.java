@@ -1,6 +1,7 @@
 package com.bank.customer.application.dto;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
@@ -11,9 +12,11 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
+// Se serializa con CustomerDTOSerializer (presentation.json); las anotaciones Jackson
+// de abajo describen el mismo formato y siguen aplicando a cualquier otro ObjectMapper
 @JsonInclude(JsonInclude.Include.NON_NULL)
 @Schema(description = "DTO de respuesta con información del cliente")
 public class CustomerDTO {
@@ -47,13 +50,18 @@ public class CustomerDTO {
     @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
     private LocalDateTime updatedAt;
 
+    // Versión de bloqueo optimista: viaja en el header ETag, no en el cuerpo
+    @JsonIgnore
+    @Schema(hidden = true)
+    private Long version;
+
     // Métodos sin cambios
     public boolean isActive() {
         return status != null && status;
     }
 
+    // Misma salida que String.format("Customer[id=%d, name=%s, active=%s]", ...) sin parsear el patrón
     public String getSummary() {
-        return String.format("Customer[id=%d, name=%s, active=%s]",
-                id, name, isActive());
+        return "Customer[id=" + id + ", name=" + name + ", active=" + isActive() + "]";
     }
 }
\ No newline at end of file
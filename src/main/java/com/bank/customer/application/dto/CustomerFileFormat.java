@@ -0,0 +1,46 @@
+package com.bank.customer.application.dto;
+
+import com.bank.customer.domain.exceptions.CustomerExceptions.InvalidCustomerDataException;
+
+/**
+ * Formatos de archivo soportados para importar/exportar clientes
+ */
+public enum CustomerFileFormat {
+
+    // Un objeto JSON por línea
+    NDJSON("ndjson"),
+
+    // Valores separados por coma con fila de encabezado
+    CSV("csv");
+
+    private final String extension;
+
+    CustomerFileFormat(String extension) {
+        this.extension = extension;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    /**
+     * Resuelve el formato a partir del parámetro explícito o, si no viene, de la extensión del archivo
+     */
+    public static CustomerFileFormat resolve(String format, String fileName) {
+        String value = format != null ? format : extensionOf(fileName);
+        for (CustomerFileFormat candidate : values()) {
+            if (candidate.name().equalsIgnoreCase(value) || candidate.extension.equalsIgnoreCase(value)) {
+                return candidate;
+            }
+        }
+        throw new InvalidCustomerDataException("Unsupported file format: " + value + " (use CSV or NDJSON)");
+    }
+
+    private static String extensionOf(String fileName) {
+        if (fileName == null) {
+            return null;
+        }
+        int dot = fileName.lastIndexOf('.');
+        return dot >= 0 ? fileName.substring(dot + 1) : null;
+    }
+}
@@ -0,0 +1,30 @@
+package com.bank.customer.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Página de clientes con cursor de continuación")
+public class CustomerPageDTO {
+
+    @Schema(description = "Clientes de la página")
+    private List<CustomerDTO> content;
+
+    @Schema(description = "Cantidad de clientes en la página", example = "20")
+    private Integer size;
+
+    @Schema(description = "Indica si existe una página siguiente", example = "true")
+    private Boolean hasNext;
+
+    @Schema(description = "Cursor opaco para pedir la página siguiente (null si no hay más)",
+            example = "djF8SUR8LXwyMHwt")
+    private String nextCursor;
+}
@@ -0,0 +1,31 @@
+package com.bank.customer.application.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "DTO para exportar el directorio de clientes a un archivo")
+public class ExportCustomersRequest {
+
+    @Schema(description = "Formato del archivo (por defecto CSV)", example = "CSV", allowableValues = {"CSV", "NDJSON"})
+    private String format;
+
+    @Schema(description = "Comprimir el archivo con gzip", example = "true")
+    private Boolean gzip;
+
+    @Schema(description = "Solo clientes con este estado (por defecto todos)", example = "true")
+    private Boolean status;
+
+    @Schema(description = "Solo clientes actualizados desde esta fecha", example = "2025-10-01T00:00:00")
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime updatedSince;
+}
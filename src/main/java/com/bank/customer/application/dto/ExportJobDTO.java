@@ -0,0 +1,56 @@
+package com.bank.customer.application.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "Estado de una exportación de clientes")
+public class ExportJobDTO {
+
+    public enum Status {
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+
+    @Schema(description = "ID de la exportación", example = "9b7d3c1e-...")
+    private String id;
+
+    @Schema(description = "Formato del archivo", example = "CSV")
+    private CustomerFileFormat format;
+
+    @Schema(description = "Archivo comprimido con gzip", example = "true")
+    private Boolean gzip;
+
+    @Schema(description = "Estado de la exportación", example = "COMPLETED")
+    private Status status;
+
+    @Schema(description = "Clientes exportados (al completar)", example = "1000000")
+    private Long rows;
+
+    @Schema(description = "Tamaño del archivo en bytes (al completar)", example = "48213377")
+    private Long bytes;
+
+    @Schema(description = "Nombre del archivo generado", example = "customers-9b7d3c1e.csv.gz")
+    private String fileName;
+
+    @Schema(description = "Motivo del fallo si la exportación se detuvo")
+    private String error;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime startedAt;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime finishedAt;
+}
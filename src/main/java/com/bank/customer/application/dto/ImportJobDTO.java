@@ -0,0 +1,59 @@
+package com.bank.customer.application.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "Estado y progreso de una importación de clientes")
+public class ImportJobDTO {
+
+    public enum Status {
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+
+    @Schema(description = "ID de la importación", example = "4f1c2a9e-...")
+    private String id;
+
+    @Schema(description = "Archivo de origen", example = "customers-2025-10-19.ndjson")
+    private String source;
+
+    @Schema(description = "Formato del archivo", example = "NDJSON")
+    private CustomerFileFormat format;
+
+    @Schema(description = "Estado de la importación", example = "RUNNING")
+    private Status status;
+
+    @Schema(description = "Líneas de datos leídas hasta ahora", example = "150000")
+    private Long linesRead;
+
+    @Schema(description = "Clientes creados hasta ahora", example = "149800")
+    private Long imported;
+
+    @Schema(description = "Líneas rechazadas hasta ahora (ver rejectsFile)", example = "200")
+    private Long rejected;
+
+    @Schema(description = "Archivo NDJSON con las líneas rechazadas y el motivo")
+    private String rejectsFile;
+
+    @Schema(description = "Motivo del fallo si la importación se detuvo")
+    private String error;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime startedAt;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime finishedAt;
+}
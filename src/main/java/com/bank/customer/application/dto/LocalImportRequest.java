@@ -0,0 +1,25 @@
+package com.bank.customer.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "DTO para importar un archivo ya presente en el directorio de importación")
+public class LocalImportRequest {
+
+    @Schema(description = "Nombre del archivo dentro de customer.import.directory",
+            example = "core-export.ndjson", requiredMode = Schema.RequiredMode.REQUIRED)
+    @NotBlank(message = "File name is required")
+    private String fileName;
+
+    @Schema(description = "Formato del archivo (por defecto según la extensión)",
+            example = "NDJSON", allowableValues = {"CSV", "NDJSON"})
+    private String format;
+}
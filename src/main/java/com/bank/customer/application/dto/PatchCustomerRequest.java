@@ -0,0 +1,98 @@
+package com.bank.customer.application.dto;
+
+import com.bank.customer.domain.validation.PhoneNumber;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Size;
+import lombok.AccessLevel;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * JSON Merge Patch (RFC 7396) de un cliente.
+ *
+ * A diferencia de UpdateCustomerRequest distingue "campo ausente" (no cambia) de
+ * "campo en null" (se borra): Jackson solo llama al setter de los campos presentes
+ * en el JSON y cada setter los registra en presentFields.
+ */
+@Data
+@NoArgsConstructor
+@Schema(description = "JSON Merge Patch de un cliente: campos ausentes no cambian, null borra el valor")
+public class PatchCustomerRequest {
+
+    public static final String NAME = "name";
+    public static final String GENDER = "gender";
+    public static final String ADDRESS = "address";
+    public static final String PHONE = "phone";
+    public static final String PASSWORD = "password";
+    public static final String STATUS = "status";
+
+    @Schema(description = "Nombre completo del cliente (no se puede borrar)", example = "Maria Lopez", minLength = 2, maxLength = 100)
+    @Size(min = 2, max = 100, message = "Name must be between 2 and 100 characters")
+    private String name;
+
+    @Schema(description = "Género del cliente", example = "Female", maxLength = 20, nullable = true)
+    @Size(max = 20, message = "Gender cannot exceed 20 characters")
+    private String gender;
+
+    @Schema(description = "Dirección de residencia", example = "Quito, La Carolina", maxLength = 200, nullable = true)
+    @Size(max = 200, message = "Address cannot exceed 200 characters")
+    private String address;
+
+    @Schema(description = "Número de teléfono", example = "0988888888", pattern = "^[0-9+\\-\\s()]{7,15}$", nullable = true)
+    @PhoneNumber
+    private String phone;
+
+    @Schema(description = "Nueva contraseña (no se puede borrar)", example = "newPassword456", minLength = 4, maxLength = 255, format = "password")
+    @Size(min = 4, max = 255, message = "Password must be between 4 and 255 characters")
+    private String password;
+
+    @Schema(description = "Estado del cliente (no se puede borrar)", example = "true")
+    private Boolean status;
+
+    @JsonIgnore
+    @Schema(hidden = true)
+    @Setter(AccessLevel.NONE)
+    private final Set<String> presentFields = new HashSet<>();
+
+    public void setName(String name) {
+        this.name = name;
+        presentFields.add(NAME);
+    }
+
+    public void setGender(String gender) {
+        this.gender = gender;
+        presentFields.add(GENDER);
+    }
+
+    public void setAddress(String address) {
+        this.address = address;
+        presentFields.add(ADDRESS);
+    }
+
+    public void setPhone(String phone) {
+        this.phone = phone;
+        presentFields.add(PHONE);
+    }
+
+    public void setPassword(String password) {
+        this.password = password;
+        presentFields.add(PASSWORD);
+    }
+
+    public void setStatus(Boolean status) {
+        this.status = status;
+        presentFields.add(STATUS);
+    }
+
+    /**
+     * Indica si el campo venía en el documento del patch (aunque sea con null)
+     */
+    public boolean isPresent(String field) {
+        return presentFields.contains(field);
+    }
+}
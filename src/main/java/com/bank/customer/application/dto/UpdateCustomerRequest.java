@@ -1,7 +1,7 @@
 package com.bank.customer.application.dto;
 
+import com.bank.customer.domain.validation.PhoneNumber;
 import io.swagger.v3.oas.annotations.media.Schema;
-import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -28,10 +28,7 @@ public class UpdateCustomerRequest {
     private String address;
 
     @Schema(description = "Número de teléfono", example = "0988888888", pattern = "^[0-9+\\-\\s()]{7,15}$")
-    @Pattern(
-            regexp = "^[0-9+\\-\\s()]{7,15}$",
-            message = "Invalid phone format"
-    )
+    @PhoneNumber
     private String phone;
 
     @Schema(description = "Nueva contraseña", example = "newPassword456", minLength = 4, maxLength = 255, format = "password")
@@ -0,0 +1,20 @@
+package com.bank.customer.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "DTO para activar o desactivar un cliente")
+public class UpdateStatusRequest {
+
+    @Schema(description = "Nuevo estado del cliente", example = "false", requiredMode = Schema.RequiredMode.REQUIRED)
+    @NotNull(message = "Status is required")
+    private Boolean status;
+}
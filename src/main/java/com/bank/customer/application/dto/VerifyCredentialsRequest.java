@@ -0,0 +1,22 @@
+package com.bank.customer.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "DTO para verificar la contraseña de un cliente")
+public class VerifyCredentialsRequest {
+
+    @Schema(description = "Contraseña en claro", example = "password123", requiredMode = Schema.RequiredMode.REQUIRED, format = "password")
+    @NotBlank(message = "Password is required")
+    @Size(max = 255, message = "Password cannot exceed 255 characters")
+    private String password;
+}
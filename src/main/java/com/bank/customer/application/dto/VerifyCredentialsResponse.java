@@ -0,0 +1,21 @@
+package com.bank.customer.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Resultado de una verificación de credenciales exitosa")
+public class VerifyCredentialsResponse {
+
+    @Schema(description = "ID del cliente autenticado", example = "1")
+    private Long customerId;
+
+    @Schema(description = "Número de identificación del cliente", example = "1234567890")
+    private String identification;
+}
@@ -0,0 +1,26 @@
+package com.bank.customer.application.execution;
+
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Ejecuta trabajo bloqueante (JPA/JDBC, archivos) en un pool acotado, nunca en el
+ * event loop.
+ *
+ * Hay dos pools: el de peticiones (primario, del tamaño del pool de Hikari) y el de
+ * trabajos largos (importaciones y exportaciones), con pocos hilos para que un
+ * trabajo en curso no deje sin hilos a las peticiones CRUD.
+ */
+public interface BlockingTaskRunner {
+
+    /**
+     * Ejecuta una llamada bloqueante y emite su resultado
+     */
+    <T> Mono<T> call(Callable<T> task);
+
+    /**
+     * Ejecuta una acción bloqueante sin resultado
+     */
+    Mono<Void> run(Runnable task);
+}
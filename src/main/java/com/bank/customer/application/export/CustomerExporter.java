@@ -0,0 +1,23 @@
+package com.bank.customer.application.export;
+
+import com.bank.customer.application.dto.CustomerFileFormat;
+
+import java.nio.channels.WritableByteChannel;
+import java.time.LocalDateTime;
+
+/**
+ * Escribe el directorio de clientes (sin contraseñas) en un canal, en streaming
+ * y ordenado por ID. Es una llamada bloqueante que retiene una conexión durante
+ * toda la lectura.
+ */
+public interface CustomerExporter {
+
+    /**
+     * Escribe en el canal todos los clientes que cumplen el filtro.
+     *
+     * @param status       filtro por estado (null = todos)
+     * @param updatedSince solo clientes actualizados desde esta fecha (null = todos)
+     * @return cantidad de filas exportadas
+     */
+    long export(CustomerFileFormat format, Boolean status, LocalDateTime updatedSince, WritableByteChannel channel);
+}
@@ -0,0 +1,26 @@
+package com.bank.customer.application.index;
+
+/**
+ * Filtro probabilístico sobre todas las identificaciones registradas.
+ *
+ * mightContain = false garantiza que la identificación NO existe entre las altas que
+ * vio esta instancia; con una sola instancia escribiendo (customer.identification.single-writer)
+ * el alta se ahorra la consulta de duplicados. mightContain = true solo significa "tal vez":
+ * hay que confirmar en la base. Mientras el filtro no está cargado responde siempre true.
+ */
+public interface IdentificationFilter {
+
+    boolean mightContain(String identification);
+
+    /**
+     * Registra una identificación recién creada. Es idempotente: el servicio la
+     * registra antes y después del commit
+     */
+    void add(String identification);
+
+    /**
+     * Avisa que se eliminaron clientes (el filtro no puede quitar identificaciones:
+     * quedan como falsos positivos hasta la próxima reconstrucción)
+     */
+    void removed(int count);
+}
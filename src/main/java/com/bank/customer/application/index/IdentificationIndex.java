@@ -0,0 +1,24 @@
+package com.bank.customer.application.index;
+
+import java.util.OptionalLong;
+
+/**
+ * Índice exacto en memoria identificación → ID de cliente.
+ *
+ * Puede quedar desactualizado respecto de la base (otra instancia, carga en curso),
+ * por eso quien lo usa confirma los aciertos. Los fallos solo valen cuando canAnswer
+ * es true y una sola instancia escribe (customer.identification.single-writer).
+ */
+public interface IdentificationIndex {
+
+    /**
+     * true si el índice está cargado y la identificación se puede representar en él
+     */
+    boolean canAnswer(String identification);
+
+    OptionalLong findCustomerId(String identification);
+
+    void put(String identification, long customerId);
+
+    void remove(String identification);
+}
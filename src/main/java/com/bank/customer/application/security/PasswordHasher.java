@@ -0,0 +1,41 @@
+package com.bank.customer.application.security;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Hash de contraseñas en un pool de CPU dedicado y acotado.
+ *
+ * El costo del hash (decenas a cientos de ms) no corre en el event loop ni en los
+ * hilos JDBC: los controllers obtienen el hash antes de entrar al servicio, así
+ * tampoco se retiene una conexión de la transacción mientras se calcula.
+ */
+public interface PasswordHasher {
+
+    /**
+     * Hash de la contraseña en claro, emitido desde el pool de hash
+     */
+    Mono<String> hash(String rawPassword);
+
+    /**
+     * Verifica la contraseña contra el hash guardado, en el pool de hash.
+     * Con encodedPassword null compara contra un hash ficticio del mismo costo y
+     * responde false: un cliente inexistente tarda lo mismo que una contraseña errada.
+     */
+    Mono<Boolean> matches(String rawPassword, String encodedPassword);
+
+    /**
+     * Indica si el valor guardado debe reemplazarse por un hash nuevo: costo menor
+     * al configurado o contraseña heredada en texto plano
+     */
+    boolean needsRehash(String encodedPassword);
+
+    /**
+     * true si el valor ya es un hash de este hasher (no una contraseña en claro)
+     */
+    boolean isHash(String encodedPassword);
+
+    /**
+     * Hilos del pool: concurrencia útil al hashear varios elementos a la vez
+     */
+    int parallelism();
+}
@@ -0,0 +1,19 @@
+package com.bank.customer.application.services;
+
+import com.bank.customer.application.dto.VerifyCredentialsResponse;
+import reactor.core.publisher.Mono;
+
+/**
+ * Service interface para verificar credenciales de clientes (login de los canales).
+ * Reactivo: la verificación combina una lectura JDBC y un hash en pools distintos.
+ */
+public interface CustomerCredentialService {
+
+    /**
+     * Verifica la contraseña del cliente con esa identificación.
+     * Error CustomerAuthenticationException si no coincide o el cliente no existe,
+     * CustomerInactiveException si está inactivo y CustomerVerificationThrottledException
+     * si se superan los límites de concurrencia.
+     */
+    Mono<VerifyCredentialsResponse> verify(String identification, String rawPassword);
+}
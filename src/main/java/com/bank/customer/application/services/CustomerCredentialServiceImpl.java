@@ -0,0 +1,168 @@
+package com.bank.customer.application.services;
+
+import com.bank.customer.application.dto.VerifyCredentialsResponse;
+import com.bank.customer.application.execution.BlockingTaskRunner;
+import com.bank.customer.application.security.PasswordHasher;
+import com.bank.customer.domain.exceptions.CustomerExceptions.*;
+import com.bank.customer.domain.projections.CustomerCredentials;
+import com.bank.customer.domain.repositories.CustomerRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Verificación de credenciales pensada para ráfagas de login.
+ *
+ * - Límite global de verificaciones en curso (Semaphore) y límite por identificación:
+ *   lo que excede se rechaza al instante con 429 en vez de encolarse sin límite
+ * - Lectura de hash + estado en el scheduler JDBC, verificación en el pool de hash
+ * - Cliente inexistente: se compara contra un hash ficticio, misma latencia que una
+ *   contraseña errada y el mismo 401 (no revela qué identificaciones existen)
+ * - Rehash transparente tras un login correcto si el costo guardado es menor al actual
+ *   o la contraseña está en texto plano (customer.security.legacy-plaintext), sin demorar la respuesta
+ *
+ * Métrica customer.verification con tag result = success / failure / inactive / throttled.
+ */
+@Slf4j
+@Service
+public class CustomerCredentialServiceImpl implements CustomerCredentialService {
+
+    private static final String INVALID_CREDENTIALS = "Invalid identification or password";
+
+    private final CustomerRepository customerRepository;
+    private final BlockingTaskRunner blockingExecutor;
+    private final PasswordHasher passwordHasher;
+    private final Semaphore globalPermits;
+    private final int maxConcurrentPerIdentification;
+    private final Map<String, Integer> inFlight = new ConcurrentHashMap<>();
+
+    private final Counter succeeded;
+    private final Counter failed;
+    private final Counter inactive;
+    private final Counter throttled;
+
+    public CustomerCredentialServiceImpl(CustomerRepository customerRepository,
+                                         BlockingTaskRunner blockingExecutor,
+                                         PasswordHasher passwordHasher,
+                                         MeterRegistry meterRegistry,
+                                         @Value("${customer.verification.max-concurrent:64}") int maxConcurrent,
+                                         @Value("${customer.verification.max-concurrent-per-identification:2}")
+                                         int maxConcurrentPerIdentification) {
+        this.customerRepository = customerRepository;
+        this.blockingExecutor = blockingExecutor;
+        this.passwordHasher = passwordHasher;
+        this.globalPermits = new Semaphore(maxConcurrent);
+        this.maxConcurrentPerIdentification = maxConcurrentPerIdentification;
+
+        this.succeeded = counter(meterRegistry, "success");
+        this.failed = counter(meterRegistry, "failure");
+        this.inactive = counter(meterRegistry, "inactive");
+        this.throttled = counter(meterRegistry, "throttled");
+        Gauge.builder("customer.verification.in.flight", globalPermits,
+                        permits -> maxConcurrent - permits.availablePermits())
+                .description("Verificaciones de credenciales en curso")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Mono<VerifyCredentialsResponse> verify(String identification, String rawPassword) {
+        return Mono.defer(() -> {
+            if (!tryAcquire(identification)) {
+                throttled.increment();
+                return Mono.error(new CustomerVerificationThrottledException(
+                        "Too many concurrent verifications, retry later"
+                ));
+            }
+            return doVerify(identification, rawPassword)
+                    .doFinally(signal -> release(identification));
+        });
+    }
+
+    private Mono<VerifyCredentialsResponse> doVerify(String identification, String rawPassword) {
+        return blockingExecutor.call(() -> customerRepository.findCredentialsByIdentification(identification))
+                .flatMap(credentials -> passwordHasher
+                        .matches(rawPassword, credentials.map(CustomerCredentials::password).orElse(null))
+                        .map(matches -> check(identification, credentials, matches)))
+                .doOnNext(credentials -> rehashIfNeeded(credentials, rawPassword))
+                .map(credentials -> VerifyCredentialsResponse.builder()
+                        .customerId(credentials.id())
+                        .identification(identification)
+                        .build());
+    }
+
+    private CustomerCredentials check(String identification, Optional<CustomerCredentials> credentials, boolean matches) {
+        if (credentials.isEmpty() || !matches) {
+            failed.increment();
+            log.debug("Credential verification failed for identification: {}", identification);
+            throw new CustomerAuthenticationException(INVALID_CREDENTIALS);
+        }
+        if (!Boolean.TRUE.equals(credentials.get().status())) {
+            inactive.increment();
+            throw new CustomerInactiveException("Customer with identification " + identification + " is inactive");
+        }
+        succeeded.increment();
+        return credentials.get();
+    }
+
+    /**
+     * Reemplaza un hash viejo (costo menor o texto plano) ya con la contraseña en claro
+     * verificada. Corre aparte: la respuesta del login no espera al nuevo hash ni al UPDATE,
+     * y si falla se reintenta en el próximo login.
+     */
+    private void rehashIfNeeded(CustomerCredentials credentials, String rawPassword) {
+        if (!passwordHasher.needsRehash(credentials.password())) {
+            return;
+        }
+        passwordHasher.hash(rawPassword)
+                .flatMap(newHash -> blockingExecutor.call(() ->
+                        customerRepository.updatePassword(credentials.id(), credentials.password(), newHash)))
+                .subscribe(
+                        updated -> log.info("Password hash upgraded for customer with ID: {} (rows: {})",
+                                credentials.id(), updated),
+                        error -> log.warn("Password hash upgrade failed for customer with ID: {}: {}",
+                                credentials.id(), error.getMessage())
+                );
+    }
+
+    private boolean tryAcquire(String identification) {
+        if (!globalPermits.tryAcquire()) {
+            return false;
+        }
+
+        boolean[] acquired = new boolean[1];
+        inFlight.compute(identification, (key, count) -> {
+            int current = count == null ? 0 : count;
+            if (current >= maxConcurrentPerIdentification) {
+                return count;
+            }
+            acquired[0] = true;
+            return current + 1;
+        });
+
+        if (!acquired[0]) {
+            globalPermits.release();
+        }
+        return acquired[0];
+    }
+
+    private void release(String identification) {
+        inFlight.computeIfPresent(identification, (key, count) -> count <= 1 ? null : count - 1);
+        globalPermits.release();
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("customer.verification")
+                .description("Verificaciones de credenciales por resultado")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
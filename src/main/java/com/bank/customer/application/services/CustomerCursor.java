@@ -0,0 +1,67 @@
+package com.bank.customer.application.services;
+
+import com.bank.customer.domain.exceptions.CustomerExceptions.InvalidCustomerDataException;
+import com.bank.customer.domain.repositories.CustomerSort;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Token de continuación opaco para la paginación keyset.
+ * Guarda el orden, el filtro y la posición del último cliente entregado,
+ * así la página siguiente continúa exactamente donde terminó la anterior.
+ *
+ * Formato (antes de Base64 URL-safe): v1|SORT|status|lastId|lastUpdatedAt
+ */
+public record CustomerCursor(
+        CustomerSort sort,
+        Boolean status,
+        Long lastId,
+        LocalDateTime lastUpdatedAt
+) {
+
+    private static final String VERSION = "v1";
+    private static final String SEPARATOR = "|";
+    private static final String NONE = "-";
+
+    public String encode() {
+        String raw = String.join(SEPARATOR,
+                VERSION,
+                sort.name(),
+                status == null ? NONE : status.toString(),
+                lastId.toString(),
+                lastUpdatedAt == null ? NONE : lastUpdatedAt.toString());
+
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static CustomerCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+
+            if (parts.length != 5 || !VERSION.equals(parts[0])) {
+                throw invalid();
+            }
+
+            CustomerSort sort = CustomerSort.valueOf(parts[1]);
+            Boolean status = NONE.equals(parts[2]) ? null : Boolean.valueOf(parts[2]);
+            Long lastId = Long.valueOf(parts[3]);
+            LocalDateTime lastUpdatedAt = NONE.equals(parts[4]) ? null : LocalDateTime.parse(parts[4]);
+
+            if (sort == CustomerSort.UPDATED_AT && lastUpdatedAt == null) {
+                throw invalid();
+            }
+            return new CustomerCursor(sort, status, lastId, lastUpdatedAt);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw invalid();
+        }
+    }
+
+    private static InvalidCustomerDataException invalid() {
+        return new InvalidCustomerDataException("Invalid pagination cursor");
+    }
+}
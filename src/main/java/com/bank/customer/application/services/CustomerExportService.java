@@ -0,0 +1,28 @@
+package com.bank.customer.application.services;
+
+import com.bank.customer.application.dto.ExportCustomersRequest;
+import com.bank.customer.application.dto.ExportJobDTO;
+
+import java.nio.file.Path;
+
+/**
+ * Service interface para exportar el directorio de clientes a archivos CSV/NDJSON.
+ * La exportación corre en segundo plano; el archivo se descarga al completarse.
+ */
+public interface CustomerExportService {
+
+    /**
+     * Inicia una exportación con el formato y filtros indicados
+     */
+    ExportJobDTO startExport(ExportCustomersRequest request);
+
+    /**
+     * Consulta el estado de una exportación
+     */
+    ExportJobDTO findExportJob(String jobId);
+
+    /**
+     * Archivo de una exportación completada
+     */
+    Path findExportFile(String jobId);
+}
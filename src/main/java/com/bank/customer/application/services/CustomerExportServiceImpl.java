@@ -0,0 +1,215 @@
+package com.bank.customer.application.services;
+
+import com.bank.customer.application.dto.CustomerFileFormat;
+import com.bank.customer.application.dto.ExportCustomersRequest;
+import com.bank.customer.application.dto.ExportJobDTO;
+import com.bank.customer.application.execution.BlockingTaskRunner;
+import com.bank.customer.application.export.CustomerExporter;
+import com.bank.customer.domain.exceptions.CustomerExceptions.CustomerNotFoundException;
+import com.bank.customer.domain.exceptions.CustomerExceptions.InvalidCustomerDataException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Exportaciones en segundo plano hacia customer.export.directory.
+ *
+ * El archivo se escribe como .part y se renombra al completar, así nunca se
+ * descarga un archivo a medias. La exportación usa una conexión durante toda
+ * la lectura, por eso corre en el pool de trabajos largos y no en el de peticiones;
+ * además se admiten como máximo customer.export.max-concurrent a la vez (las demás
+ * se rechazan con 503). Si la exportación falla el .part se borra.
+ *
+ * El estado de cada exportación se guarda en memoria mientras corre y durante
+ * customer.export.job-retention después de terminar (ver FinishedJobExpiry).
+ */
+@Slf4j
+@Service
+public class CustomerExportServiceImpl implements CustomerExportService {
+
+    private final CustomerExporter exporter;
+    private final BlockingTaskRunner jobExecutor;
+    private final Semaphore exportPermits;
+    private final Path exportDirectory;
+    private final int bufferSize;
+
+    private final Cache<String, ExportJob> jobs;
+
+    public CustomerExportServiceImpl(CustomerExporter exporter,
+                                     @Qualifier("jobExecutor") BlockingTaskRunner jobExecutor,
+                                     @Value("${customer.export.directory}") String exportDirectory,
+                                     @Value("${customer.export.buffer-size:65536}") int bufferSize,
+                                     @Value("${customer.export.max-concurrent:2}") int maxConcurrent,
+                                     @Value("${customer.export.job-retention:24h}") Duration jobRetention) {
+        this.exporter = exporter;
+        this.jobExecutor = jobExecutor;
+        this.exportPermits = new Semaphore(maxConcurrent);
+        this.exportDirectory = Paths.get(exportDirectory).toAbsolutePath().normalize();
+        this.bufferSize = bufferSize;
+        this.jobs = Caffeine.newBuilder()
+                .expireAfter(new FinishedJobExpiry<ExportJob>(
+                        job -> job.status == ExportJobDTO.Status.RUNNING, jobRetention))
+                .build();
+    }
+
+    @Override
+    public ExportJobDTO startExport(ExportCustomersRequest request) {
+        CustomerFileFormat format = request.getFormat() != null
+                ? CustomerFileFormat.resolve(request.getFormat(), null)
+                : CustomerFileFormat.CSV;
+        boolean gzip = Boolean.TRUE.equals(request.getGzip());
+
+        if (!exportPermits.tryAcquire()) {
+            throw new RejectedExecutionException("Too many exports in progress, retry later");
+        }
+
+        String jobId = UUID.randomUUID().toString();
+        String fileName = "customers-" + jobId + "." + format.getExtension() + (gzip ? ".gz" : "");
+        ExportJob job = new ExportJob(jobId, format, gzip, fileName);
+        jobs.put(jobId, job);
+
+        log.info("Starting export {} to {}", jobId, fileName);
+
+        jobExecutor.run(() -> export(job, request))
+                .doFinally(signal -> exportPermits.release())
+                .subscribe(
+                        null,
+                        error -> {
+                            log.error("Export {} failed: {}", jobId, error.getMessage(), error);
+                            job.error = error.getMessage();
+                            job.finish(ExportJobDTO.Status.FAILED);
+                            jobs.put(jobId, job);
+                        }
+                );
+
+        return job.toDTO();
+    }
+
+    @Override
+    public ExportJobDTO findExportJob(String jobId) {
+        return getJob(jobId).toDTO();
+    }
+
+    @Override
+    public Path findExportFile(String jobId) {
+        ExportJob job = getJob(jobId);
+        if (job.status != ExportJobDTO.Status.COMPLETED) {
+            throw new InvalidCustomerDataException("Export " + jobId + " is not completed (status " + job.status + ")");
+        }
+        return exportDirectory.resolve(job.fileName);
+    }
+
+    private ExportJob getJob(String jobId) {
+        ExportJob job = jobs.getIfPresent(jobId);
+        if (job == null) {
+            throw new CustomerNotFoundException("Export job not found with ID: " + jobId);
+        }
+        return job;
+    }
+
+    private void export(ExportJob job, ExportCustomersRequest request) {
+        Path target = exportDirectory.resolve(job.fileName);
+        Path partial = exportDirectory.resolve(job.fileName + ".part");
+
+        try {
+            Files.createDirectories(exportDirectory);
+            try (FileChannel file = FileChannel.open(partial, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+                 WritableByteChannel channel = job.gzip ? gzipChannel(file) : file) {
+
+                job.rows = exporter.export(job.format, request.getStatus(), request.getUpdatedSince(), channel);
+            }
+            Files.move(partial, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            job.bytes = Files.size(target);
+        } catch (IOException e) {
+            deletePartial(partial);
+            throw new UncheckedIOException("Cannot write export file " + target, e);
+        } catch (RuntimeException e) {
+            deletePartial(partial);
+            throw e;
+        }
+
+        log.info("Export {} completed: {} customers, {} bytes", job.id, job.rows, job.bytes);
+        job.finish(ExportJobDTO.Status.COMPLETED);
+        jobs.put(job.id, job);
+    }
+
+    private void deletePartial(Path partial) {
+        try {
+            Files.deleteIfExists(partial);
+        } catch (IOException e) {
+            log.warn("Could not delete partial export file {}: {}", partial, e.getMessage());
+        }
+    }
+
+    private WritableByteChannel gzipChannel(FileChannel file) throws IOException {
+        OutputStream gzip = new GZIPOutputStream(Channels.newOutputStream(file), bufferSize);
+        return Channels.newChannel(gzip);
+    }
+
+    /**
+     * Estado mutable de una exportación
+     */
+    private static class ExportJob {
+
+        private final String id;
+        private final CustomerFileFormat format;
+        private final boolean gzip;
+        private final String fileName;
+        private final LocalDateTime startedAt = LocalDateTime.now();
+
+        private volatile ExportJobDTO.Status status = ExportJobDTO.Status.RUNNING;
+        private volatile Long rows;
+        private volatile Long bytes;
+        private volatile String error;
+        private volatile LocalDateTime finishedAt;
+
+        ExportJob(String id, CustomerFileFormat format, boolean gzip, String fileName) {
+            this.id = id;
+            this.format = format;
+            this.gzip = gzip;
+            this.fileName = fileName;
+        }
+
+        void finish(ExportJobDTO.Status finalStatus) {
+            this.finishedAt = LocalDateTime.now();
+            this.status = finalStatus;
+        }
+
+        ExportJobDTO toDTO() {
+            return ExportJobDTO.builder()
+                    .id(id)
+                    .format(format)
+                    .gzip(gzip)
+                    .status(status)
+                    .rows(rows)
+                    .bytes(bytes)
+                    .fileName(fileName)
+                    .error(error)
+                    .startedAt(startedAt)
+                    .finishedAt(finishedAt)
+                    .build();
+        }
+    }
+}
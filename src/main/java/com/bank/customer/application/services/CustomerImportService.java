@@ -0,0 +1,28 @@
+package com.bank.customer.application.services;
+
+import com.bank.customer.application.dto.CustomerFileFormat;
+import com.bank.customer.application.dto.ImportJobDTO;
+
+import java.nio.file.Path;
+
+/**
+ * Service interface para importación masiva de clientes desde archivos NDJSON/CSV.
+ * La importación corre en segundo plano; el progreso se consulta por ID.
+ */
+public interface CustomerImportService {
+
+    /**
+     * Directorio donde deben estar los archivos a importar (y donde se guardan los subidos)
+     */
+    Path getImportDirectory();
+
+    /**
+     * Inicia la importación de un archivo del directorio de importación
+     */
+    ImportJobDTO startImport(String fileName, CustomerFileFormat format);
+
+    /**
+     * Consulta el estado y progreso de una importación
+     */
+    ImportJobDTO findImportJob(String jobId);
+}
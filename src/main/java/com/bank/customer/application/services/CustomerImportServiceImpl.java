@@ -0,0 +1,424 @@
+package com.bank.customer.application.services;
+
+import com.bank.customer.application.dto.BatchCreateCustomersResponse;
+import com.bank.customer.application.dto.BatchCreateCustomersResponse.ItemResult;
+import com.bank.customer.application.dto.BatchCreateCustomersResponse.ItemStatus;
+import com.bank.customer.application.dto.CreateCustomerRequest;
+import com.bank.customer.application.dto.CustomerFileFormat;
+import com.bank.customer.application.dto.ImportJobDTO;
+import com.bank.customer.application.execution.BlockingTaskRunner;
+import com.bank.customer.application.security.PasswordHasher;
+import com.bank.customer.domain.exceptions.CustomerExceptions.CustomerNotFoundException;
+import com.bank.customer.domain.exceptions.CustomerExceptions.InvalidCustomerDataException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Importación de clientes en streaming con un pipeline de tres etapas:
+ *
+ * 1. Lectura + parseo + validación (hilo de I/O): línea a línea, nunca el archivo completo
+ * 2. Agrupación en lotes de customer.import.batch-size
+ * 3. Deduplicación + INSERT en batch vía CustomerService, en el pool de trabajos
+ *    largos (jobExecutor) para no ocupar los hilos de peticiones durante todo el trabajo
+ *
+ * La etapa 3 procesa un lote mientras la etapa 1 prepara los siguientes (como máximo
+ * PIPELINE_DEPTH lotes por delante), así la memoria es acotada y el disco y la base
+ * trabajan en paralelo. Las líneas rechazadas se escriben a un archivo NDJSON aparte.
+ *
+ * El estado de cada importación se guarda en memoria mientras corre y durante
+ * customer.import.job-retention después de terminar (ver FinishedJobExpiry).
+ */
+@Slf4j
+@Service
+public class CustomerImportServiceImpl implements CustomerImportService {
+
+    private static final int PIPELINE_DEPTH = 2;
+    private static final List<String> CSV_COLUMNS =
+            List.of("name", "gender", "identification", "address", "phone", "password");
+
+    private final CustomerService customerService;
+    private final BlockingTaskRunner jobExecutor;
+    private final PasswordHasher passwordHasher;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final Path importDirectory;
+    private final int batchSize;
+
+    private final Cache<String, ImportJob> jobs;
+
+    public CustomerImportServiceImpl(CustomerService customerService,
+                                     @Qualifier("jobExecutor") BlockingTaskRunner jobExecutor,
+                                     PasswordHasher passwordHasher,
+                                     Validator validator,
+                                     ObjectMapper objectMapper,
+                                     @Value("${customer.import.directory}") String importDirectory,
+                                     @Value("${customer.import.batch-size:500}") int batchSize,
+                                     @Value("${customer.import.job-retention:24h}") Duration jobRetention) {
+        this.customerService = customerService;
+        this.jobExecutor = jobExecutor;
+        this.passwordHasher = passwordHasher;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.importDirectory = Paths.get(importDirectory).toAbsolutePath().normalize();
+        this.batchSize = batchSize;
+        this.jobs = Caffeine.newBuilder()
+                .expireAfter(new FinishedJobExpiry<ImportJob>(
+                        job -> job.status == ImportJobDTO.Status.RUNNING, jobRetention))
+                .build();
+    }
+
+    @Override
+    public Path getImportDirectory() {
+        try {
+            return Files.createDirectories(importDirectory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot create import directory " + importDirectory, e);
+        }
+    }
+
+    @Override
+    public ImportJobDTO startImport(String fileName, CustomerFileFormat format) {
+        // Solo se aceptan archivos dentro del directorio de importación
+        Path source = getImportDirectory().resolve(fileName).normalize();
+        if (!source.startsWith(importDirectory) || !Files.isRegularFile(source)) {
+            throw new InvalidCustomerDataException("Import file not found: " + fileName);
+        }
+
+        String jobId = UUID.randomUUID().toString();
+        Path rejectsFile = importDirectory.resolve(jobId + "-rejects.ndjson");
+        ImportJob job = new ImportJob(jobId, source.getFileName().toString(), format, rejectsFile);
+        jobs.put(jobId, job);
+
+        log.info("Starting import {} of {} ({})", jobId, source, format);
+
+        runPipeline(job, source).subscribe(
+                null,
+                error -> {
+                    log.error("Import {} failed: {}", jobId, error.getMessage(), error);
+                    job.finish(ImportJobDTO.Status.FAILED, error.getMessage());
+                    jobs.put(jobId, job);
+                },
+                () -> {
+                    log.info("Import {} completed: {} imported, {} rejected",
+                            jobId, job.imported.get(), job.rejected.get());
+                    job.finish(ImportJobDTO.Status.COMPLETED, null);
+                    jobs.put(jobId, job);
+                }
+        );
+
+        return job.toDTO();
+    }
+
+    @Override
+    public ImportJobDTO findImportJob(String jobId) {
+        ImportJob job = jobs.getIfPresent(jobId);
+        if (job == null) {
+            throw new CustomerNotFoundException("Import job not found with ID: " + jobId);
+        }
+        return job.toDTO();
+    }
+
+    private Flux<Void> runPipeline(ImportJob job, Path source) {
+        return Flux.using(
+                        () -> new RejectWriter(job.rejectsFile, objectMapper),
+                        rejects -> Flux.using(
+                                        () -> Files.newBufferedReader(source, StandardCharsets.UTF_8),
+                                        reader -> Flux.fromStream(reader.lines()),
+                                        this::closeQuietly
+                                )
+                                // Etapa 1: lectura, parseo y validación en un hilo de I/O
+                                .subscribeOn(Schedulers.boundedElastic())
+                                .index()
+                                .<ImportRow>handle((line, sink) -> {
+                                    ImportRow row = parse(job, line.getT1() + 1, line.getT2(), rejects);
+                                    if (row != null) {
+                                        sink.next(row);
+                                    }
+                                })
+                                // Etapa 2: hash de contraseñas en el pool de CPU, en paralelo y en orden
+                                .flatMapSequential(row -> passwordHasher.hash(row.request().getPassword())
+                                                .doOnNext(row.request()::setPassword)
+                                                .thenReturn(row),
+                                        passwordHasher.parallelism())
+                                // Etapa 3: lotes
+                                .buffer(batchSize)
+                                // Etapa 4: deduplicación + INSERT batch, solapada con las etapas anteriores
+                                .concatMap(batch -> jobExecutor.run(() -> write(job, batch, rejects)),
+                                        PIPELINE_DEPTH),
+                        RejectWriter::close
+                );
+    }
+
+    /**
+     * Parsea y valida una línea. Devuelve null si la línea no es un cliente válido
+     * (encabezado, línea vacía o rechazada)
+     */
+    private ImportRow parse(ImportJob job, long lineNumber, String line, RejectWriter rejects) {
+        if (line.isBlank()) {
+            return null;
+        }
+        if (job.format == CustomerFileFormat.CSV && job.csvHeader == null) {
+            job.csvHeader = parseCsvHeader(line);
+            return null;
+        }
+
+        job.linesRead.incrementAndGet();
+        CreateCustomerRequest request;
+        try {
+            request = job.format == CustomerFileFormat.CSV
+                    ? parseCsv(job.csvHeader, line)
+                    : objectMapper.readValue(line, CreateCustomerRequest.class);
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            reject(job, rejects, lineNumber, null, "Malformed line: " + e.getMessage());
+            return null;
+        }
+
+        Set<ConstraintViolation<CreateCustomerRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            reject(job, rejects, lineNumber, request.getIdentification(), violations.stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining("; ")));
+            return null;
+        }
+        return new ImportRow(lineNumber, request);
+    }
+
+    private void write(ImportJob job, List<ImportRow> batch, RejectWriter rejects) {
+        List<CreateCustomerRequest> requests = batch.stream().map(ImportRow::request).toList();
+
+        BatchCreateCustomersResponse response;
+        try {
+            response = customerService.createValidatedCustomersBatch(requests);
+        } catch (RuntimeException e) {
+            // Un lote fallido (p. ej. duplicado insertado en paralelo) no detiene la importación
+            log.warn("Import {}: batch of {} rows failed: {}", job.id, batch.size(), e.getMessage());
+            batch.forEach(row -> reject(job, rejects, row.lineNumber(), row.request().getIdentification(),
+                    "Batch insert failed: " + e.getMessage()));
+            return;
+        }
+
+        for (ItemResult result : response.getResults()) {
+            if (result.getStatus() != ItemStatus.CREATED) {
+                ImportRow row = batch.get(result.getIndex());
+                reject(job, rejects, row.lineNumber(), result.getIdentification(), result.getMessage());
+            }
+        }
+        job.imported.addAndGet(response.getCreated());
+    }
+
+    private void reject(ImportJob job, RejectWriter rejects, long lineNumber, String identification, String reason) {
+        job.rejected.incrementAndGet();
+        rejects.write(lineNumber, identification, reason);
+    }
+
+    // ========== CSV ==========
+
+    private List<String> parseCsvHeader(String line) {
+        List<String> header = splitCsv(line).stream()
+                .map(column -> column.trim().toLowerCase(Locale.ROOT))
+                .toList();
+        if (!header.contains("identification") || !header.contains("name") || !header.contains("password")) {
+            throw new InvalidCustomerDataException(
+                    "CSV header must include name, identification and password columns. Supported: " + CSV_COLUMNS
+            );
+        }
+        return header;
+    }
+
+    private CreateCustomerRequest parseCsv(List<String> header, String line) {
+        List<String> values = splitCsv(line);
+        if (values.size() != header.size()) {
+            throw new IllegalArgumentException(
+                    "expected " + header.size() + " columns but found " + values.size()
+            );
+        }
+
+        Map<String, String> row = new LinkedHashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            String value = values.get(i);
+            row.put(header.get(i), value.isEmpty() ? null : value);
+        }
+
+        return CreateCustomerRequest.builder()
+                .name(row.get("name"))
+                .gender(row.get("gender"))
+                .identification(row.get("identification"))
+                .address(row.get("address"))
+                .phone(row.get("phone"))
+                .password(row.get("password"))
+                .build();
+    }
+
+    /**
+     * Separa una línea CSV respetando comillas dobles ("a, b" y "" como comilla escapada)
+     */
+    private List<String> splitCsv(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("unterminated quoted value");
+        }
+        values.add(current.toString());
+        return values;
+    }
+
+    private void closeQuietly(BufferedReader reader) {
+        try {
+            reader.close();
+        } catch (IOException e) {
+            log.warn("Could not close import file: {}", e.getMessage());
+        }
+    }
+
+    // ========== ESTADO INTERNO ==========
+
+    private record ImportRow(long lineNumber, CreateCustomerRequest request) {
+    }
+
+    /**
+     * Estado mutable de una importación en curso
+     */
+    private static class ImportJob {
+
+        private final String id;
+        private final String source;
+        private final CustomerFileFormat format;
+        private final Path rejectsFile;
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private final AtomicLong linesRead = new AtomicLong();
+        private final AtomicLong imported = new AtomicLong();
+        private final AtomicLong rejected = new AtomicLong();
+
+        // Solo lo usa el hilo de lectura
+        private List<String> csvHeader;
+
+        private volatile ImportJobDTO.Status status = ImportJobDTO.Status.RUNNING;
+        private volatile String error;
+        private volatile LocalDateTime finishedAt;
+
+        ImportJob(String id, String source, CustomerFileFormat format, Path rejectsFile) {
+            this.id = id;
+            this.source = source;
+            this.format = format;
+            this.rejectsFile = rejectsFile;
+        }
+
+        void finish(ImportJobDTO.Status finalStatus, String failure) {
+            this.error = failure;
+            this.finishedAt = LocalDateTime.now();
+            this.status = finalStatus;
+        }
+
+        ImportJobDTO toDTO() {
+            return ImportJobDTO.builder()
+                    .id(id)
+                    .source(source)
+                    .format(format)
+                    .status(status)
+                    .linesRead(linesRead.get())
+                    .imported(imported.get())
+                    .rejected(rejected.get())
+                    .rejectsFile(rejectsFile.toString())
+                    .error(error)
+                    .startedAt(startedAt)
+                    .finishedAt(finishedAt)
+                    .build();
+        }
+    }
+
+    /**
+     * Escribe las líneas rechazadas como NDJSON: {"line":n,"identification":"...","reason":"..."}
+     * La usan tanto la etapa de validación como la de INSERT, por eso es sincronizada.
+     */
+    private static class RejectWriter {
+
+        private final Path file;
+        private final ObjectMapper objectMapper;
+        private BufferedWriter writer;
+
+        RejectWriter(Path file, ObjectMapper objectMapper) {
+            this.file = file;
+            this.objectMapper = objectMapper;
+        }
+
+        synchronized void write(long lineNumber, String identification, String reason) {
+            Map<String, Object> reject = new LinkedHashMap<>();
+            reject.put("line", lineNumber);
+            reject.put("identification", identification);
+            reject.put("reason", reason);
+            try {
+                if (writer == null) {
+                    writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8);
+                }
+                writer.write(objectMapper.writeValueAsString(reject));
+                writer.newLine();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot write rejects file " + file, e);
+            }
+        }
+
+        synchronized void close() {
+            if (writer == null) {
+                return;
+            }
+            try {
+                writer.close();
+            } catch (IOException e) {
+                log.warn("Could not close rejects file {}: {}", file, e.getMessage());
+            }
+        }
+    }
+}
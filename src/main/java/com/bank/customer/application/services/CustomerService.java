@@ -1,14 +1,22 @@
 package com.bank.customer.application.services;
 
+import com.bank.customer.application.dto.BatchCreateCustomersResponse;
+import com.bank.customer.application.dto.BulkOperationResponse;
 import com.bank.customer.application.dto.CustomerDTO;
 import com.bank.customer.application.dto.CreateCustomerRequest;
+import com.bank.customer.application.dto.CustomerPageDTO;
+import com.bank.customer.application.dto.PatchCustomerRequest;
 import com.bank.customer.application.dto.UpdateCustomerRequest;
+import reactor.core.publisher.Flux;
 
 import java.util.List;
 
 /**
  * Service interface para operaciones de Customer.
  * Define los casos de uso de la aplicación.
+ *
+ * Las contraseñas de los requests llegan ya hasheadas (PasswordHasher): el hash se
+ * calcula antes de entrar al servicio, fuera de la transacción y de los hilos JDBC.
  */
 public interface CustomerService {
 
@@ -17,6 +25,18 @@ public interface CustomerService {
      */
     CustomerDTO createCustomer(CreateCustomerRequest request);
 
+    /**
+     * Crea varios clientes en una transacción con INSERT en batch.
+     * Cada elemento se valida por separado y recibe su propio resultado.
+     */
+    BatchCreateCustomersResponse createCustomersBatch(List<CreateCustomerRequest> requests);
+
+    /**
+     * Igual que createCustomersBatch, para elementos que ya pasaron la validación
+     * (la importación de archivos valida en su propia etapa del pipeline)
+     */
+    BatchCreateCustomersResponse createValidatedCustomersBatch(List<CreateCustomerRequest> requests);
+
     /**
      * Busca un cliente por ID
      */
@@ -32,11 +52,46 @@ public interface CustomerService {
      */
     List<CustomerDTO> findAllCustomers();
 
+    /**
+     * Emite todos los clientes a medida que se leen (con backpressure),
+     * sin cargar la tabla completa en memoria
+     */
+    Flux<CustomerDTO> streamAllCustomers();
+
+    /**
+     * Lista clientes por páginas con cursor (keyset)
+     *
+     * @param cursor cursor devuelto por la página anterior (null para la primera)
+     * @param size   tamaño de página (null = tamaño por defecto)
+     * @param status filtro por estado (null = todos)
+     * @param sort   "id" o "updatedAt" (null = id)
+     */
+    CustomerPageDTO findCustomersPage(String cursor, Integer size, Boolean status, String sort);
+
     /**
      * Actualiza un cliente existente
      */
     CustomerDTO updateCustomer(Long id, UpdateCustomerRequest request);
 
+    /**
+     * Actualiza un cliente solo si sigue en la versión esperada (If-Match)
+     *
+     * @param expectedVersion versión leída por el cliente (null = sin condición)
+     */
+    CustomerDTO updateCustomer(Long id, UpdateCustomerRequest request, Long expectedVersion);
+
+    /**
+     * Aplica un JSON Merge Patch: solo cambian los campos presentes y null borra el valor
+     *
+     * @param expectedVersion versión leída por el cliente (null = sin condición)
+     */
+    CustomerDTO patchCustomer(Long id, PatchCustomerRequest patch, Long expectedVersion);
+
+    /**
+     * Activa o desactiva un cliente
+     */
+    void changeCustomerStatus(Long id, boolean status);
+
     /**
      * Elimina un cliente (soft delete - desactiva)
      */
@@ -46,4 +101,14 @@ public interface CustomerService {
      * Elimina físicamente un cliente de la base de datos
      */
     void hardDeleteCustomer(Long id);
+
+    /**
+     * Desactiva varios clientes en una sola sentencia
+     */
+    BulkOperationResponse deactivateCustomers(List<Long> ids);
+
+    /**
+     * Elimina físicamente varios clientes en una sola sentencia
+     */
+    BulkOperationResponse hardDeleteCustomers(List<Long> ids);
 }
\ No newline at end of file
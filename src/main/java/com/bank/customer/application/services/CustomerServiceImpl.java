@@ -1,38 +1,98 @@
 package com.bank.customer.application.services;
 
+import com.bank.customer.application.cache.CustomerCache;
+import com.bank.customer.application.index.IdentificationFilter;
+import com.bank.customer.application.index.IdentificationIndex;
+import com.bank.customer.application.security.PasswordHasher;
+import com.bank.customer.application.dto.BatchCreateCustomersResponse;
+import com.bank.customer.application.dto.BatchCreateCustomersResponse.ItemResult;
+import com.bank.customer.application.dto.BatchCreateCustomersResponse.ItemStatus;
+import com.bank.customer.application.dto.BulkOperationResponse;
 import com.bank.customer.application.dto.CustomerDTO;
 import com.bank.customer.application.dto.CreateCustomerRequest;
+import com.bank.customer.application.dto.CustomerPageDTO;
+import com.bank.customer.application.dto.PatchCustomerRequest;
 import com.bank.customer.application.dto.UpdateCustomerRequest;
 import com.bank.customer.domain.entities.Customer;
 import com.bank.customer.domain.exceptions.CustomerExceptions.*;
+import com.bank.customer.domain.projections.CustomerProjection;
+import com.bank.customer.domain.repositories.CustomerPageQuery;
 import com.bank.customer.domain.repositories.CustomerRepository;
+import com.bank.customer.domain.repositories.CustomerSort;
+import com.bank.customer.domain.repositories.ReactiveCustomerRepository;
+import io.micrometer.core.annotation.Timed;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import reactor.core.publisher.Flux;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 /**
  * Implementación del servicio de Customer con JPA.
  * Código imperativo simple en vez de reactivo.
+ *
+ * Cada operación pública se mide en el timer customer.service (tags class y method).
+ * En streamAllCustomers solo se mide el armado del Flux; la duración real del stream
+ * queda en http.server.requests.
  */
 
 @Slf4j
 @Service
+@Timed(value = "customer.service", description = "Duración de las operaciones de CustomerService")
 @RequiredArgsConstructor
 public class CustomerServiceImpl implements CustomerService {
 
     private final CustomerRepository customerRepository;
+    private final ReactiveCustomerRepository reactiveCustomerRepository;
+    private final Validator validator;
+    private final CustomerCache customerCache;
+    private final IdentificationFilter identificationFilter;
+    private final IdentificationIndex identificationIndex;
+    private final PasswordHasher passwordHasher;
+
+    @Value("${customer.pagination.default-size:20}")
+    private int defaultPageSize;
+
+    @Value("${customer.pagination.max-size:100}")
+    private int maxPageSize;
+
+    @Value("${customer.batch.max-size:1000}")
+    private int maxBatchSize;
+
+    /**
+     * true solo si esta es la única instancia que da de alta clientes. Índice y filtro
+     * no ven las altas de otras instancias: sin esta garantía sus "no existe" no valen
+     */
+    @Value("${customer.identification.single-writer:false}")
+    private boolean singleWriter;
 
     @Override
     @Transactional
     public CustomerDTO createCustomer(CreateCustomerRequest request) {
-        log.info("Creating new customer with identification: {}", request.getIdentification());
+        log.debug("Creating new customer with identification: {}", request.getIdentification());
 
         // Validación: Cliente no debe existir previamente
-        if (customerRepository.existsByIdentification(request.getIdentification())) {
+        // (el índice/filtro en memoria descarta sin consultar la base la mayoría de identificaciones nuevas)
+        if (mayAlreadyExist(request.getIdentification())
+                && customerRepository.existsByIdentification(request.getIdentification())) {
             log.warn("Customer already exists with identification: {}", request.getIdentification());
             throw new CustomerAlreadyExistsException(
                     "Customer with identification " + request.getIdentification() + " already exists"
@@ -40,80 +100,328 @@ public class CustomerServiceImpl implements CustomerService {
         }
 
         // Crear entidad Customer a partir del request
+        requireHashed(request.getPassword());
         Customer customer = mapToEntity(request);
 
         // Guardar en repositorio
         Customer saved = customerRepository.save(customer);
+        registerIdentifications(List.of(saved));
+        evictAfterCommit(saved.getId(), saved.getIdentification());
 
         log.info("Customer created successfully with ID: {}", saved.getId());
         return mapToDTO(saved);
     }
 
     @Override
+    @Transactional
+    public BatchCreateCustomersResponse createCustomersBatch(List<CreateCustomerRequest> requests) {
+        return createBatch(requests, true);
+    }
+
+    @Override
+    @Transactional
+    public BatchCreateCustomersResponse createValidatedCustomersBatch(List<CreateCustomerRequest> requests) {
+        return createBatch(requests, false);
+    }
+
+    private BatchCreateCustomersResponse createBatch(List<CreateCustomerRequest> requests, boolean validate) {
+        if (requests.size() > maxBatchSize) {
+            throw new InvalidCustomerDataException(
+                    "Batch cannot contain more than " + maxBatchSize + " customers"
+            );
+        }
+        log.debug("Creating batch of {} customers", requests.size());
+
+        ItemResult[] results = new ItemResult[requests.size()];
+
+        // 1. Validación por elemento y duplicados dentro del mismo lote (gana el primero)
+        Map<String, Integer> candidates = new LinkedHashMap<>();
+        for (int i = 0; i < requests.size(); i++) {
+            CreateCustomerRequest request = requests.get(i);
+            if (request == null) {
+                results[i] = rejected(i, null, ItemStatus.INVALID, "Customer data is required");
+                continue;
+            }
+
+            Set<ConstraintViolation<CreateCustomerRequest>> violations =
+                    validate ? validator.validate(request) : Set.of();
+            if (!violations.isEmpty()) {
+                results[i] = rejected(i, request.getIdentification(), ItemStatus.INVALID, describe(violations));
+            } else if (candidates.putIfAbsent(request.getIdentification(), i) != null) {
+                results[i] = rejected(i, request.getIdentification(), ItemStatus.DUPLICATE,
+                        "Identification " + request.getIdentification() + " is repeated in the batch");
+            }
+        }
+
+        // 2. Una sola consulta para detectar los que ya existen en la base,
+        //    solo con los que el filtro no puede descartar
+        List<String> maybeExisting = candidates.keySet().stream()
+                .filter(this::mayAlreadyExist)
+                .toList();
+        Set<String> existing = maybeExisting.isEmpty()
+                ? Set.of()
+                : customerRepository.findExistingIdentifications(maybeExisting);
+
+        List<Customer> toCreate = new ArrayList<>(candidates.size());
+        List<Integer> toCreateIndexes = new ArrayList<>(candidates.size());
+        candidates.forEach((identification, index) -> {
+            if (existing.contains(identification)) {
+                results[index] = rejected(index, identification, ItemStatus.DUPLICATE,
+                        "Customer with identification " + identification + " already exists");
+            } else {
+                requireHashed(requests.get(index).getPassword());
+                toCreate.add(mapToEntity(requests.get(index)));
+                toCreateIndexes.add(index);
+            }
+        });
+
+        // 3. INSERT en batch de los elementos válidos
+        List<Customer> saved = toCreate.isEmpty() ? List.of() : customerRepository.saveAll(toCreate);
+        registerIdentifications(saved);
+        for (int k = 0; k < saved.size(); k++) {
+            Customer customer = saved.get(k);
+            int index = toCreateIndexes.get(k);
+            results[index] = ItemResult.builder()
+                    .index(index)
+                    .identification(customer.getIdentification())
+                    .status(ItemStatus.CREATED)
+                    .id(customer.getId())
+                    .build();
+        }
+
+        log.info("Batch processed: {} created, {} rejected", saved.size(), requests.size() - saved.size());
+        return BatchCreateCustomersResponse.builder()
+                .total(requests.size())
+                .created(saved.size())
+                .rejected(requests.size() - saved.size())
+                .results(Arrays.asList(results))
+                .build();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public CustomerDTO findCustomerById(Long id) {
         log.debug("Finding customer by ID: {}", id);
 
-        Customer customer = customerRepository.findById(id)
+        return findCachedById(id)
                 .orElseThrow(() -> new CustomerNotFoundException(
                         "Customer not found with ID: " + id
                 ));
-
-        log.debug("Customer found: {}", customer.getName());
-        return mapToDTO(customer);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public CustomerDTO findCustomerByIdentification(String identification) {
-        return null;
+        log.debug("Finding customer by identification: {}", identification);
+
+        // Si la caché o el índice conocen el ID se resuelve igual que una búsqueda por ID;
+        // una entrada desactualizada (ID borrado o reutilizado) cae a la consulta normal
+        Optional<CustomerDTO> known = knownCustomerId(identification)
+                .flatMap(this::findCachedById)
+                .filter(customer -> identification.equals(customer.getIdentification()));
+        if (known.isPresent()) {
+            return known.get();
+        }
+
+        long stamp = customerCache.stamp();
+        CustomerDTO customer = customerRepository.findProjectionByIdentification(identification)
+                .map(CustomerServiceImpl::mapToDTO)
+                .orElseThrow(() -> new CustomerNotFoundException(
+                        "Customer not found with identification: " + identification
+                ));
+        customerCache.put(customer, stamp);
+        identificationIndex.put(customer.getIdentification(), customer.getId());
+        return customer;
+    }
+
+    private Optional<Long> knownCustomerId(String identification) {
+        Optional<Long> cached = customerCache.getIdByIdentification(identification);
+        if (cached.isPresent()) {
+            return cached;
+        }
+        OptionalLong indexed = identificationIndex.findCustomerId(identification);
+        return indexed.isPresent() ? Optional.of(indexed.getAsLong()) : Optional.empty();
+    }
+
+    /**
+     * Lectura por ID a través de la caché (read-through)
+     */
+    private Optional<CustomerDTO> findCachedById(Long id) {
+        Optional<CustomerDTO> cached = customerCache.getById(id);
+        if (cached.isPresent()) {
+            return cached;
+        }
+
+        long stamp = customerCache.stamp();
+        Optional<CustomerDTO> customer = customerRepository.findProjectionById(id).map(CustomerServiceImpl::mapToDTO);
+        customer.ifPresent(found -> customerCache.put(found, stamp));
+        return customer;
     }
 
 
     @Override
+    @Transactional(readOnly = true)
     public List<CustomerDTO> findAllCustomers() {
         log.debug("Finding all customers");
 
-        List<Customer> customers = customerRepository.findAll();
+        List<CustomerProjection> customers = customerRepository.findAllProjections();
 
         log.debug("Found {} customers", customers.size());
         return customers.stream()
-                .map(this::mapToDTO)
+                .map(CustomerServiceImpl::mapToDTO)
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public Flux<CustomerDTO> streamAllCustomers() {
+        log.debug("Streaming all customers");
+
+        return reactiveCustomerRepository.findAll()
+                .map(CustomerServiceImpl::mapToDTO);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CustomerPageDTO findCustomersPage(String cursor, Integer size, Boolean status, String sort) {
+        int pageSize = size != null ? size : defaultPageSize;
+        if (pageSize < 1 || pageSize > maxPageSize) {
+            throw new InvalidCustomerDataException(
+                    "Page size must be between 1 and " + maxPageSize
+            );
+        }
+
+        CustomerSort requestedSort = sort != null ? parseSort(sort) : null;
+        CustomerPageQuery query;
+
+        if (cursor != null) {
+            // El cursor manda: orden y filtro deben coincidir con los de la primera página
+            CustomerCursor position = CustomerCursor.decode(cursor);
+            if ((requestedSort != null && requestedSort != position.sort())
+                    || (status != null && !status.equals(position.status()))) {
+                throw new InvalidCustomerDataException(
+                        "Sort and status cannot change while paginating with a cursor"
+                );
+            }
+            query = new CustomerPageQuery(position.sort(), position.lastId(),
+                    position.lastUpdatedAt(), position.status(), pageSize + 1);
+        } else {
+            query = new CustomerPageQuery(requestedSort != null ? requestedSort : CustomerSort.ID,
+                    null, null, status, pageSize + 1);
+        }
+
+        log.debug("Finding customer page: {}", query);
+
+        // Se lee una fila extra solo para saber si hay página siguiente
+        List<CustomerProjection> customers = customerRepository.findPage(query);
+        boolean hasNext = customers.size() > pageSize;
+        if (hasNext) {
+            customers = customers.subList(0, pageSize);
+        }
+
+        String nextCursor = null;
+        if (hasNext) {
+            CustomerProjection last = customers.get(customers.size() - 1);
+            nextCursor = new CustomerCursor(query.sort(), query.status(), last.id(),
+                    query.sort() == CustomerSort.UPDATED_AT ? last.updatedAt() : null).encode();
+        }
+
+        return CustomerPageDTO.builder()
+                .content(customers.stream().map(CustomerServiceImpl::mapToDTO).collect(Collectors.toList()))
+                .size(customers.size())
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
     @Override
     @Transactional
     public CustomerDTO updateCustomer(Long id, UpdateCustomerRequest request) {
-        log.info("Updating customer with ID: {}", id);
+        return updateCustomer(id, request, null);
+    }
+
+    @Override
+    @Transactional
+    public CustomerDTO updateCustomer(Long id, UpdateCustomerRequest request, Long expectedVersion) {
+        log.debug("Updating customer with ID: {}", id);
+
+        if (request.getPassword() != null) {
+            requireHashed(request.getPassword());
+        }
 
+        // Actualizar solo los campos que vienen en el request
+        return applyChanges(id, expectedVersion, customer -> updateEntityFromRequest(customer, request));
+    }
+
+    @Override
+    @Transactional
+    public CustomerDTO patchCustomer(Long id, PatchCustomerRequest patch, Long expectedVersion) {
+        log.debug("Patching customer with ID: {} (fields: {})", id, patch.getPresentFields());
+        if (patch.isPresent(PatchCustomerRequest.PASSWORD) && patch.getPassword() != null) {
+            requireHashed(patch.getPassword());
+        }
+
+        return applyChanges(id, expectedVersion, customer -> applyPatch(customer, patch));
+    }
+
+    /**
+     * Carga el cliente, verifica la versión esperada y guarda los cambios.
+     * Con @DynamicUpdate el UPDATE lleva solo las columnas que realmente cambiaron.
+     */
+    private CustomerDTO applyChanges(Long id, Long expectedVersion, Consumer<Customer> changes) {
         Customer existingCustomer = customerRepository.findById(id)
                 .orElseThrow(() -> new CustomerNotFoundException(
                         "Customer not found with ID: " + id
                 ));
 
-        // Actualizar solo los campos que vienen en el request
-        updateEntityFromRequest(existingCustomer, request);
+        // If-Match: el cliente leyó una versión que ya no es la actual
+        if (expectedVersion != null && !expectedVersion.equals(existingCustomer.getVersion())) {
+            throw versionMismatch(id, expectedVersion);
+        }
 
-        Customer updated = customerRepository.update(existingCustomer);
+        changes.accept(existingCustomer);
+
+        Customer updated;
+        try {
+            updated = customerRepository.update(existingCustomer);
+        } catch (OptimisticLockingFailureException e) {
+            // Otra escritura ganó entre la lectura y el UPDATE: con If-Match es un 412
+            if (expectedVersion != null) {
+                throw versionMismatch(id, expectedVersion);
+            }
+            throw e;
+        }
+        evictAfterCommit(updated.getId(), updated.getIdentification());
 
-        log.info("Customer updated successfully");
+        log.info("Customer updated successfully with ID: {}", updated.getId());
         return mapToDTO(updated);
     }
 
     @Override
     @Transactional
-    public void deleteCustomer(Long id) {
-        log.info("Deactivating customer with ID: {}", id);
+    public void changeCustomerStatus(Long id, boolean status) {
+        log.debug("Changing status of customer with ID {} to {}", id, status);
 
-        // Soft delete: solo desactivamos el cliente
-        Customer customer = customerRepository.findById(id)
-                .orElseThrow(() -> new CustomerNotFoundException(
-                        "Customer not found with ID: " + id
-                ));
+        // Un solo UPDATE: 0 filas afectadas = el cliente no existe
+        if (customerRepository.updateStatus(id, status) == 0) {
+            throw new CustomerNotFoundException("Customer not found with ID: " + id);
+        }
+        evictAfterCommit(id, null);
+
+        log.info("Customer status changed to {} for ID: {}", status, id);
+    }
 
-        customer.deactivate(); // Método del dominio
-        customerRepository.update(customer);
+    @Override
+    @Transactional
+    public void deleteCustomer(Long id) {
+        log.debug("Deactivating customer with ID: {}", id);
 
-        log.info("Customer deactivated successfully");
+        // Soft delete: solo desactivamos el cliente, con un UPDATE directo
+        if (customerRepository.updateStatus(id, false) == 0) {
+            throw new CustomerNotFoundException("Customer not found with ID: " + id);
+        }
+        evictAfterCommit(id, null);
+
+        log.info("Customer deactivated successfully with ID: {}", id);
     }
 
     @Override
@@ -121,20 +429,175 @@ public class CustomerServiceImpl implements CustomerService {
     public void hardDeleteCustomer(Long id) {
         log.warn("Hard deleting customer with ID: {}", id);
 
-        // Hard delete: eliminación física
-        if (!customerRepository.findById(id).isPresent()) {
-            throw new CustomerNotFoundException("Customer not found with ID: " + id);
+        // Hard delete: eliminación física con un DELETE directo
+        String identification = customerRepository.deleteDirectlyById(id)
+                .orElseThrow(() -> new CustomerNotFoundException("Customer not found with ID: " + id));
+        forgetDeleted(Map.of(id, identification));
+
+        log.info("Customer hard deleted successfully with ID: {}", id);
+    }
+
+    @Override
+    @Transactional
+    public BulkOperationResponse deactivateCustomers(List<Long> ids) {
+        Set<Long> distinctIds = distinctBulkIds(ids);
+        log.debug("Deactivating {} customers", distinctIds.size());
+
+        int affected = customerRepository.updateStatus(distinctIds, false);
+        distinctIds.forEach(id -> evictAfterCommit(id, null));
+
+        log.info("{} customers deactivated", affected);
+        return BulkOperationResponse.builder()
+                .requested(distinctIds.size())
+                .affected(affected)
+                .build();
+    }
+
+    @Override
+    @Transactional
+    public BulkOperationResponse hardDeleteCustomers(List<Long> ids) {
+        Set<Long> distinctIds = distinctBulkIds(ids);
+        log.warn("Hard deleting {} customers", distinctIds.size());
+
+        Map<Long, String> deleted = customerRepository.deleteDirectlyByIds(distinctIds);
+        forgetDeleted(deleted);
+        int affected = deleted.size();
+
+        log.info("{} customers hard deleted", affected);
+        return BulkOperationResponse.builder()
+                .requested(distinctIds.size())
+                .affected(affected)
+                .build();
+    }
+
+    private Set<Long> distinctBulkIds(List<Long> ids) {
+        if (ids.size() > maxBatchSize) {
+            throw new InvalidCustomerDataException(
+                    "Bulk operation cannot contain more than " + maxBatchSize + " customers"
+            );
+        }
+        return new LinkedHashSet<>(ids);
+    }
+
+    /**
+     * Limpia caché, índice y filtro de los clientes borrados (ID → identificación)
+     */
+    private void forgetDeleted(Map<Long, String> deleted) {
+        deleted.forEach(this::evictAfterCommit);
+        runAfterCommit(() -> {
+            deleted.values().forEach(identificationIndex::remove);
+            identificationFilter.removed(deleted.size());
+        });
+    }
+
+    /**
+     * false si la identificación seguro no existe: el índice exacto si está cargado,
+     * si no el filtro de Bloom. true obliga a confirmar en la base.
+     * Con varias instancias escribiendo siempre se confirma en la base.
+     */
+    private boolean mayAlreadyExist(String identification) {
+        if (!singleWriter) {
+            return true;
+        }
+        if (identificationIndex.canAnswer(identification)) {
+            return identificationIndex.findCustomerId(identification).isPresent();
+        }
+        return identificationFilter.mightContain(identification);
+    }
+
+    /**
+     * Registra las identificaciones antes del commit (ningún alta confirmada queda fuera
+     * del filtro) y otra vez después: una reconstrucción del filtro que leyó la tabla
+     * antes del commit no las vio.
+     */
+    private void registerIdentifications(List<Customer> customers) {
+        for (Customer customer : customers) {
+            identificationFilter.add(customer.getIdentification());
+            identificationIndex.put(customer.getIdentification(), customer.getId());
+        }
+        if (!customers.isEmpty() && TransactionSynchronizationManager.isSynchronizationActive()) {
+            runAfterCommit(() -> customers.forEach(customer -> identificationFilter.add(customer.getIdentification())));
+        }
+    }
+
+    /**
+     * Invalida la caché ahora y otra vez al terminar la transacción: una lectura
+     * concurrente podría volver a cachear el valor anterior antes del commit.
+     */
+    private void evictAfterCommit(Long id, String identification) {
+        customerCache.evict(id, identification);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    customerCache.evict(id, identification);
+                }
+            });
+        }
+    }
+
+    /**
+     * Ejecuta la acción al confirmarse la transacción (o de inmediato si no hay una)
+     */
+    private void runAfterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * Las contraseñas llegan ya hasheadas (los controllers y la importación usan
+     * PasswordHasher en su pool antes de entrar al servicio, sin retener una conexión).
+     * Un llamador que olvide hacerlo falla aquí en vez de guardar texto plano.
+     */
+    private void requireHashed(String password) {
+        if (!passwordHasher.isHash(password)) {
+            throw new IllegalArgumentException(
+                    "Password must be hashed with PasswordHasher before reaching CustomerService"
+            );
         }
+    }
 
-        customerRepository.deleteById(id);
+    private ItemResult rejected(int index, String identification, ItemStatus status, String message) {
+        return ItemResult.builder()
+                .index(index)
+                .identification(identification)
+                .status(status)
+                .message(message)
+                .build();
+    }
 
-        log.info("Customer hard deleted successfully");
+    private String describe(Set<? extends ConstraintViolation<?>> violations) {
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining("; "));
     }
 
+    private CustomerSort parseSort(String sort) {
+        return switch (sort) {
+            case "id" -> CustomerSort.ID;
+            case "updatedAt" -> CustomerSort.UPDATED_AT;
+            default -> throw new InvalidCustomerDataException(
+                    "Unsupported sort: " + sort + " (use 'id' or 'updatedAt')"
+            );
+        };
+    }
+
+    // ========== MAPEOS (estáticos y package-private: los mide CustomerMappingBenchmark) ==========
+
     /**
      * Mapea CreateCustomerRequest a entidad Customer
      */
-    private Customer mapToEntity(CreateCustomerRequest request) {
+    static Customer mapToEntity(CreateCustomerRequest request) {
         Customer customer = new Customer();
 
         // Campos de Person (heredados)
@@ -145,16 +608,22 @@ public class CustomerServiceImpl implements CustomerService {
         customer.setPhone(request.getPhone());
 
         // Campos propios de Customer
-        customer.setPassword(request.getPassword()); // TODO: Encriptar en producción
+        customer.setPassword(request.getPassword()); // ya llega como hash (ver requireHashed)
         customer.setStatus(true); // Por defecto activo
 
         return customer;
     }
 
+    private CustomerVersionMismatchException versionMismatch(Long id, Long expectedVersion) {
+        return new CustomerVersionMismatchException(
+                "Customer with ID " + id + " is no longer at version " + expectedVersion
+        );
+    }
+
     /**
      * Mapea entidad Customer a DTO
      */
-    private CustomerDTO mapToDTO(Customer customer) {
+    static CustomerDTO mapToDTO(Customer customer) {
         return CustomerDTO.builder()
                 .id(customer.getId())
                 .name(customer.getName())
@@ -165,10 +634,32 @@ public class CustomerServiceImpl implements CustomerService {
                 .status(customer.getStatus())
                 .createdAt(customer.getCreatedAt())
                 .updatedAt(customer.getUpdatedAt())
+                .version(customer.getVersion())
                 .build();
     }
 
-    private void updateEntityFromRequest(Customer customer, UpdateCustomerRequest request) {
+    /**
+     * Mapea la proyección de solo lectura a DTO
+     */
+    static CustomerDTO mapToDTO(CustomerProjection projection) {
+        return CustomerDTO.builder()
+                .id(projection.id())
+                .name(projection.name())
+                .gender(projection.gender())
+                .identification(projection.identification())
+                .address(projection.address())
+                .phone(projection.phone())
+                .status(projection.status())
+                .createdAt(projection.createdAt())
+                .updatedAt(projection.updatedAt())
+                .version(projection.version())
+                .build();
+    }
+
+    /**
+     * Copia los campos no nulos del request sobre la entidad
+     */
+    static void updateEntityFromRequest(Customer customer, UpdateCustomerRequest request) {
         if (request.getName() != null) {
             customer.setName(request.getName());
         }
@@ -182,7 +673,7 @@ public class CustomerServiceImpl implements CustomerService {
             customer.setPhone(request.getPhone());
         }
         if (request.getPassword() != null) {
-            customer.setPassword(request.getPassword()); // TODO: Encriptar
+            customer.setPassword(request.getPassword()); // ya llega como hash (ver requireHashed)
         }
         if (request.getStatus() != null) {
             customer.setStatus(request.getStatus());
@@ -190,4 +681,35 @@ public class CustomerServiceImpl implements CustomerService {
 
         // updatedAt se actualiza automáticamente con @PreUpdate
     }
+
+    /**
+     * Aplica un merge patch: solo los campos presentes; null borra los opcionales
+     */
+    private void applyPatch(Customer customer, PatchCustomerRequest patch) {
+        if (patch.isPresent(PatchCustomerRequest.NAME)) {
+            customer.setName(requirePatchValue(patch.getName(), PatchCustomerRequest.NAME));
+        }
+        if (patch.isPresent(PatchCustomerRequest.GENDER)) {
+            customer.setGender(patch.getGender());
+        }
+        if (patch.isPresent(PatchCustomerRequest.ADDRESS)) {
+            customer.setAddress(patch.getAddress());
+        }
+        if (patch.isPresent(PatchCustomerRequest.PHONE)) {
+            customer.setPhone(patch.getPhone());
+        }
+        if (patch.isPresent(PatchCustomerRequest.PASSWORD)) {
+            customer.setPassword(requirePatchValue(patch.getPassword(), PatchCustomerRequest.PASSWORD));
+        }
+        if (patch.isPresent(PatchCustomerRequest.STATUS)) {
+            customer.setStatus(requirePatchValue(patch.getStatus(), PatchCustomerRequest.STATUS));
+        }
+    }
+
+    private <T> T requirePatchValue(T value, String field) {
+        if (value == null) {
+            throw new InvalidCustomerDataException("Field '" + field + "' is required and cannot be removed");
+        }
+        return value;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,40 @@
+package com.bank.customer.application.services;
+
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import java.time.Duration;
+import java.util.function.Predicate;
+
+/**
+ * Expiración de los trabajos en segundo plano (importación / exportación):
+ * un trabajo en curso no expira; uno terminado se conserva durante "retention"
+ * para consultar su estado y luego sale del caché.
+ *
+ * La expiración se recalcula en cada escritura: al terminar, el servicio vuelve
+ * a poner el trabajo en el caché para que empiece a correr su ventana.
+ */
+class FinishedJobExpiry<V> implements Expiry<String, V> {
+
+    private final Predicate<V> running;
+    private final long retentionNanos;
+
+    FinishedJobExpiry(Predicate<V> running, Duration retention) {
+        this.running = running;
+        this.retentionNanos = retention.toNanos();
+    }
+
+    @Override
+    public long expireAfterCreate(String key, V job, long currentTime) {
+        return running.test(job) ? Long.MAX_VALUE : retentionNanos;
+    }
+
+    @Override
+    public long expireAfterUpdate(String key, V job, long currentTime, long currentDuration) {
+        return expireAfterCreate(key, job, currentTime);
+    }
+
+    @Override
+    public long expireAfterRead(String key, V job, long currentTime, long currentDuration) {
+        return currentDuration;
+    }
+}
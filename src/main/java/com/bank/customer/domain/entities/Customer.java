@@ -9,18 +9,24 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDateTime;
 
 /**
  * Entidad Customer - Extiende Person con información específica de cliente bancario
  * Usa herencia JOINED: datos de Person en tabla 'personas', datos propios en tabla 'clientes'
+ *
+ * Con @DynamicUpdate Hibernate solo actualiza las tablas con columnas modificadas:
+ * si cambian solo datos personales no hay UPDATE en clientes. La tabla personas
+ * siempre se actualiza porque ahí vive la versión (@Version) de todo el cliente.
  */
 @Data
 @EqualsAndHashCode(callSuper = true)
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
+@DynamicUpdate
 @Table(name = "clientes")
 @PrimaryKeyJoinColumn(name = "id")
 public class Customer extends Person {
@@ -37,7 +43,9 @@ public class Customer extends Person {
     @Column(name = "created_at", updatable = false)
     private LocalDateTime customerCreatedAt;
 
-    @Column(name = "updated_at")
+    // La mantiene MySQL (ON UPDATE CURRENT_TIMESTAMP) cuando cambia una columna de clientes;
+    // si la escribiera Hibernate, cada UPDATE de personas arrastraría también uno de clientes
+    @Column(name = "updated_at", updatable = false)
     private LocalDateTime customerUpdatedAt;
 
     /**
@@ -52,14 +60,6 @@ public class Customer extends Person {
         }
     }
 
-    /**
-     * Callback antes de actualizar
-     */
-    @PreUpdate
-    protected void onCustomerUpdate() {
-        customerUpdatedAt = LocalDateTime.now();
-    }
-
     // ========== MÉTODOS DE NEGOCIO ==========
 
     public boolean isActive() {
@@ -68,12 +68,10 @@ public class Customer extends Person {
 
     public void activate() {
         this.status = true;
-        this.customerUpdatedAt = LocalDateTime.now();
     }
 
     public void deactivate() {
         this.status = false;
-        this.customerUpdatedAt = LocalDateTime.now();
     }
 
     public boolean canPerformBankingOperations() {
@@ -83,7 +81,6 @@ public class Customer extends Person {
     public void updatePassword(String newPassword) {
         if (newPassword != null && newPassword.length() >= 4) {
             this.password = newPassword;
-            this.customerUpdatedAt = LocalDateTime.now();
         }
     }
 
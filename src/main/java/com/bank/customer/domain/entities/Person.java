@@ -1,30 +1,47 @@
 // src/main/java/com/bank/customer/domain/entities/Person.java
 package com.bank.customer.domain.entities;
 
+import com.bank.customer.domain.validation.EcuadorianCedula;
+import com.bank.customer.domain.validation.Identification;
+import com.bank.customer.domain.validation.PhoneNumber;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
-import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDateTime;
 
 /**
  * Entidad base Person - Contiene información personal básica
  * Usa estrategia JOINED para herencia con Customer
+ *
+ * El ID sale de la secuencia pooled "personas_seq" (en MySQL es una tabla) y no de
+ * AUTO_INCREMENT: con IDENTITY Hibernate no puede agrupar los INSERT en batches JDBC.
+ * Cada lectura de la secuencia reserva ID_ALLOCATION_SIZE IDs en memoria.
+ *
+ * @DynamicUpdate: el UPDATE lleva solo las columnas modificadas, no la fila completa.
+ *
+ * Las restricciones de Bean Validation se validan una sola vez, en los DTOs de entrada;
+ * la validación de Hibernate al persistir está desactivada (jakarta.persistence.validation.mode: none).
  */
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
+@DynamicUpdate
 @Table(name = "personas")
 @Inheritance(strategy = InheritanceType.JOINED)
 public class Person {
 
+    public static final String ID_SEQUENCE = "personas_seq";
+    public static final int ID_ALLOCATION_SIZE = 50;
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = ID_SEQUENCE)
+    @SequenceGenerator(name = ID_SEQUENCE, sequenceName = ID_SEQUENCE, allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
     @NotBlank(message = "Name is required")
@@ -37,7 +54,7 @@ public class Person {
     private String gender;
 
     @NotBlank(message = "Identification is required")
-    @Pattern(regexp = "^[0-9]{10,20}$", message = "Identification must contain between 10 and 20 digits")
+    @Identification(message = "Identification must contain between 10 and 20 digits")
     @Column(name = "identificacion", unique = true, nullable = false, length = 20)
     private String identification;
 
@@ -45,7 +62,7 @@ public class Person {
     @Column(name = "direccion", length = 200)
     private String address;
 
-    @Pattern(regexp = "^[0-9+\\-\\s()]{7,15}$", message = "Invalid phone format")
+    @PhoneNumber
     @Column(name = "telefono", length = 15)
     private String phone;
 
@@ -55,6 +72,15 @@ public class Person {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    /**
+     * Versión para bloqueo optimista: Hibernate la compara y la incrementa en cada UPDATE,
+     * una escritura concurrente sobre la misma fila falla en vez de pisar la otra.
+     * Va en la raíz de la jerarquía JOINED (personas), Hibernate no admite @Version en la subclase.
+     */
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     /**
      * Callback antes de persistir
      */
@@ -87,17 +113,13 @@ public class Person {
                 name.trim().substring(1).toLowerCase();
     }
 
+    /**
+     * Cédula ecuatoriana válida: provincia (01-24 o 30), tercer dígito y dígito
+     * verificador módulo 10 (ver EcuadorianCedula). Antes solo se revisaba la
+     * provincia 01-24, así que ahora rechaza cédulas con dígito verificador errado
+     * y acepta la provincia 30.
+     */
     public boolean hasValidEcuadorianId() {
-        if (identification == null || identification.length() != 10) {
-            return false;
-        }
-
-        try {
-            int[] digits = identification.chars().map(c -> c - '0').toArray();
-            int province = digits[0] * 10 + digits[1];
-            return province >= 1 && province <= 24;
-        } catch (Exception e) {
-            return false;
-        }
+        return EcuadorianCedula.isValid(identification);
     }
 }
\ No newline at end of file
@@ -31,4 +31,16 @@ public class CustomerExceptions {
             super(message);
         }
     }
+
+    public static class CustomerVersionMismatchException extends RuntimeException {
+        public CustomerVersionMismatchException(String message) {
+            super(message);
+        }
+    }
+
+    public static class CustomerVerificationThrottledException extends RuntimeException {
+        public CustomerVerificationThrottledException(String message) {
+            super(message);
+        }
+    }
 }
\ No newline at end of file
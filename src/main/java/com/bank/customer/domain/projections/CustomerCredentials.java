@@ -0,0 +1,12 @@
+package com.bank.customer.domain.projections;
+
+/**
+ * Datos mínimos para verificar una contraseña: sin columnas personales, una sola
+ * consulta por el índice único de identificacion.
+ */
+public record CustomerCredentials(
+        Long id,
+        String password,
+        Boolean status
+) {
+}
@@ -0,0 +1,22 @@
+package com.bank.customer.domain.projections;
+
+import java.time.LocalDateTime;
+
+/**
+ * Vista de solo lectura de un cliente: exactamente las columnas públicas, sin contraseña.
+ * Se construye directo desde la consulta (SELECT new ...), sin entidad administrada
+ * ni snapshot para dirty checking.
+ */
+public record CustomerProjection(
+        Long id,
+        String name,
+        String gender,
+        String identification,
+        String address,
+        String phone,
+        Boolean status,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        Long version
+) {
+}
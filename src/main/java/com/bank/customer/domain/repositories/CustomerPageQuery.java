@@ -0,0 +1,25 @@
+package com.bank.customer.domain.repositories;
+
+import java.time.LocalDateTime;
+
+/**
+ * Consulta de una página keyset de clientes.
+ *
+ * @param sort          orden de la página
+ * @param lastId        ID del último cliente de la página anterior (null en la primera página)
+ * @param lastUpdatedAt updated_at del último cliente de la página anterior (solo con UPDATED_AT)
+ * @param status        filtro por estado (null = todos)
+ * @param limit         máximo de filas a leer
+ */
+public record CustomerPageQuery(
+        CustomerSort sort,
+        Long lastId,
+        LocalDateTime lastUpdatedAt,
+        Boolean status,
+        int limit
+) {
+
+    public boolean isFirstPage() {
+        return lastId == null;
+    }
+}
@@ -2,9 +2,14 @@
 package com.bank.customer.domain.repositories;
 
 import com.bank.customer.domain.entities.Customer;
+import com.bank.customer.domain.projections.CustomerCredentials;
+import com.bank.customer.domain.projections.CustomerProjection;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Repository interface para Customer en el dominio.
@@ -17,25 +22,60 @@ public interface CustomerRepository {
     // Guarda un cliente (crea o actualiza)
     Customer save(Customer customer);
 
+    // Guarda varios clientes nuevos con INSERT en batch JDBC
+    List<Customer> saveAll(List<Customer> customers);
+
      // Busca un cliente por ID
     Optional<Customer> findById(Long id);
 
     // Obtiene todos los clientes
     List<Customer> findAll();
 
+    // Obtiene un bloque de proyecciones con ID mayor a afterId, ordenadas por ID
+    List<CustomerProjection> findAllAfterId(Long afterId, int limit);
+
+    // Busca un cliente por ID como proyección de solo lectura
+    Optional<CustomerProjection> findProjectionById(Long id);
+
+    // Obtiene todos los clientes como proyecciones de solo lectura
+    List<CustomerProjection> findAllProjections();
+
+    // Obtiene una página keyset de clientes (orden, posición y filtro en la consulta)
+    List<CustomerProjection> findPage(CustomerPageQuery query);
+
     // Actualiza un cliente existente
     Customer update(Customer customer);
 
     // Elimina un cliente por ID
     void deleteById(Long id);
 
-    // Verifica si existe un cliente con la identificación dada
-    boolean existsByIdentificacion(String identificacion);
+    // Cambia el estado con un solo UPDATE; devuelve las filas afectadas (0 = no existe)
+    int updateStatus(Long id, boolean status);
+
+    // Cambia el estado de varios clientes con un solo UPDATE; devuelve las filas afectadas
+    int updateStatus(Collection<Long> ids, boolean status);
 
-    //  Busca un cliente por identificación
-    Optional<Customer> findByIdentificacion(String identificacion);
+    // Elimina con un solo DELETE; devuelve la identificación del cliente borrado (vacío = no existe)
+    Optional<String> deleteDirectlyById(Long id);
 
+    // Elimina varios clientes con un solo DELETE; devuelve la identificación de cada ID borrado
+    Map<Long, String> deleteDirectlyByIds(Collection<Long> ids);
+
+    // Reemplaza el hash de la contraseña solo si sigue siendo currentPassword (0 = cambió antes)
+    int updatePassword(Long id, String currentPassword, String newPassword);
+
+    // Verifica si existe un cliente con la identificación dada
     boolean existsByIdentification(String identification);
 
+    // Busca un cliente por identificación (entidad administrada, para escrituras)
     Optional<Customer> findByIdentification(String identification);
+
+    // Busca un cliente por identificación como proyección de solo lectura (una consulta, sin entidad)
+    Optional<CustomerProjection> findProjectionByIdentification(String identification);
+
+    // Hash de la contraseña y estado para verificar credenciales
+    Optional<CustomerCredentials> findCredentialsByIdentification(String identification);
+
+    // Devuelve el subconjunto de identificaciones que ya existen (una sola consulta)
+    Set<String> findExistingIdentifications(Collection<String> identifications);
 }
\ No newline at end of file
@@ -0,0 +1,14 @@
+package com.bank.customer.domain.repositories;
+
+/**
+ * Orden soportado por la paginación keyset de clientes.
+ * Cada valor corresponde a un índice: personas(id) y personas(updated_at, id).
+ */
+public enum CustomerSort {
+
+    // Orden por personas.id ascendente
+    ID,
+
+    // Orden por personas.updated_at ascendente, desempate por id
+    UPDATED_AT
+}
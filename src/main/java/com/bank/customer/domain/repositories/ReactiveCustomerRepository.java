@@ -0,0 +1,19 @@
+package com.bank.customer.domain.repositories;
+
+import com.bank.customer.domain.projections.CustomerProjection;
+import reactor.core.publisher.Flux;
+
+/**
+ * Puerto reactivo de lectura de Customer en el dominio.
+ * Solo cubre el streaming de todos los clientes: altas, cambios y bajas van por
+ * CustomerRepository dentro de las transacciones JPA del servicio.
+ *
+ * Implementaciones:
+ * - R2DBC (perfil "r2dbc"): una consulta con backpressure del driver contra MySQL
+ * - JPA (por defecto): bloques keyset de CustomerRepository fuera del event loop
+ */
+public interface ReactiveCustomerRepository {
+
+    // Obtiene todos los clientes como proyecciones de solo lectura (sin contraseña), en orden de ID
+    Flux<CustomerProjection> findAll();
+}
@@ -0,0 +1,51 @@
+package com.bank.customer.domain.validation;
+
+/**
+ * Cédula de identidad ecuatoriana (personas naturales):
+ * - 10 dígitos
+ * - provincia (dos primeros) entre 01 y 24, o 30 (ecuatorianos registrados en el exterior)
+ * - tercer dígito menor a 6
+ * - dígito verificador módulo 10: los 9 primeros por los coeficientes 2,1,2,1,...
+ *   (restando 9 a los productos mayores a 9); el décimo dígito es (10 - suma % 10) % 10
+ */
+public final class EcuadorianCedula {
+
+    static final int LENGTH = 10;
+
+    private EcuadorianCedula() {
+    }
+
+    public static boolean isValid(CharSequence value) {
+        if (value == null || value.length() != LENGTH) {
+            return false;
+        }
+
+        int sum = 0;
+        for (int i = 0; i < LENGTH - 1; i++) {
+            int digit = digit(value.charAt(i));
+            if (digit < 0) {
+                return false;
+            }
+            int product = (i % 2 == 0) ? digit * 2 : digit;
+            sum += product > 9 ? product - 9 : product;
+        }
+
+        int checkDigit = digit(value.charAt(LENGTH - 1));
+        if (checkDigit < 0) {
+            return false;
+        }
+
+        int province = digit(value.charAt(0)) * 10 + digit(value.charAt(1));
+        if ((province < 1 || province > 24) && province != 30) {
+            return false;
+        }
+        if (digit(value.charAt(2)) >= 6) {
+            return false;
+        }
+        return (10 - sum % 10) % 10 == checkDigit;
+    }
+
+    private static int digit(char c) {
+        return c >= '0' && c <= '9' ? c - '0' : -1;
+    }
+}
@@ -0,0 +1,33 @@
+package com.bank.customer.domain.validation;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.PARAMETER;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * Identificación de 10 a 20 dígitos ASCII: equivale a @Pattern(regexp = "^[0-9]{10,20}$")
+ * pero se valida con un solo recorrido de caracteres, sin Matcher.
+ *
+ * No exige cédula ecuatoriana: el campo también lleva pasaportes y RUC
+ * (la cédula se verifica con Person.hasValidEcuadorianId).
+ * null es válido: la obligatoriedad la da @NotBlank.
+ */
+@Documented
+@Constraint(validatedBy = IdentificationValidator.class)
+@Target({FIELD, PARAMETER})
+@Retention(RUNTIME)
+public @interface Identification {
+
+    String message() default "Identification must contain between 10 and 20 numeric digits";
+
+    Class<?>[] groups() default {};
+
+    Class<? extends Payload>[] payload() default {};
+}
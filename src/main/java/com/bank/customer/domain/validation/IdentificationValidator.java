@@ -0,0 +1,35 @@
+package com.bank.customer.domain.validation;
+
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+
+/**
+ * Valida @Identification sin expresiones regulares ni asignaciones.
+ */
+public class IdentificationValidator implements ConstraintValidator<Identification, CharSequence> {
+
+    static final int MIN_LENGTH = 10;
+    static final int MAX_LENGTH = 20;
+
+    @Override
+    public boolean isValid(CharSequence value, ConstraintValidatorContext context) {
+        return value == null || isValidIdentification(value);
+    }
+
+    /**
+     * Mismo resultado que "^[0-9]{10,20}$"
+     */
+    public static boolean isValidIdentification(CharSequence value) {
+        int length = value.length();
+        if (length < MIN_LENGTH || length > MAX_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,30 @@
+package com.bank.customer.domain.validation;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.PARAMETER;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * Teléfono de 7 a 15 caracteres entre dígitos, +, -, espacios y paréntesis: equivale a
+ * @Pattern(regexp = "^[0-9+\\-\\s()]{7,15}$") validado con un solo recorrido, sin Matcher.
+ * null es válido.
+ */
+@Documented
+@Constraint(validatedBy = PhoneNumberValidator.class)
+@Target({FIELD, PARAMETER})
+@Retention(RUNTIME)
+public @interface PhoneNumber {
+
+    String message() default "Invalid phone format";
+
+    Class<?>[] groups() default {};
+
+    Class<? extends Payload>[] payload() default {};
+}
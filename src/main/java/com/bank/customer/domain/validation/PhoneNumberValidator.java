@@ -0,0 +1,40 @@
+package com.bank.customer.domain.validation;
+
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+
+/**
+ * Valida @PhoneNumber sin expresiones regulares ni asignaciones.
+ */
+public class PhoneNumberValidator implements ConstraintValidator<PhoneNumber, CharSequence> {
+
+    static final int MIN_LENGTH = 7;
+    static final int MAX_LENGTH = 15;
+
+    @Override
+    public boolean isValid(CharSequence value, ConstraintValidatorContext context) {
+        return value == null || isValidPhone(value);
+    }
+
+    /**
+     * Mismo resultado que "^[0-9+\\-\\s()]{7,15}$" (\s de Java: espacio, \t, \n, \u000B, \f, \r)
+     */
+    public static boolean isValidPhone(CharSequence value) {
+        int length = value.length();
+        if (length < MIN_LENGTH || length > MAX_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (!isPhoneChar(value.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isPhoneChar(char c) {
+        return (c >= '0' && c <= '9')
+                || c == '+' || c == '-' || c == '(' || c == ')'
+                || c == ' ' || (c >= '\t' && c <= '\r');
+    }
+}
@@ -0,0 +1,130 @@
+package com.bank.customer.infrastructure.cache;
+
+import com.bank.customer.application.cache.CustomerCache;
+import com.bank.customer.application.dto.CustomerDTO;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * CustomerCache sobre Caffeine.
+ *
+ * Caffeine usa W-TinyLFU para decidir qué expulsar al llegar a maximum-size:
+ * los clientes consultados con frecuencia (p. ej. por el servicio de cuentas)
+ * se quedan aunque haya ráfagas de consultas de una sola vez.
+ *
+ * Cada invalidación deja su marca en evictions, dentro del mismo compute que quita
+ * la entrada; put corre en un compute sobre la misma clave y descarta el DTO si hubo
+ * una invalidación posterior a la lectura. Así una lectura lenta no vuelve a cachear
+ * la fila anterior a una escritura durante todo el TTL (y con ella un ETag viejo).
+ *
+ * Las estadísticas (hits, misses, evictions, size) se publican en Micrometer
+ * como cache.* con tag cache=customers-by-id / customers-by-identification.
+ */
+@Slf4j
+@Component
+public class CaffeineCustomerCache implements CustomerCache {
+
+    private final Cache<Long, CustomerDTO> byId;
+    private final Cache<String, Long> byIdentification;
+    // ID -> marca de la última invalidación; vive lo mismo que una entrada
+    private final Cache<Long, Long> evictions;
+    private final AtomicLong clock = new AtomicLong();
+
+    @Autowired
+    public CaffeineCustomerCache(MeterRegistry meterRegistry,
+                                 @Value("${customer.cache.max-size:100000}") long maxSize,
+                                 @Value("${customer.cache.ttl:10m}") Duration ttl) {
+        this(meterRegistry, maxSize, ttl, Ticker.systemTicker());
+    }
+
+    CaffeineCustomerCache(MeterRegistry meterRegistry, long maxSize, Duration ttl, Ticker ticker) {
+        this.byId = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .ticker(ticker)
+                .recordStats()
+                .build();
+        this.byIdentification = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .ticker(ticker)
+                .recordStats()
+                .build();
+        this.evictions = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .ticker(ticker)
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, byId, "customers-by-id");
+        CaffeineCacheMetrics.monitor(meterRegistry, byIdentification, "customers-by-identification");
+
+        log.info("Customer cache enabled: max size {}, TTL {}", maxSize, ttl);
+    }
+
+    @Override
+    public Optional<CustomerDTO> getById(Long id) {
+        return Optional.ofNullable(byId.getIfPresent(id)).map(CaffeineCustomerCache::copy);
+    }
+
+    @Override
+    public Optional<Long> getIdByIdentification(String identification) {
+        return Optional.ofNullable(byIdentification.getIfPresent(identification));
+    }
+
+    @Override
+    public long stamp() {
+        return clock.get();
+    }
+
+    @Override
+    public void put(CustomerDTO customer, long stamp) {
+        boolean[] stored = new boolean[1];
+        byId.asMap().compute(customer.getId(), (id, current) -> {
+            Long evictedAt = evictions.getIfPresent(id);
+            if (evictedAt != null && evictedAt > stamp) {
+                return current;
+            }
+            if (current != null && isNewer(current, customer)) {
+                return current;
+            }
+            stored[0] = true;
+            return copy(customer);
+        });
+
+        if (stored[0]) {
+            byIdentification.put(customer.getIdentification(), customer.getId());
+        }
+    }
+
+    @Override
+    public void evict(Long id, String identification) {
+        byId.asMap().compute(id, (key, current) -> {
+            evictions.put(key, clock.incrementAndGet());
+            return null;
+        });
+        if (identification != null) {
+            byIdentification.invalidate(identification);
+        }
+    }
+
+    private static boolean isNewer(CustomerDTO current, CustomerDTO candidate) {
+        return current.getVersion() != null && candidate.getVersion() != null
+                && current.getVersion() > candidate.getVersion();
+    }
+
+    private static CustomerDTO copy(CustomerDTO customer) {
+        return customer.toBuilder().build();
+    }
+}
@@ -0,0 +1,99 @@
+package com.bank.customer.infrastructure.config;
+
+import com.bank.customer.infrastructure.execution.BlockingExecutor;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.concurrent.Executors;
+
+/**
+ * Configuración del modo de ejecución para el trabajo bloqueante (JPA/JDBC).
+ *
+ * Modos soportados (customer.execution.mode):
+ * - bounded: scheduler boundedElastic con tantos hilos como conexiones tiene Hikari
+ * - virtual-threads: un hilo virtual por tarea (Java 21); el BlockingExecutor limita a
+ *   max-threads las tareas simultáneas (el pool de Hikari) y a queue-capacity las que esperan
+ *
+ * Los trabajos largos (importación/exportación) usan aparte el jobExecutor.
+ */
+@Slf4j
+@Configuration
+public class BlockingExecutionConfig {
+
+    static final String MODE_BOUNDED = "bounded";
+    static final String MODE_VIRTUAL_THREADS = "virtual-threads";
+
+    @Value("${customer.execution.mode:bounded}")
+    private String mode;
+
+    @Value("${customer.execution.bounded.max-threads:${spring.datasource.hikari.maximum-pool-size:10}}")
+    private int maxThreads;
+
+    @Value("${customer.execution.bounded.queue-capacity:1000}")
+    private int queueCapacity;
+
+    @Value("${customer.execution.jobs.max-threads:2}")
+    private int jobMaxThreads;
+
+    @Value("${customer.execution.jobs.queue-capacity:16}")
+    private int jobQueueCapacity;
+
+    @Bean(destroyMethod = "dispose")
+    @Primary
+    public Scheduler blockingScheduler() {
+        return switch (mode) {
+            case MODE_VIRTUAL_THREADS -> {
+                log.info("Blocking work will run on virtual threads: {} concurrent tasks, queue capacity {}",
+                        maxThreads, queueCapacity);
+                yield Schedulers.fromExecutorService(
+                        Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("customer-vt-", 0).factory()),
+                        "customer-vt"
+                );
+            }
+            case MODE_BOUNDED -> {
+                log.info("Blocking work will run on a bounded scheduler: {} threads, queue capacity {}",
+                        maxThreads, queueCapacity);
+                yield Schedulers.newBoundedElastic(maxThreads, queueCapacity, "customer-jdbc");
+            }
+            default -> throw new IllegalStateException(
+                    "Unsupported customer.execution.mode: " + mode + " (use 'bounded' or 'virtual-threads')"
+            );
+        };
+    }
+
+    @Bean
+    @Primary
+    public BlockingExecutor blockingExecutor(Scheduler blockingScheduler, MeterRegistry meterRegistry) {
+        if (MODE_VIRTUAL_THREADS.equals(mode)) {
+            // Los hilos virtuales no tienen tope: sin el Semaphore las tareas de más esperan conexión en Hikari
+            return new BlockingExecutor(blockingScheduler, "customer.blocking", mode, meterRegistry,
+                    maxThreads, queueCapacity);
+        }
+        return new BlockingExecutor(blockingScheduler, mode, meterRegistry);
+    }
+
+    /**
+     * Pool de trabajos largos (importaciones y exportaciones), siempre acotado y
+     * separado del de peticiones: con pocos hilos un trabajo en curso no provoca
+     * 503 por falta de hilos en las rutas CRUD
+     */
+    @Bean(destroyMethod = "dispose")
+    public Scheduler jobScheduler() {
+        log.info("Long-running jobs will run on a bounded scheduler: {} threads, queue capacity {}",
+                jobMaxThreads, jobQueueCapacity);
+        return Schedulers.newBoundedElastic(jobMaxThreads, jobQueueCapacity, "customer-jobs");
+    }
+
+    @Bean
+    public BlockingExecutor jobExecutor(@Qualifier("jobScheduler") Scheduler jobScheduler,
+                                        MeterRegistry meterRegistry) {
+        return new BlockingExecutor(jobScheduler, "customer.jobs", "bounded", meterRegistry);
+    }
+}
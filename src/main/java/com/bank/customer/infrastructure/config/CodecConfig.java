@@ -0,0 +1,83 @@
+package com.bank.customer.infrastructure.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.reactivestreams.Publisher;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerCodecConfigurer;
+import org.springframework.http.codec.cbor.Jackson2CborDecoder;
+import org.springframework.http.codec.cbor.Jackson2CborEncoder;
+import org.springframework.http.codec.json.Jackson2SmileDecoder;
+import org.springframework.http.codec.json.Jackson2SmileEncoder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.util.MimeType;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+/**
+ * Codecs binarios para los servicios internos (cuentas, movimientos), que llaman a este
+ * servicio constantemente: payloads más chicos y parseo más barato que JSON.
+ *
+ * - CBOR (application/cbor): no viene entre los codecs por defecto de WebFlux, se registra
+ *   (con un encoder que acepta Mono, ver SingleValueCborEncoder)
+ * - Smile (application/x-jackson-smile): se reemplaza el codec por defecto, que usa un
+ *   ObjectMapper propio sin la configuración de Spring Boot
+ *
+ * Ambos ObjectMappers salen del Jackson2ObjectMapperBuilder de Boot: mismos módulos,
+ * spring.jackson.* y @JsonComponent (CustomerDTOSerializer) que el JSON.
+ * Solo codifican valores únicos (Mono); los streams siguen en JSON/NDJSON.
+ */
+@Configuration
+public class CodecConfig implements WebFluxConfigurer {
+
+    static final MediaType APPLICATION_SMILE = new MediaType("application", "x-jackson-smile");
+
+    private final ObjectProvider<Jackson2ObjectMapperBuilder> objectMapperBuilder;
+
+    public CodecConfig(ObjectProvider<Jackson2ObjectMapperBuilder> objectMapperBuilder) {
+        this.objectMapperBuilder = objectMapperBuilder;
+    }
+
+    @Override
+    public void configureHttpMessageCodecs(ServerCodecConfigurer configurer) {
+        ObjectMapper cborMapper = objectMapperBuilder.getObject().factory(new CBORFactory()).build();
+        ObjectMapper smileMapper = objectMapperBuilder.getObject().factory(new SmileFactory()).build();
+
+        // Los constructores con ObjectMapper no tienen tipos por defecto: sin tipos no aceptan nada
+        configurer.customCodecs().registerWithDefaultConfig(new Jackson2CborDecoder(cborMapper, MediaType.APPLICATION_CBOR));
+        configurer.customCodecs().registerWithDefaultConfig(new SingleValueCborEncoder(cborMapper));
+
+        configurer.defaultCodecs().jackson2SmileDecoder(new Jackson2SmileDecoder(smileMapper, APPLICATION_SMILE));
+        configurer.defaultCodecs().jackson2SmileEncoder(new Jackson2SmileEncoder(smileMapper, APPLICATION_SMILE));
+    }
+
+    /**
+     * Jackson2CborEncoder rechaza todo encode() ("Does not support stream encoding yet"),
+     * y EncoderHttpMessageWriter pasa también los Mono por encode(): un valor único se
+     * codifica con encodeValue, los Flux siguen sin soporte.
+     */
+    static class SingleValueCborEncoder extends Jackson2CborEncoder {
+
+        SingleValueCborEncoder(ObjectMapper mapper) {
+            super(mapper, MediaType.APPLICATION_CBOR);
+        }
+
+        @Override
+        public Flux<DataBuffer> encode(Publisher<?> inputStream, DataBufferFactory bufferFactory,
+                                       ResolvableType elementType, MimeType mimeType, Map<String, Object> hints) {
+            if (inputStream instanceof Mono<?> value) {
+                return value.map(v -> encodeValue(v, bufferFactory, elementType, mimeType, hints)).flux();
+            }
+            return super.encode(inputStream, bufferFactory, elementType, mimeType, hints);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.bank.customer.infrastructure.config;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import java.time.Duration;
+
+/**
+ * Configuración R2DBC (perfil "r2dbc") para el adaptador reactivo de persistencia.
+ *
+ * La autoconfiguración R2DBC de Spring Boot está excluida en application.yml:
+ * JPA sigue siendo el único TransactionManager (R2DBC solo lee) y aquí solo
+ * se crea el pool de conexiones.
+ *
+ * El pool no se publica como bean ConnectionFactory: Spring Boot desactiva
+ * el DataSource JDBC cuando encuentra uno, y JPA lo necesita.
+ */
+@Configuration
+@Profile("r2dbc")
+public class R2dbcConfig implements DisposableBean {
+
+    @Value("${customer.r2dbc.url}")
+    private String url;
+
+    @Value("${customer.r2dbc.username}")
+    private String username;
+
+    @Value("${customer.r2dbc.password}")
+    private String password;
+
+    @Value("${customer.r2dbc.pool.initial-size:5}")
+    private int initialSize;
+
+    @Value("${customer.r2dbc.pool.max-size:20}")
+    private int maxSize;
+
+    @Value("${customer.r2dbc.pool.max-idle-time:30m}")
+    private Duration maxIdleTime;
+
+    private ConnectionPool connectionPool;
+
+    @Bean
+    public DatabaseClient r2dbcDatabaseClient() {
+        return DatabaseClient.create(connectionPool());
+    }
+
+    @Override
+    public void destroy() {
+        if (connectionPool != null) {
+            connectionPool.dispose();
+        }
+    }
+
+    private synchronized ConnectionFactory connectionPool() {
+        if (connectionPool != null) {
+            return connectionPool;
+        }
+
+        ConnectionFactoryOptions options = ConnectionFactoryOptions.parse(url).mutate()
+                .option(ConnectionFactoryOptions.USER, username)
+                .option(ConnectionFactoryOptions.PASSWORD, password)
+                .build();
+
+        ConnectionPoolConfiguration configuration = ConnectionPoolConfiguration
+                .builder(ConnectionFactories.get(options))
+                .initialSize(initialSize)
+                .maxSize(maxSize)
+                .maxIdleTime(maxIdleTime)
+                .build();
+
+        connectionPool = new ConnectionPool(configuration);
+        return connectionPool;
+    }
+}
@@ -0,0 +1,158 @@
+package com.bank.customer.infrastructure.execution;
+
+import com.bank.customer.application.execution.BlockingTaskRunner;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Ejecuta trabajo bloqueante (JPA/JDBC) fuera del event loop de reactor-netty.
+ * Todas las rutas del controller pasan por aquí, así una consulta lenta en MySQL
+ * solo ocupa un hilo del scheduler configurado y no bloquea otras conexiones.
+ *
+ * Métricas publicadas (tag "mode"):
+ * - customer.blocking.queue.depth: tareas suscritas que aún no empiezan
+ * - customer.blocking.active: tareas en ejecución
+ * - customer.blocking.wait: tiempo en cola hasta obtener hilo
+ * - customer.blocking.execution: tiempo de ejecución de la tarea
+ *
+ * Otros pools dedicados (trabajos largos, hash de contraseñas) reutilizan la clase
+ * con su propio prefijo de métricas.
+ *
+ * Con un scheduler sin límite propio (un hilo virtual por tarea) se pasa maxConcurrent:
+ * un Semaphore deja correr como mucho esa cantidad de tareas a la vez (el tamaño del
+ * pool de Hikari) y las demás esperan su permiso contadas en queue.depth; pasadas
+ * queueCapacity en espera se rechaza con RejectedExecutionException (HTTP 503),
+ * igual que la cola del boundedElastic.
+ */
+public class BlockingExecutor implements BlockingTaskRunner {
+
+    private final Scheduler scheduler;
+    // null: el scheduler ya limita la concurrencia
+    private final Semaphore permits;
+    private final int queueCapacity;
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicInteger active = new AtomicInteger();
+    private final Timer waitTimer;
+    private final Timer executionTimer;
+
+    public BlockingExecutor(Scheduler scheduler, String mode, MeterRegistry meterRegistry) {
+        this(scheduler, "customer.blocking", mode, meterRegistry);
+    }
+
+    public BlockingExecutor(Scheduler scheduler, String metricPrefix, String mode, MeterRegistry meterRegistry) {
+        this(scheduler, metricPrefix, mode, meterRegistry, 0, 0);
+    }
+
+    /**
+     * maxConcurrent > 0 limita las tareas en ejecución con un Semaphore y
+     * queueCapacity las que esperan permiso
+     */
+    public BlockingExecutor(Scheduler scheduler, String metricPrefix, String mode, MeterRegistry meterRegistry,
+                            int maxConcurrent, int queueCapacity) {
+        this.scheduler = scheduler;
+        this.permits = maxConcurrent > 0 ? new Semaphore(maxConcurrent) : null;
+        this.queueCapacity = queueCapacity;
+
+        Gauge.builder(metricPrefix + ".queue.depth", queued, AtomicInteger::get)
+                .description("Tareas esperando un hilo")
+                .tag("mode", mode)
+                .register(meterRegistry);
+        Gauge.builder(metricPrefix + ".active", active, AtomicInteger::get)
+                .description("Tareas en ejecución")
+                .tag("mode", mode)
+                .register(meterRegistry);
+
+        this.waitTimer = Timer.builder(metricPrefix + ".wait")
+                .description("Tiempo de espera en cola antes de ejecutar la tarea")
+                .tag("mode", mode)
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.executionTimer = Timer.builder(metricPrefix + ".execution")
+                .description("Tiempo de ejecución de la tarea")
+                .tag("mode", mode)
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public <T> Mono<T> call(Callable<T> task) {
+        return Mono.defer(() -> {
+            long enqueuedAt = System.nanoTime();
+            AtomicBoolean started = new AtomicBoolean();
+            int waiting = queued.incrementAndGet();
+            // Las tareas que van a tomar un permiso libre no cuentan como espera
+            if (permits != null && waiting > queueCapacity + permits.availablePermits()) {
+                queued.decrementAndGet();
+                return Mono.error(new RejectedExecutionException(
+                        "Blocking task queue is full (" + queueCapacity + " tasks waiting)"));
+            }
+
+            return Mono.fromCallable(() -> {
+                        // Con Semaphore la espera del permiso cuenta como cola (queue.depth y wait)
+                        if (permits != null) {
+                            permits.acquire();
+                        }
+                        try {
+                            if (started.compareAndSet(false, true)) {
+                                queued.decrementAndGet();
+                            }
+                            return execute(task, enqueuedAt);
+                        } finally {
+                            if (permits != null) {
+                                permits.release();
+                            }
+                        }
+                    })
+                    .subscribeOn(scheduler)
+                    .doFinally(signal -> {
+                        // Cancelada o rechazada antes de obtener hilo
+                        if (started.compareAndSet(false, true)) {
+                            queued.decrementAndGet();
+                        }
+                    });
+        });
+    }
+
+    @Override
+    public Mono<Void> run(Runnable task) {
+        return call(() -> {
+            task.run();
+            return null;
+        }).then();
+    }
+
+    /**
+     * Ejecuta una consulta bloqueante que devuelve varios elementos
+     */
+    public <T> Flux<T> callMany(Callable<? extends Iterable<T>> task) {
+        return call(task).flatMapIterable(items -> items);
+    }
+
+    public Scheduler scheduler() {
+        return scheduler;
+    }
+
+    private <T> T execute(Callable<T> task, long enqueuedAt) throws Exception {
+        long startedAt = System.nanoTime();
+        waitTimer.record(startedAt - enqueuedAt, TimeUnit.NANOSECONDS);
+
+        active.incrementAndGet();
+        try {
+            return task.call();
+        } finally {
+            active.decrementAndGet();
+            executionTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+}
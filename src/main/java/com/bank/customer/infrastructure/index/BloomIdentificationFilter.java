@@ -0,0 +1,238 @@
+package com.bank.customer.infrastructure.index;
+
+import com.bank.customer.application.index.IdentificationFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * IdentificationFilter con un filtro de Bloom en memoria.
+ *
+ * Dimensionado con customer.identification-filter.expected-insertions y
+ * false-positive-rate: con 10M identificaciones y 1% son ~12 MB y 7 hashes.
+ *
+ * - Carga: al arrancar, en un hilo aparte, leyendo personas.identificacion con un
+ *   cursor en streaming. Si la base no responde el filtro queda sin cargar y todas
+ *   las altas consultan la base como antes.
+ * - Altas: se agregan al filtro (también durante una reconstrucción). El servicio
+ *   las registra antes y después del commit: un alta confirmada después de que la
+ *   reconstrucción empezó a leer llega igual al filtro nuevo, porque rebuilding se
+ *   publica antes de la consulta.
+ * - Bajas físicas: dejan falsos positivos; al superar rebuild-after-deletions se
+ *   reconstruye el filtro completo en segundo plano.
+ *
+ * El índice único de personas.identificacion sigue siendo la garantía final.
+ */
+@Slf4j
+@Component
+public class BloomIdentificationFilter implements IdentificationFilter {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int numBits;
+    private final int numHashes;
+    private final int fetchSize;
+    private final long rebuildAfterDeletions;
+
+    private volatile Bits current;
+    private volatile Bits rebuilding;
+    private final AtomicBoolean rebuildRunning = new AtomicBoolean();
+    private final AtomicLong deletions = new AtomicLong();
+
+    private final Counter negatives;
+    private final Counter positives;
+
+    public BloomIdentificationFilter(JdbcTemplate jdbcTemplate,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${customer.identification-filter.expected-insertions:10000000}") long expectedInsertions,
+                                     @Value("${customer.identification-filter.false-positive-rate:0.01}") double falsePositiveRate,
+                                     @Value("${customer.identification-filter.rebuild-after-deletions:100000}") long rebuildAfterDeletions,
+                                     @Value("${customer.identification-filter.fetch-size:-2147483648}") int fetchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.rebuildAfterDeletions = rebuildAfterDeletions;
+        this.fetchSize = fetchSize;
+
+        // m = -n ln(p) / ln(2)^2, k = m/n ln(2)
+        double bits = -expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2));
+        this.numBits = (int) Math.min(Integer.MAX_VALUE - 63, Math.max(64, (long) bits));
+        this.numHashes = Math.max(1, (int) Math.round((double) numBits / expectedInsertions * Math.log(2)));
+
+        this.negatives = Counter.builder("customer.identification.filter")
+                .description("Consultas de duplicado resueltas por el filtro")
+                .tag("result", "absent")
+                .register(meterRegistry);
+        this.positives = Counter.builder("customer.identification.filter")
+                .description("Consultas de duplicado que requieren ir a la base")
+                .tag("result", "maybe")
+                .register(meterRegistry);
+        Gauge.builder("customer.identification.filter.ready", this, filter -> filter.current != null ? 1 : 0)
+                .description("1 si el filtro está cargado")
+                .register(meterRegistry);
+
+        log.info("Identification filter sized for {} entries at {} FPP: {} KB, {} hashes",
+                expectedInsertions, falsePositiveRate, numBits / 8 / 1024, numHashes);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        rebuildInBackground();
+    }
+
+    @Override
+    public boolean mightContain(String identification) {
+        Bits bits = current;
+        if (bits == null) {
+            positives.increment();
+            return true;
+        }
+
+        boolean maybe = bits.mightContain(hash(identification));
+        (maybe ? positives : negatives).increment();
+        return maybe;
+    }
+
+    /**
+     * Se lee rebuilding antes que current: rebuild publica current antes de limpiar
+     * rebuilding, así un alta que llega justo al terminar la reconstrucción ve el
+     * filtro nuevo en alguno de los dos y no se pierde con el filtro reemplazado
+     */
+    @Override
+    public void add(String identification) {
+        long hash = hash(identification);
+        // Una reconstrucción en curso puede haber leído ya esa parte de la tabla
+        Bits next = rebuilding;
+        if (next != null) {
+            next.put(hash);
+        }
+        Bits bits = current;
+        if (bits != null) {
+            bits.put(hash);
+        }
+    }
+
+    @Override
+    public void removed(int count) {
+        if (deletions.addAndGet(count) >= rebuildAfterDeletions) {
+            rebuildInBackground();
+        }
+    }
+
+    private void rebuildInBackground() {
+        if (!rebuildRunning.compareAndSet(false, true)) {
+            return;
+        }
+        Thread.ofPlatform().daemon().name("identification-filter-loader").start(this::rebuild);
+    }
+
+    private void rebuild() {
+        long startedAt = System.nanoTime();
+        Bits next = new Bits(numBits, numHashes);
+        // Se publica antes de empezar a leer: toda alta confirmada después de este
+        // punto se registra también en next (ver add)
+        rebuilding = next;
+        long deletionsBefore = deletions.get();
+
+        try {
+            AtomicLong rows = new AtomicLong();
+            jdbcTemplate.query(connection -> {
+                PreparedStatement statement = connection.prepareStatement(
+                        "SELECT identificacion FROM personas",
+                        ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                statement.setFetchSize(fetchSize);
+                return statement;
+            }, (ResultSet rs) -> {
+                next.put(hash(rs.getString(1)));
+                rows.incrementAndGet();
+            });
+
+            current = next;
+            deletions.addAndGet(-deletionsBefore);
+            log.info("Identification filter loaded with {} identifications in {} ms",
+                    rows.get(), (System.nanoTime() - startedAt) / 1_000_000);
+        } catch (RuntimeException e) {
+            log.warn("Identification filter could not be loaded, duplicate checks will query the database: {}",
+                    e.getMessage());
+        } finally {
+            rebuilding = null;
+            rebuildRunning.set(false);
+        }
+    }
+
+    /**
+     * Hash de 64 bits (FNV-1a + mezcla final de murmur3) sobre los bytes de la identificación
+     */
+    static long hash(String identification) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : identification.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    /**
+     * Arreglo de bits concurrente: k posiciones por doble hashing (h1 + i*h2)
+     */
+    private static class Bits {
+
+        private final AtomicLongArray words;
+        private final int numBits;
+        private final int numHashes;
+
+        Bits(int numBits, int numHashes) {
+            this.words = new AtomicLongArray((numBits + 63) / 64);
+            this.numBits = numBits;
+            this.numHashes = numHashes;
+        }
+
+        void put(long hash) {
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 1; i <= numHashes; i++) {
+                int bit = index(h1 + i * h2);
+                long mask = 1L << bit;
+                int word = bit >>> 6;
+                long value;
+                do {
+                    value = words.get(word);
+                    if ((value & mask) != 0) {
+                        break;
+                    }
+                } while (!words.compareAndSet(word, value, value | mask));
+            }
+        }
+
+        boolean mightContain(long hash) {
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 1; i <= numHashes; i++) {
+                int bit = index(h1 + i * h2);
+                if ((words.get(bit >>> 6) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private int index(int combined) {
+            return (combined & Integer.MAX_VALUE) % numBits;
+        }
+    }
+}
@@ -0,0 +1,291 @@
+package com.bank.customer.infrastructure.index;
+
+import com.bank.customer.application.index.IdentificationIndex;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.OptionalLong;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * IdentificationIndex como tabla hash de direccionamiento abierto sobre dos long[]
+ * (sin String, sin Long, sin nodos): ~16 bytes por slot, contra más de 100 bytes por
+ * entrada de un HashMap<String, Long>.
+ *
+ * Las identificaciones son de 10 a 20 dígitos (@Identification en Person), así que se codifican:
+ * - clave: los últimos 18 dígitos como número (< 2^60)
+ * - etiqueta: dígitos iniciales sobrantes (0-99) * 32 + largo, para distinguir
+ *   "0012345678..." de "12345678..." y las de 19-20 dígitos con igual cola
+ * - valor: etiqueta << 52 | id (0 = slot vacío)
+ *
+ * Sondeo lineal con borrado por desplazamiento hacia atrás (sin tombstones).
+ * La carga inicial corre en segundo plano; hasta terminar canAnswer devuelve false.
+ */
+@Slf4j
+@Component
+public class PrimitiveIdentificationIndex implements IdentificationIndex {
+
+    private static final int ID_BITS = 52;
+    private static final long ID_MASK = (1L << ID_BITS) - 1;
+    private static final int TAIL_DIGITS = 18;
+    private static final double MAX_LOAD = 0.75;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int fetchSize;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private long[] keys;
+    private long[] values;
+    private int size;
+    private volatile boolean ready;
+
+    public PrimitiveIdentificationIndex(JdbcTemplate jdbcTemplate,
+                                        MeterRegistry meterRegistry,
+                                        @Value("${customer.identification-index.initial-capacity:1048576}") int initialCapacity,
+                                        @Value("${customer.identification-index.fetch-size:-2147483648}") int fetchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.fetchSize = fetchSize;
+
+        int capacity = Integer.highestOneBit(Math.max(15, initialCapacity - 1)) << 1;
+        this.keys = new long[capacity];
+        this.values = new long[capacity];
+
+        Gauge.builder("customer.identification.index.size", this, PrimitiveIdentificationIndex::size)
+                .description("Identificaciones en el índice en memoria")
+                .register(meterRegistry);
+        Gauge.builder("customer.identification.index.bytes", this, PrimitiveIdentificationIndex::memoryBytes)
+                .description("Memoria ocupada por las tablas del índice")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        Thread.ofPlatform().daemon().name("identification-index-loader").start(this::loadAll);
+    }
+
+    private void loadAll() {
+        long startedAt = System.nanoTime();
+        try {
+            AtomicLong rows = new AtomicLong();
+            jdbcTemplate.query(connection -> {
+                PreparedStatement statement = connection.prepareStatement(
+                        "SELECT id, identificacion FROM personas",
+                        ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                statement.setFetchSize(fetchSize);
+                return statement;
+            }, (ResultSet rs) -> {
+                put(rs.getString(2), rs.getLong(1));
+                rows.incrementAndGet();
+            });
+
+            ready = true;
+            log.info("Identification index loaded with {} identifications ({} KB) in {} ms",
+                    rows.get(), memoryBytes() / 1024, (System.nanoTime() - startedAt) / 1_000_000);
+        } catch (RuntimeException e) {
+            log.warn("Identification index could not be loaded, lookups will query the database: {}",
+                    e.getMessage());
+        }
+    }
+
+    @Override
+    public boolean canAnswer(String identification) {
+        return ready && tag(identification) >= 0;
+    }
+
+    @Override
+    public OptionalLong findCustomerId(String identification) {
+        int tag = tag(identification);
+        if (tag < 0) {
+            return OptionalLong.empty();
+        }
+        long key = key(identification);
+
+        lock.readLock().lock();
+        try {
+            int slot = find(key, tag);
+            return slot >= 0 ? OptionalLong.of(values[slot] & ID_MASK) : OptionalLong.empty();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void put(String identification, long customerId) {
+        int tag = tag(identification);
+        if (tag < 0 || customerId <= 0 || customerId > ID_MASK) {
+            return;
+        }
+        long key = key(identification);
+        long value = ((long) tag << ID_BITS) | customerId;
+
+        lock.writeLock().lock();
+        try {
+            if (size + 1 > keys.length * MAX_LOAD) {
+                resize(keys.length << 1);
+            }
+            int mask = keys.length - 1;
+            int slot = slot(key, mask);
+            while (values[slot] != 0) {
+                if (keys[slot] == key && tagOf(values[slot]) == tag) {
+                    values[slot] = value;
+                    return;
+                }
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = key;
+            values[slot] = value;
+            size++;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(String identification) {
+        int tag = tag(identification);
+        if (tag < 0) {
+            return;
+        }
+        long key = key(identification);
+
+        lock.writeLock().lock();
+        try {
+            int slot = find(key, tag);
+            if (slot >= 0) {
+                delete(slot);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    long memoryBytes() {
+        lock.readLock().lock();
+        try {
+            return (long) keys.length * Long.BYTES * 2;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ========== TABLA HASH ==========
+
+    private int find(long key, int tag) {
+        int mask = keys.length - 1;
+        int slot = slot(key, mask);
+        while (values[slot] != 0) {
+            if (keys[slot] == key && tagOf(values[slot]) == tag) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * Borra el slot y corre hacia atrás las entradas siguientes del mismo cluster
+     * que quedarían inalcanzables desde su posición ideal
+     */
+    private void delete(int slot) {
+        int mask = keys.length - 1;
+        int hole = slot;
+        int next = (hole + 1) & mask;
+        while (values[next] != 0) {
+            int ideal = slot(keys[next], mask);
+            // ¿la posición ideal de "next" está fuera del tramo (hole, next]?
+            boolean movable = hole <= next
+                    ? ideal <= hole || ideal > next
+                    : ideal <= hole && ideal > next;
+            if (movable) {
+                keys[hole] = keys[next];
+                values[hole] = values[next];
+                hole = next;
+            }
+            next = (next + 1) & mask;
+        }
+        keys[hole] = 0;
+        values[hole] = 0;
+        size--;
+    }
+
+    private void resize(int capacity) {
+        long[] oldKeys = keys;
+        long[] oldValues = values;
+        keys = new long[capacity];
+        values = new long[capacity];
+
+        int mask = capacity - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldValues[i] != 0) {
+                int slot = slot(oldKeys[i], mask);
+                while (values[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    static int slot(long key, int mask) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    private static int tagOf(long value) {
+        return (int) (value >>> ID_BITS);
+    }
+
+    // ========== CODIFICACIÓN ==========
+
+    /**
+     * Últimos 18 dígitos como número
+     */
+    static long key(String identification) {
+        long key = 0;
+        for (int i = Math.max(0, identification.length() - TAIL_DIGITS); i < identification.length(); i++) {
+            key = key * 10 + (identification.charAt(i) - '0');
+        }
+        return key;
+    }
+
+    /**
+     * Dígitos iniciales sobrantes * 32 + largo, o -1 si no es una identificación de 10 a 20 dígitos
+     */
+    static int tag(String identification) {
+        int length = identification.length();
+        if (length < 10 || length > 20) {
+            return -1;
+        }
+        int lead = 0;
+        for (int i = 0; i < length; i++) {
+            char c = identification.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            if (i < length - TAIL_DIGITS) {
+                lead = lead * 10 + (c - '0');
+            }
+        }
+        return lead * 32 + length;
+    }
+}
@@ -0,0 +1,56 @@
+package com.bank.customer.infrastructure.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Deja pasar solo una fracción (sampleRate) de los eventos DEBUG/TRACE de los loggers
+ * bajo "prefix"; INFO y superiores nunca se filtran.
+ *
+ * Es un TurboFilter: decide antes de crear el LoggingEvent y de formatear el mensaje,
+ * un evento descartado cuesta una comparación y un número aleatorio.
+ * Así se puede activar DEBUG en producción (actuator /loggers) sin inundar el disco.
+ *
+ * Solo se muestrea la llamada que trae mensaje (format != null). Los guards
+ * isDebugEnabled() llegan sin mensaje y siempre pasan: si también se muestrearan,
+ * el código con guard registraría sampleRate² de sus eventos en vez de sampleRate.
+ *
+ * Configuración en logback-spring.xml:
+ *   &lt;turboFilter class="...SampledDebugTurboFilter"&gt;
+ *     &lt;prefix&gt;com.bank.customer&lt;/prefix&gt;
+ *     &lt;sampleRate&gt;0.01&lt;/sampleRate&gt;
+ *   &lt;/turboFilter&gt;
+ */
+public class SampledDebugTurboFilter extends TurboFilter {
+
+    private String prefix = "";
+    private double sampleRate = 1.0;
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (format == null || level == null || level.toInt() > Level.DEBUG_INT || sampleRate >= 1.0) {
+            return FilterReply.NEUTRAL;
+        }
+        // Nivel efectivo directo: isEnabledFor volvería a pasar por los TurboFilters
+        if (!logger.getName().startsWith(prefix) || !level.isGreaterOrEqual(logger.getEffectiveLevel())) {
+            return FilterReply.NEUTRAL;
+        }
+        return ThreadLocalRandom.current().nextDouble() < sampleRate ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+
+    public void setPrefix(String prefix) {
+        this.prefix = prefix;
+    }
+
+    public void setSampleRate(double sampleRate) {
+        if (sampleRate < 0.0 || sampleRate > 1.0) {
+            throw new IllegalArgumentException("sampleRate must be between 0 and 1: " + sampleRate);
+        }
+        this.sampleRate = sampleRate;
+    }
+}
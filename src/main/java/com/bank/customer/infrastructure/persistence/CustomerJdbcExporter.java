@@ -0,0 +1,298 @@
+package com.bank.customer.infrastructure.persistence;
+
+import com.bank.customer.application.dto.CustomerFileFormat;
+import com.bank.customer.application.export.CustomerExporter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * CustomerExporter sobre JDBC: el directorio de clientes (personas JOIN clientes)
+ * directo a un canal NIO.
+ *
+ * - Cursor forward-only / read-only: con fetch size Integer.MIN_VALUE el driver de MySQL
+ *   entrega las filas en streaming en vez de cargar el resultado completo en memoria
+ * - Cada fila se escribe como texto desde el ResultSet: no se crean entidades ni DTOs
+ * - Las filas se codifican a UTF-8 en un ByteBuffer directo tomado de un pool y se
+ *   vuelcan al canal cuando se llena
+ *
+ * Nunca se exporta la contraseña.
+ */
+@Slf4j
+@Component
+public class CustomerJdbcExporter implements CustomerExporter {
+
+    private static final String SELECT_EXPORT = """
+            SELECT p.id, p.nombre, p.genero, p.identificacion, p.direccion, p.telefono,
+                   c.estado, p.created_at, p.updated_at
+            FROM personas p
+            JOIN clientes c ON c.id = p.id
+            """;
+
+    private static final String[] COLUMNS = {
+            "id", "name", "gender", "identification", "address", "phone", "status", "createdAt", "updatedAt"
+    };
+
+    private static final DateTimeFormatter TIMESTAMP_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int fetchSize;
+    private final BlockingQueue<ByteBuffer> bufferPool;
+    private final int bufferSize;
+
+    public CustomerJdbcExporter(JdbcTemplate jdbcTemplate,
+                                @Value("${customer.export.fetch-size:-2147483648}") int fetchSize,
+                                @Value("${customer.export.buffer-size:65536}") int bufferSize,
+                                @Value("${customer.export.buffer-pool-size:4}") int bufferPoolSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.fetchSize = fetchSize;
+        this.bufferSize = bufferSize;
+        this.bufferPool = new ArrayBlockingQueue<>(bufferPoolSize);
+    }
+
+    @Override
+    public long export(CustomerFileFormat format, Boolean status, LocalDateTime updatedSince,
+                       WritableByteChannel channel) {
+        StringBuilder sql = new StringBuilder(SELECT_EXPORT).append("WHERE 1 = 1");
+        List<Object> params = new ArrayList<>(2);
+        if (status != null) {
+            sql.append(" AND c.estado = ?");
+            params.add(status);
+        }
+        if (updatedSince != null) {
+            sql.append(" AND p.updated_at >= ?");
+            params.add(Timestamp.valueOf(updatedSince));
+        }
+        sql.append(" ORDER BY p.id");
+
+        log.info("Exporting customers as {} (status={}, updatedSince={})", format, status, updatedSince);
+
+        ByteBuffer buffer = acquireBuffer();
+        try {
+            RowWriter writer = new RowWriter(channel, buffer);
+            if (format == CustomerFileFormat.CSV) {
+                writer.writeCsvHeader();
+            }
+
+            jdbcTemplate.query(connection -> {
+                PreparedStatement statement = connection.prepareStatement(
+                        sql.toString(), ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                statement.setFetchSize(fetchSize);
+                for (int i = 0; i < params.size(); i++) {
+                    statement.setObject(i + 1, params.get(i));
+                }
+                return statement;
+            }, (ResultSet rs) -> {
+                if (format == CustomerFileFormat.CSV) {
+                    writer.writeCsvRow(rs);
+                } else {
+                    writer.writeJsonRow(rs);
+                }
+            });
+
+            writer.flush();
+            log.info("Exported {} customers", writer.rows);
+            return writer.rows;
+        } finally {
+            releaseBuffer(buffer);
+        }
+    }
+
+    private ByteBuffer acquireBuffer() {
+        ByteBuffer buffer = bufferPool.poll();
+        return buffer != null ? buffer : ByteBuffer.allocateDirect(bufferSize);
+    }
+
+    private void releaseBuffer(ByteBuffer buffer) {
+        buffer.clear();
+        // Si el pool está lleno el buffer se descarta y lo recoge el GC
+        bufferPool.offer(buffer);
+    }
+
+    /**
+     * Arma cada fila en un StringBuilder reutilizado y la codifica al buffer directo.
+     * Una instancia por exportación (CharsetEncoder no es thread-safe).
+     */
+    private static class RowWriter {
+
+        private final WritableByteChannel channel;
+        private final ByteBuffer buffer;
+        // Un surrogate suelto (dato corrupto) sale como '?' en vez de abortar la fila
+        private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        private final StringBuilder row = new StringBuilder(256);
+        private long rows;
+
+        RowWriter(WritableByteChannel channel, ByteBuffer buffer) {
+            this.channel = channel;
+            this.buffer = buffer;
+        }
+
+        void writeCsvHeader() {
+            row.append(String.join(",", COLUMNS)).append('\n');
+            encodeRow();
+        }
+
+        void writeCsvRow(ResultSet rs) throws SQLException {
+            row.append(rs.getLong(1));
+            for (int column = 2; column <= 6; column++) {
+                row.append(',');
+                appendCsv(rs.getString(column));
+            }
+            row.append(',').append(rs.getBoolean(7));
+            row.append(',');
+            appendTimestamp(rs.getTimestamp(8));
+            row.append(',');
+            appendTimestamp(rs.getTimestamp(9));
+            row.append('\n');
+            encodeRow();
+            rows++;
+        }
+
+        void writeJsonRow(ResultSet rs) throws SQLException {
+            row.append("{\"").append(COLUMNS[0]).append("\":").append(rs.getLong(1));
+            for (int column = 2; column <= 6; column++) {
+                String value = rs.getString(column);
+                if (value != null) {
+                    row.append(",\"").append(COLUMNS[column - 1]).append("\":");
+                    appendJson(value);
+                }
+            }
+            row.append(",\"").append(COLUMNS[6]).append("\":").append(rs.getBoolean(7));
+            appendJsonTimestamp(COLUMNS[7], rs.getTimestamp(8));
+            appendJsonTimestamp(COLUMNS[8], rs.getTimestamp(9));
+            row.append("}\n");
+            encodeRow();
+            rows++;
+        }
+
+        void flush() {
+            drain();
+        }
+
+        private void appendCsv(String value) {
+            if (value == null) {
+                return;
+            }
+            boolean quote = false;
+            for (int i = 0; i < value.length() && !quote; i++) {
+                char c = value.charAt(i);
+                quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+            }
+            if (!quote) {
+                row.append(value);
+                return;
+            }
+            row.append('"');
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c == '"') {
+                    row.append('"');
+                }
+                row.append(c);
+            }
+            row.append('"');
+        }
+
+        private void appendJson(String value) {
+            row.append('"');
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                switch (c) {
+                    case '"' -> row.append("\\\"");
+                    case '\\' -> row.append("\\\\");
+                    case '\n' -> row.append("\\n");
+                    case '\r' -> row.append("\\r");
+                    case '\t' -> row.append("\\t");
+                    default -> {
+                        if (c < 0x20) {
+                            row.append(String.format("\\u%04x", (int) c));
+                        } else {
+                            row.append(c);
+                        }
+                    }
+                }
+            }
+            row.append('"');
+        }
+
+        private void appendTimestamp(Timestamp timestamp) {
+            if (timestamp != null) {
+                TIMESTAMP_FORMAT.formatTo(timestamp.toLocalDateTime(), row);
+            }
+        }
+
+        private void appendJsonTimestamp(String name, Timestamp timestamp) {
+            if (timestamp != null) {
+                row.append(",\"").append(name).append("\":\"");
+                appendTimestamp(timestamp);
+                row.append('"');
+            }
+        }
+
+        /**
+         * Cada fila es una entrada completa: se codifica con endOfInput y flush, así
+         * ningún carácter queda retenido en el encoder para la fila siguiente
+         */
+        private void encodeRow() {
+            CharBuffer chars = CharBuffer.wrap(row);
+            encoder.reset();
+            CoderResult result;
+            while ((result = encoder.encode(chars, buffer, true)).isOverflow()) {
+                drain();
+            }
+            checkResult(result);
+            while ((result = encoder.flush(buffer)).isOverflow()) {
+                drain();
+            }
+            checkResult(result);
+            row.setLength(0);
+        }
+
+        private static void checkResult(CoderResult result) {
+            if (!result.isError()) {
+                return;
+            }
+            try {
+                result.throwException();
+            } catch (CharacterCodingException e) {
+                throw new IllegalStateException("Cannot encode export row", e);
+            }
+        }
+
+        private void drain() {
+            buffer.flip();
+            try {
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot write export", e);
+            }
+            buffer.clear();
+        }
+    }
+}
@@ -2,10 +2,18 @@
 package com.bank.customer.infrastructure.persistence;
 
 import com.bank.customer.domain.entities.Customer;
+import com.bank.customer.domain.projections.CustomerCredentials;
+import com.bank.customer.domain.projections.CustomerProjection;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -15,17 +23,183 @@ import java.util.Optional;
 @Repository
 public interface CustomerJpaRepository extends JpaRepository<Customer, Long> {
 
+    /**
+     * Proyección de lectura: solo las columnas del DTO (sin contraseña), construida
+     * con SELECT new, sin entidades administradas
+     */
+    String SELECT_PROJECTION = "SELECT new com.bank.customer.domain.projections.CustomerProjection("
+            + "c.id, c.name, c.gender, c.identification, c.address, c.phone, c.status, c.createdAt, c.updatedAt, c.version) "
+            + "FROM Customer c ";
+
     /**
      * Busca cliente por identificación (campo heredado de Person)
      * JPA hace el JOIN automáticamente gracias a la herencia
      */
     Optional<Customer> findByIdentification(String identification);
 
+    /**
+     * Proyección por identificación: un solo SELECT de las columnas públicas con
+     * el JOIN personas/clientes, resuelto por el índice único de identificacion
+     */
+    @Query(SELECT_PROJECTION + "WHERE c.identification = :identification")
+    Optional<CustomerProjection> findProjectionByIdentification(@Param("identification") String identification);
+
+    /**
+     * Hash de la contraseña y estado por identificación (JOIN personas/clientes por el índice único)
+     */
+    @Query("SELECT new com.bank.customer.domain.projections.CustomerCredentials(c.id, c.password, c.status) "
+            + "FROM Customer c WHERE c.identification = :identification")
+    Optional<CustomerCredentials> findCredentialsByIdentification(@Param("identification") String identification);
+
     /**
      * Verifica si existe cliente con esa identificación
      */
     boolean existsByIdentification(String identification);
 
+    /**
+     * Devuelve cuáles de las identificaciones dadas ya existen, en una sola consulta
+     * (IN sobre el índice único de personas.identificacion)
+     */
+    @Query("SELECT p.identification FROM Person p WHERE p.identification IN :identifications")
+    List<String> findExistingIdentifications(@Param("identifications") Collection<String> identifications);
+
+    // ========== LECTURAS CON PROYECCIÓN ==========
+
+    /**
+     * Cliente por ID como proyección de solo lectura
+     */
+    @Query(SELECT_PROJECTION + "WHERE c.id = :id")
+    Optional<CustomerProjection> findProjectionById(@Param("id") Long id);
+
+    /**
+     * Todos los clientes como proyecciones, en orden de ID
+     */
+    @Query(SELECT_PROJECTION + "ORDER BY c.id ASC")
+    List<CustomerProjection> findAllProjections();
+
+    // ========== PAGINACIÓN KEYSET ==========
+    // Cada consulta arranca un rango sobre un índice y lee solo "limit" filas,
+    // el costo de una página profunda es igual al de la primera (sin OFFSET).
+
+    /**
+     * Página por ID (índice de la PK); también son los bloques del streaming de todos los clientes
+     */
+    @Query(SELECT_PROJECTION + "WHERE c.id > :id ORDER BY c.id ASC")
+    List<CustomerProjection> findPageAfterId(@Param("id") Long id, Limit limit);
+
+    /**
+     * Página por ID filtrada por estado (índice clientes(estado, id))
+     */
+    @Query(SELECT_PROJECTION + "WHERE c.status = :status AND c.id > :id ORDER BY c.id ASC")
+    List<CustomerProjection> findPageAfterId(@Param("status") Boolean status, @Param("id") Long id, Limit limit);
+
+    /**
+     * Primera página por fecha de actualización (índice personas(updated_at, id))
+     */
+    @Query(SELECT_PROJECTION + "ORDER BY c.updatedAt ASC, c.id ASC")
+    List<CustomerProjection> findFirstPageByUpdatedAt(Limit limit);
+
+    /**
+     * Primera página por fecha de actualización filtrada por estado
+     */
+    @Query(SELECT_PROJECTION + "WHERE c.status = :status ORDER BY c.updatedAt ASC, c.id ASC")
+    List<CustomerProjection> findFirstPageByUpdatedAt(@Param("status") Boolean status, Limit limit);
+
+    /**
+     * Página siguiente por fecha de actualización: (updated_at, id) > (:updatedAt, :id)
+     * Escrito como rango sobre updated_at para que MySQL use el índice compuesto
+     */
+    @Query(SELECT_PROJECTION
+            + "WHERE c.updatedAt >= :updatedAt AND (c.updatedAt > :updatedAt OR c.id > :id) "
+            + "ORDER BY c.updatedAt ASC, c.id ASC")
+    List<CustomerProjection> findPageByUpdatedAtAfter(@Param("updatedAt") LocalDateTime updatedAt,
+                                                      @Param("id") Long id,
+                                                      Limit limit);
+
+    /**
+     * Página siguiente por fecha de actualización filtrada por estado
+     */
+    @Query(SELECT_PROJECTION
+            + "WHERE c.status = :status "
+            + "AND c.updatedAt >= :updatedAt AND (c.updatedAt > :updatedAt OR c.id > :id) "
+            + "ORDER BY c.updatedAt ASC, c.id ASC")
+    List<CustomerProjection> findPageByUpdatedAtAfter(@Param("status") Boolean status,
+                                                      @Param("updatedAt") LocalDateTime updatedAt,
+                                                      @Param("id") Long id,
+                                                      Limit limit);
+
+    // ========== ESCRITURAS DIRECTAS ==========
+    // Una sola sentencia SQL, sin cargar la entidad: el conteo de filas indica si existía.
+    // Nativas a propósito: un UPDATE/DELETE JPQL sobre una jerarquía JOINED hace que
+    // Hibernate use tablas temporales.
+
+    /**
+     * Cambia el estado de un cliente (updated_at lo actualiza MySQL con ON UPDATE)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE clientes SET estado = :status WHERE id = :id", nativeQuery = true)
+    int updateStatus(@Param("id") Long id, @Param("status") boolean status);
+
+    /**
+     * Cambia el estado de varios clientes
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE clientes SET estado = :status WHERE id IN (:ids)", nativeQuery = true)
+    int updateStatus(@Param("ids") Collection<Long> ids, @Param("status") boolean status);
+
+    /**
+     * Incrementa la versión (personas.version) tras una escritura directa en clientes,
+     * así el ETag cambia y las actualizaciones con la versión anterior fallan
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE personas SET version = version + 1 WHERE id = :id", nativeQuery = true)
+    int incrementVersion(@Param("id") Long id);
+
+    /**
+     * Incrementa la versión de varios clientes
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE personas SET version = version + 1 WHERE id IN (:ids)", nativeQuery = true)
+    int incrementVersion(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Reemplaza el hash de la contraseña si no cambió desde que se leyó
+     * (un cambio de contraseña concurrente gana sobre el rehash)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE clientes SET contrasena = :newPassword WHERE id = :id AND contrasena = :currentPassword",
+            nativeQuery = true)
+    int updatePassword(@Param("id") Long id,
+                       @Param("currentPassword") String currentPassword,
+                       @Param("newPassword") String newPassword);
+
+    /**
+     * Identificación del cliente a borrar, bloqueando la fila (FOR UPDATE) para que
+     * el DELETE siguiente de la misma transacción borre exactamente lo leído
+     */
+    @Query(value = "SELECT identificacion FROM personas WHERE id = :id FOR UPDATE", nativeQuery = true)
+    Optional<String> lockIdentificationById(@Param("id") Long id);
+
+    /**
+     * ID e identificación de los clientes a borrar, bloqueando las filas (FOR UPDATE)
+     */
+    @Query(value = "SELECT id, identificacion FROM personas WHERE id IN (:ids) FOR UPDATE", nativeQuery = true)
+    List<Object[]> lockIdentificationsByIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Elimina un cliente: se borra de personas y clientes cae por ON DELETE CASCADE
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "DELETE FROM personas WHERE id = :id", nativeQuery = true)
+    int deleteDirectlyById(@Param("id") Long id);
+
+    /**
+     * Elimina varios clientes
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "DELETE FROM personas WHERE id IN (:ids)", nativeQuery = true)
+    int deleteDirectlyByIds(@Param("ids") Collection<Long> ids);
+
     /**
      * Busca clientes activos
      */
@@ -2,35 +2,85 @@
 package com.bank.customer.infrastructure.persistence;
 
 import com.bank.customer.domain.entities.Customer;
+import com.bank.customer.domain.projections.CustomerCredentials;
+import com.bank.customer.domain.projections.CustomerProjection;
+import com.bank.customer.domain.repositories.CustomerPageQuery;
 import com.bank.customer.domain.repositories.CustomerRepository;
+import com.bank.customer.domain.repositories.CustomerSort;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.jetbrains.annotations.NotNull;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Implementación JPA del CustomerRepository
  * JPA maneja herencia automáticamente
+ *
+ * Con customer.read-model.enabled=true las lecturas de proyección van a la tabla
+ * aplanada customer_view (sin JOIN); las escrituras siempre van a personas/clientes.
+ *
+ * Cada llamada se mide en el timer customer.repository (tags class y method).
  */
 @Slf4j
 @Component
+@Timed(value = "customer.repository", description = "Duración de las llamadas a CustomerRepository")
 @RequiredArgsConstructor
 public class CustomerRepositoryImpl implements CustomerRepository {
 
     private final CustomerJpaRepository customerRepository;
+    private final EntityManager entityManager;
+    private final CustomerViewRepository customerViewRepository;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}")
+    private int batchSize;
+
+    @Value("${customer.read-model.enabled:false}")
+    private boolean readModelEnabled;
 
     @Override
     @Transactional
     public Customer save(Customer customer) {
-        log.info("Saving customer with identification: {}", customer.getIdentification());
+        log.debug("Saving customer with identification: {}", customer.getIdentification());
 
         Customer saved = customerRepository.save(customer);
 
-        log.info("Customer saved successfully with ID: {}", saved.getId());
+        log.debug("Customer saved successfully with ID: {}", saved.getId());
+        return saved;
+    }
+
+    /**
+     * Inserta en bloques de hibernate.jdbc.batch_size: cada bloque sale como un
+     * INSERT batch en personas y otro en clientes; luego se limpia el contexto
+     * de persistencia para que la memoria no crezca con el tamaño del lote.
+     */
+    @Override
+    @Transactional
+    public List<Customer> saveAll(List<Customer> customers) {
+        log.debug("Saving {} customers in batches of {}", customers.size(), batchSize);
+
+        List<Customer> saved = new ArrayList<>(customers.size());
+        for (int from = 0; from < customers.size(); from += batchSize) {
+            List<Customer> chunk = customers.subList(from, Math.min(from + batchSize, customers.size()));
+            saved.addAll(customerRepository.saveAll(chunk));
+            entityManager.flush();
+            entityManager.clear();
+        }
+
+        log.debug("{} customers saved successfully", saved.size());
         return saved;
     }
 
@@ -58,35 +108,164 @@ public class CustomerRepositoryImpl implements CustomerRepository {
         return customers;
     }
 
+    /**
+     * Bloque keyset del streaming (GET /api/v1/customers): proyecciones sin contraseña,
+     * en transacción readOnly igual que el resto de lecturas de proyección
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<CustomerProjection> findAllAfterId(Long afterId, int limit) {
+        log.debug("Finding up to {} customers after ID: {}", limit, afterId);
+
+        return readModelEnabled
+                ? customerViewRepository.findPage(new CustomerPageQuery(CustomerSort.ID, afterId, null, null, limit))
+                : customerRepository.findPageAfterId(afterId, Limit.of(limit));
+    }
+
+    /**
+     * Las lecturas de proyección corren en transacción readOnly: Spring pone la sesión
+     * de Hibernate en FlushMode.MANUAL y la conexión en read-only, así no hay flush
+     * ni dirty checking al cerrar.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<CustomerProjection> findProjectionById(Long id) {
+        log.debug("Finding customer projection by ID: {}", id);
+
+        return readModelEnabled
+                ? customerViewRepository.findById(id)
+                : customerRepository.findProjectionById(id);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<CustomerProjection> findAllProjections() {
+        log.debug("Finding all customer projections");
+
+        List<CustomerProjection> customers = readModelEnabled
+                ? customerViewRepository.findAll()
+                : customerRepository.findAllProjections();
+
+        log.debug("Found {} customers", customers.size());
+        return customers;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<CustomerProjection> findPage(CustomerPageQuery query) {
+        log.debug("Finding customer page: {}", query);
+
+        if (readModelEnabled) {
+            return customerViewRepository.findPage(query);
+        }
+
+        Limit limit = Limit.of(query.limit());
+        long lastId = query.isFirstPage() ? 0L : query.lastId();
+
+        return switch (query.sort()) {
+            case ID -> query.status() == null
+                    ? customerRepository.findPageAfterId(lastId, limit)
+                    : customerRepository.findPageAfterId(query.status(), lastId, limit);
+            case UPDATED_AT -> {
+                if (query.isFirstPage()) {
+                    yield query.status() == null
+                            ? customerRepository.findFirstPageByUpdatedAt(limit)
+                            : customerRepository.findFirstPageByUpdatedAt(query.status(), limit);
+                }
+                yield query.status() == null
+                        ? customerRepository.findPageByUpdatedAtAfter(query.lastUpdatedAt(), lastId, limit)
+                        : customerRepository.findPageByUpdatedAtAfter(query.status(), query.lastUpdatedAt(), lastId, limit);
+            }
+        };
+    }
+
     @Override
     @Transactional
     public Customer update(@NotNull Customer customer) {
-        log.info("Updating customer with ID: {}", customer.getId());
+        log.debug("Updating customer with ID: {}", customer.getId());
 
-        Customer updated = customerRepository.save(customer);
+        // flush inmediato: el conflicto de versión sale aquí y no al hacer commit
+        Customer updated = customerRepository.saveAndFlush(customer);
 
-        log.info("Customer updated successfully");
+        log.debug("Customer updated successfully");
         return updated;
     }
 
     @Override
     @Transactional
     public void deleteById(Long id) {
-        log.info("Deleting customer with ID: {}", id);
+        log.debug("Deleting customer with ID: {}", id);
 
         customerRepository.deleteById(id);
 
-        log.info("Customer deleted successfully");
+        log.debug("Customer deleted successfully");
     }
 
     @Override
-    public boolean existsByIdentificacion(String identificacion) {
-        return false;
+    @Transactional
+    public int updateStatus(Long id, boolean status) {
+        log.debug("Setting status {} for customer with ID: {}", status, id);
+
+        int updated = customerRepository.updateStatus(id, status);
+        if (updated > 0) {
+            customerRepository.incrementVersion(id);
+        }
+        return updated;
+    }
+
+    @Override
+    @Transactional
+    public int updateStatus(Collection<Long> ids, boolean status) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        log.debug("Setting status {} for {} customers", status, ids.size());
+
+        int updated = customerRepository.updateStatus(ids, status);
+        if (updated > 0) {
+            customerRepository.incrementVersion(ids);
+        }
+        return updated;
+    }
+
+    @Override
+    @Transactional
+    public int updatePassword(Long id, String currentPassword, String newPassword) {
+        log.debug("Updating password hash for customer with ID: {}", id);
+
+        return customerRepository.updatePassword(id, currentPassword, newPassword);
     }
 
+    /**
+     * Lee la identificación con la fila bloqueada y luego la borra con un solo DELETE:
+     * el servicio limpia caché e índice por identificación sin recorrerlos
+     */
     @Override
-    public Optional<Customer> findByIdentificacion(String identificacion) {
-        return Optional.empty();
+    @Transactional
+    public Optional<String> deleteDirectlyById(Long id) {
+        log.debug("Deleting customer with ID: {}", id);
+
+        Optional<String> identification = customerRepository.lockIdentificationById(id);
+        identification.ifPresent(ignored -> customerRepository.deleteDirectlyById(id));
+        return identification;
+    }
+
+    @Override
+    @Transactional
+    public Map<Long, String> deleteDirectlyByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        log.debug("Deleting {} customers", ids.size());
+
+        Map<Long, String> identifications = new HashMap<>();
+        for (Object[] row : customerRepository.lockIdentificationsByIds(ids)) {
+            identifications.put(((Number) row[0]).longValue(), (String) row[1]);
+        }
+        if (!identifications.isEmpty()) {
+            customerRepository.deleteDirectlyByIds(identifications.keySet());
+        }
+        return identifications;
     }
 
     @Override
@@ -101,4 +280,33 @@ public class CustomerRepositoryImpl implements CustomerRepository {
 
         return customerRepository.findByIdentification(identification);
     }
-}
\ No newline at end of file
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<CustomerProjection> findProjectionByIdentification(String identification) {
+        log.debug("Finding customer projection by identification: {}", identification);
+
+        return readModelEnabled
+                ? customerViewRepository.findByIdentification(identification)
+                : customerRepository.findProjectionByIdentification(identification);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<CustomerCredentials> findCredentialsByIdentification(String identification) {
+        log.debug("Finding credentials by identification: {}", identification);
+
+        // Siempre desde clientes: customer_view no guarda la contraseña
+        return customerRepository.findCredentialsByIdentification(identification);
+    }
+
+    @Override
+    public Set<String> findExistingIdentifications(Collection<String> identifications) {
+        if (identifications.isEmpty()) {
+            return Set.of();
+        }
+        log.debug("Checking {} identifications for duplicates", identifications.size());
+
+        return new HashSet<>(customerRepository.findExistingIdentifications(identifications));
+    }
+}
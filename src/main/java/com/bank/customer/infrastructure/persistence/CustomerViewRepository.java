@@ -0,0 +1,100 @@
+package com.bank.customer.infrastructure.persistence;
+
+import com.bank.customer.domain.projections.CustomerProjection;
+import com.bank.customer.domain.repositories.CustomerPageQuery;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Lecturas sobre el modelo de lectura customer_view (una tabla, sin JOIN).
+ * La tabla la mantienen triggers en MySQL (ver schema.sql); este repositorio solo lee.
+ *
+ * Las consultas son las mismas que las de CustomerJpaRepository sobre personas/clientes,
+ * con los índices equivalentes: PK, UNIQUE(identificacion), (updated_at, id) y (estado, id).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CustomerViewRepository {
+
+    private static final String SELECT_VIEW = """
+            SELECT id, nombre, genero, identificacion, direccion, telefono, estado, created_at, updated_at, version
+            FROM customer_view
+            """;
+
+    private static final RowMapper<CustomerProjection> PROJECTION_MAPPER = (rs, rowNum) -> new CustomerProjection(
+            rs.getLong("id"),
+            rs.getString("nombre"),
+            rs.getString("genero"),
+            rs.getString("identificacion"),
+            rs.getString("direccion"),
+            rs.getString("telefono"),
+            rs.getObject("estado", Boolean.class),
+            toLocalDateTime(rs.getTimestamp("created_at")),
+            toLocalDateTime(rs.getTimestamp("updated_at")),
+            rs.getLong("version")
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public Optional<CustomerProjection> findById(Long id) {
+        return jdbcTemplate.query(SELECT_VIEW + "WHERE id = ?", PROJECTION_MAPPER, id)
+                .stream()
+                .findFirst();
+    }
+
+    public Optional<CustomerProjection> findByIdentification(String identification) {
+        return jdbcTemplate.query(SELECT_VIEW + "WHERE identificacion = ?", PROJECTION_MAPPER, identification)
+                .stream()
+                .findFirst();
+    }
+
+    public List<CustomerProjection> findAll() {
+        return jdbcTemplate.query(SELECT_VIEW + "ORDER BY id", PROJECTION_MAPPER);
+    }
+
+    public List<CustomerProjection> findPage(CustomerPageQuery query) {
+        StringBuilder sql = new StringBuilder(SELECT_VIEW).append("WHERE 1 = 1");
+        List<Object> params = new ArrayList<>(5);
+
+        if (query.status() != null) {
+            sql.append(" AND estado = ?");
+            params.add(query.status());
+        }
+
+        switch (query.sort()) {
+            case ID -> {
+                sql.append(" AND id > ? ORDER BY id");
+                params.add(query.isFirstPage() ? 0L : query.lastId());
+            }
+            case UPDATED_AT -> {
+                if (!query.isFirstPage()) {
+                    // (updated_at, id) > (?, ?) escrito como rango para usar el índice compuesto
+                    Timestamp updatedAt = Timestamp.valueOf(query.lastUpdatedAt());
+                    sql.append(" AND updated_at >= ? AND (updated_at > ? OR id > ?)");
+                    params.add(updatedAt);
+                    params.add(updatedAt);
+                    params.add(query.lastId());
+                }
+                sql.append(" ORDER BY updated_at, id");
+            }
+        }
+        sql.append(" LIMIT ?");
+        params.add(query.limit());
+
+        return jdbcTemplate.query(sql.toString(), PROJECTION_MAPPER, params.toArray());
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+}
@@ -0,0 +1,49 @@
+package com.bank.customer.infrastructure.persistence;
+
+import com.bank.customer.application.execution.BlockingTaskRunner;
+import com.bank.customer.domain.projections.CustomerProjection;
+import com.bank.customer.domain.repositories.CustomerRepository;
+import com.bank.customer.domain.repositories.ReactiveCustomerRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Adaptador reactivo sobre JPA (perfil por defecto).
+ * Cada llamada se ejecuta en el BlockingTaskRunner, nunca en el event loop.
+ *
+ * findAll() lee proyecciones (sin contraseña ni entidades administradas) por bloques
+ * keyset de customer.streaming.chunk-size filas y solo
+ * pide el siguiente bloque cuando el suscriptor lo demanda (backpressure), así la
+ * memoria usada no depende del tamaño de la tabla.
+ */
+@Component
+@Profile("!r2dbc")
+@RequiredArgsConstructor
+public class JpaReactiveCustomerRepository implements ReactiveCustomerRepository {
+
+    private final CustomerRepository customerRepository;
+    private final BlockingTaskRunner blockingExecutor;
+
+    @Value("${customer.streaming.chunk-size:500}")
+    private int chunkSize;
+
+    @Override
+    public Flux<CustomerProjection> findAll() {
+        return fetchChunk(0L)
+                .expand(chunk -> chunk.size() < chunkSize
+                        ? Mono.empty()
+                        : fetchChunk(chunk.get(chunk.size() - 1).id()))
+                // prefetch 1: como máximo un bloque en memoria por delante del consumidor
+                .flatMapIterable(chunk -> chunk, 1);
+    }
+
+    private Mono<List<CustomerProjection>> fetchChunk(Long afterId) {
+        return blockingExecutor.call(() -> customerRepository.findAllAfterId(afterId, chunkSize));
+    }
+}
@@ -0,0 +1,66 @@
+package com.bank.customer.infrastructure.persistence;
+
+import com.bank.customer.domain.projections.CustomerProjection;
+import com.bank.customer.domain.repositories.ReactiveCustomerRepository;
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDateTime;
+
+/**
+ * Implementación R2DBC (MySQL) del ReactiveCustomerRepository - perfil "r2dbc".
+ *
+ * Sin JPA no hay herencia automática: la lectura une personas y clientes por id
+ * y solo trae las columnas públicas (sin contraseña).
+ */
+@Slf4j
+@Component
+@Profile("r2dbc")
+@RequiredArgsConstructor
+public class R2dbcCustomerRepository implements ReactiveCustomerRepository {
+
+    private static final String SELECT_PROJECTION = """
+            SELECT p.id, p.nombre, p.genero, p.identificacion, p.direccion, p.telefono,
+                   c.estado, p.created_at, p.updated_at, p.version
+            FROM personas p
+            JOIN clientes c ON c.id = p.id
+            ORDER BY p.id
+            """;
+
+    private final DatabaseClient databaseClient;
+
+    @Value("${customer.streaming.chunk-size:500}")
+    private int chunkSize;
+
+    @Override
+    public Flux<CustomerProjection> findAll() {
+        log.debug("Finding all customers");
+
+        // fetchSize: el driver lee por bloques y respeta la demanda del suscriptor
+        return databaseClient.sql(SELECT_PROJECTION)
+                .filter(statement -> statement.fetchSize(chunkSize))
+                .map(this::mapProjection)
+                .all();
+    }
+
+    private CustomerProjection mapProjection(Readable row) {
+        return new CustomerProjection(
+                row.get("id", Long.class),
+                row.get("nombre", String.class),
+                row.get("genero", String.class),
+                row.get("identificacion", String.class),
+                row.get("direccion", String.class),
+                row.get("telefono", String.class),
+                row.get("estado", Boolean.class),
+                row.get("created_at", LocalDateTime.class),
+                row.get("updated_at", LocalDateTime.class),
+                row.get("version", Long.class)
+        );
+    }
+}
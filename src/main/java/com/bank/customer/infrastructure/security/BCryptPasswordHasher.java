@@ -0,0 +1,198 @@
+package com.bank.customer.infrastructure.security;
+
+import com.bank.customer.application.security.PasswordHasher;
+import com.bank.customer.infrastructure.execution.BlockingExecutor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * PasswordHasher con BCrypt sobre un scheduler acotado propio.
+ *
+ * - Hilos: por defecto uno por núcleo (el hash es CPU pura, más hilos no ayudan)
+ * - Cola acotada: al llenarse se rechaza con RejectedExecutionException (HTTP 503)
+ * - Costo: fijo (customer.password-hashing.cost) o calibrado al arrancar como el mayor
+ *   costo cuyo hash tarda menos que target-latency en esta máquina
+ *
+ * Métricas: customer.password.hash.* (queue.depth, active, wait, execution) y
+ * customer.password.hash.cost con el costo elegido.
+ *
+ * Las filas anteriores al hash tienen la contraseña en texto plano. Solo con
+ * customer.security.legacy-plaintext=true (por defecto false) se verifican con
+ * comparación de tiempo constante y needsRehash las marca para migrarlas al hash;
+ * si no, se comparan contra el hash ficticio y nunca coinciden. Cada verificación
+ * contra texto plano cuenta en customer.password.legacy (result = accepted / rejected)
+ * para saber cuándo terminó la migración y apagar la opción.
+ */
+@Slf4j
+@Component
+public class BCryptPasswordHasher implements PasswordHasher, DisposableBean {
+
+    static final int MIN_COST = 4;
+    static final int MAX_COST = 31;
+
+    private static final Pattern BCRYPT_PATTERN = Pattern.compile("\\A\\$2[aby]?\\$\\d\\d\\$[./0-9A-Za-z]{53}");
+
+    private final Scheduler scheduler;
+    private final BlockingExecutor executor;
+    private final BCryptPasswordEncoder encoder;
+    private final int parallelism;
+    private final int cost;
+    private final String dummyHash;
+    private final boolean legacyPlaintext;
+    private final Counter legacyAccepted;
+    private final Counter legacyRejected;
+
+    public BCryptPasswordHasher(MeterRegistry meterRegistry,
+                                @Value("${customer.password-hashing.threads:0}") int threads,
+                                @Value("${customer.password-hashing.queue-capacity:10000}") int queueCapacity,
+                                @Value("${customer.password-hashing.cost:0}") int fixedCost,
+                                @Value("${customer.password-hashing.min-cost:10}") int minCost,
+                                @Value("${customer.password-hashing.max-cost:14}") int maxCost,
+                                @Value("${customer.password-hashing.target-latency:250ms}") Duration targetLatency,
+                                @Value("${customer.security.legacy-plaintext:false}") boolean legacyPlaintext) {
+        this.parallelism = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.scheduler = Schedulers.newBoundedElastic(parallelism, queueCapacity, "customer-hash");
+        this.executor = new BlockingExecutor(scheduler, "customer.password.hash", "bcrypt", meterRegistry);
+
+        this.cost = fixedCost > 0 ? checkCost(fixedCost) : calibrate(checkCost(minCost), checkCost(maxCost), targetLatency);
+        this.encoder = new BCryptPasswordEncoder(cost);
+        this.dummyHash = encoder.encode(UUID.randomUUID().toString());
+        this.legacyPlaintext = legacyPlaintext;
+        this.legacyAccepted = legacyCounter(meterRegistry, "accepted");
+        this.legacyRejected = legacyCounter(meterRegistry, "rejected");
+
+        Gauge.builder("customer.password.hash.cost", () -> cost)
+                .description("Costo (log2 de rondas) de BCrypt en uso")
+                .tag("mode", "bcrypt")
+                .register(meterRegistry);
+
+        log.info("Password hashing: BCrypt cost {}, {} threads, queue capacity {}, legacy plaintext {}",
+                cost, parallelism, queueCapacity, legacyPlaintext ? "enabled" : "disabled");
+    }
+
+    @Override
+    public Mono<String> hash(String rawPassword) {
+        return executor.call(() -> encoder.encode(rawPassword));
+    }
+
+    @Override
+    public Mono<Boolean> matches(String rawPassword, String encodedPassword) {
+        return executor.call(() -> {
+            if (encodedPassword == null) {
+                encoder.matches(rawPassword, dummyHash);
+                return false;
+            }
+            if (!isBCrypt(encodedPassword)) {
+                return matchesLegacy(rawPassword, encodedPassword);
+            }
+            return encoder.matches(rawPassword, encodedPassword);
+        });
+    }
+
+    @Override
+    public boolean needsRehash(String encodedPassword) {
+        return encodedPassword != null
+                && (!isBCrypt(encodedPassword) || encoder.upgradeEncoding(encodedPassword));
+    }
+
+    @Override
+    public boolean isHash(String encodedPassword) {
+        return encodedPassword != null && isBCrypt(encodedPassword);
+    }
+
+    @Override
+    public int parallelism() {
+        return parallelism;
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.dispose();
+    }
+
+    private boolean matchesLegacy(String rawPassword, String encodedPassword) {
+        if (!legacyPlaintext) {
+            // Misma latencia que una contraseña errada
+            encoder.matches(rawPassword, dummyHash);
+            legacyRejected.increment();
+            log.debug("Stored password is not a BCrypt hash and legacy plaintext is disabled");
+            return false;
+        }
+        legacyAccepted.increment();
+        log.info("Verifying a legacy plaintext password; it will be rehashed on success");
+        return MessageDigest.isEqual(
+                rawPassword.getBytes(StandardCharsets.UTF_8),
+                encodedPassword.getBytes(StandardCharsets.UTF_8)
+        );
+    }
+
+    private static Counter legacyCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("customer.password.legacy")
+                .description("Verificaciones contra contraseñas guardadas en texto plano")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Mayor costo en [minCost, maxCost] que cumple la latencia objetivo.
+     * Cada +1 duplica el tiempo: se deja de medir cuando el siguiente costo ya no cabe,
+     * así la calibración tarda como mucho unas pocas veces target-latency.
+     * Nunca baja de minCost aunque la máquina sea lenta.
+     */
+    static int calibrate(int minCost, int maxCost, Duration targetLatency) {
+        long targetNanos = targetLatency.toNanos();
+
+        // Calentamiento del JIT para no penalizar la primera medición
+        new BCryptPasswordEncoder(MIN_COST).encode("calibration");
+
+        int chosen = minCost;
+        for (int candidate = minCost; candidate <= maxCost; candidate++) {
+            long elapsed = timeHash(candidate);
+            log.debug("BCrypt cost {} takes {} ms", candidate, elapsed / 1_000_000);
+
+            if (elapsed > targetNanos) {
+                break;
+            }
+            chosen = candidate;
+            if (elapsed * 2 > targetNanos) {
+                break;
+            }
+        }
+        return chosen;
+    }
+
+    private static long timeHash(int cost) {
+        BCryptPasswordEncoder candidate = new BCryptPasswordEncoder(cost);
+        long start = System.nanoTime();
+        candidate.encode("calibration");
+        return System.nanoTime() - start;
+    }
+
+    private static boolean isBCrypt(String encodedPassword) {
+        return BCRYPT_PATTERN.matcher(encodedPassword).matches();
+    }
+
+    private static int checkCost(int cost) {
+        if (cost < MIN_COST || cost > MAX_COST) {
+            throw new IllegalStateException(
+                    "BCrypt cost must be between " + MIN_COST + " and " + MAX_COST + ": " + cost
+            );
+        }
+        return cost;
+    }
+}
@@ -1,9 +1,22 @@
 package com.bank.customer.presentation.controllers;
 
+import com.bank.customer.application.dto.BatchCreateCustomersRequest;
+import com.bank.customer.application.dto.BatchCreateCustomersResponse;
+import com.bank.customer.application.dto.BulkCustomerIdsRequest;
+import com.bank.customer.application.dto.BulkOperationResponse;
 import com.bank.customer.application.dto.CreateCustomerRequest;
 import com.bank.customer.application.dto.CustomerDTO;
+import com.bank.customer.application.dto.CustomerPageDTO;
+import com.bank.customer.application.dto.PatchCustomerRequest;
 import com.bank.customer.application.dto.UpdateCustomerRequest;
+import com.bank.customer.application.dto.UpdateStatusRequest;
+import com.bank.customer.application.dto.VerifyCredentialsRequest;
+import com.bank.customer.application.dto.VerifyCredentialsResponse;
+import com.bank.customer.application.execution.BlockingTaskRunner;
+import com.bank.customer.application.security.PasswordHasher;
+import com.bank.customer.application.services.CustomerCredentialService;
 import com.bank.customer.application.services.CustomerService;
+import com.bank.customer.domain.exceptions.CustomerExceptions.CustomerVersionMismatchException;
 import com.bank.customer.presentation.exception.ApiErrorResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -13,17 +26,32 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
 /**
  * REST Controller para operaciones de Customer.
  * Base URL: /api/v1/customers
+ *
+ * Las llamadas a CustomerService son bloqueantes (JPA), por eso se ejecutan
+ * siempre a través de BlockingTaskRunner y nunca en el event loop.
+ *
+ * Los endpoints de CustomerDTO/CreateCustomerRequest aceptan y devuelven también CBOR
+ * (application/cbor) y Smile (application/x-jackson-smile) según Accept/Content-Type;
+ * sin Accept o con un Accept comodín se responde JSON. Codecs en CodecConfig.
  */
 @Slf4j
 @RestController
@@ -32,7 +60,19 @@ import reactor.core.publisher.Mono;
 @Tag(name = "Customer Management", description = "Endpoints para gestión de clientes bancarios")
 public class CustomerController {
 
+    static final String MERGE_PATCH_JSON_VALUE = "application/merge-patch+json";
+
+    // Formatos binarios para servicios internos (Accept/Content-Type); JSON sigue siendo el default
+    static final String SMILE_VALUE = "application/x-jackson-smile";
+
     private final CustomerService customerService;
+    private final CustomerCredentialService customerCredentialService;
+    private final BlockingTaskRunner blockingExecutor;
+    private final PasswordHasher passwordHasher;
+    private final Validator validator;
+
+    @Value("${customer.batch.max-size:1000}")
+    private int maxBatchSize;
 
     @Operation(
             summary = "Crear nuevo cliente",
@@ -65,8 +105,8 @@ public class CustomerController {
             )
     })
     @PostMapping(
-            consumes = MediaType.APPLICATION_JSON_VALUE,
-            produces = MediaType.APPLICATION_JSON_VALUE
+            consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, SMILE_VALUE},
+            produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, SMILE_VALUE}
     )
     @ResponseStatus(HttpStatus.CREATED)
     public Mono<CustomerDTO> createCustomer(
@@ -77,39 +117,132 @@ public class CustomerController {
             )
             @Valid @RequestBody CreateCustomerRequest request) {
 
-        log.info("REST request to create Customer: {}", request.getName());
+        log.debug("REST request to create Customer: {}", request.getName());
 
-        return Mono.fromCallable(() -> {
+        return hashPassword(request.getPassword(), request::setPassword).then(blockingExecutor.call(() -> {
             CustomerDTO created = customerService.createCustomer(request);
-            log.info("Customer created with ID: {}", created.getId());
+            log.debug("Customer created with ID: {}", created.getId());
             return created;
-        });
+        }));
+    }
+
+    @Operation(
+            summary = "Crear clientes en lote",
+            description = "Crea varios clientes en una sola transacción con INSERT en batch. "
+                    + "Cada elemento se valida por separado; los inválidos o duplicados se informan "
+                    + "en el resultado sin detener a los demás"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Lote procesado, ver el resultado de cada elemento",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = BatchCreateCustomersResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Lote vacío o mayor al máximo permitido",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ApiErrorResponse.class)
+                    )
+            )
+    })
+    @PostMapping(
+            value = "/batch",
+            consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, SMILE_VALUE},
+            produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, SMILE_VALUE}
+    )
+    @ResponseStatus(HttpStatus.OK)
+    public Mono<BatchCreateCustomersResponse> createCustomersBatch(
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "Clientes a crear",
+                    required = true,
+                    content = @Content(schema = @Schema(implementation = BatchCreateCustomersRequest.class))
+            )
+            @Valid @RequestBody BatchCreateCustomersRequest request) {
+
+        log.debug("REST request to create {} Customers in batch", request.getCustomers().size());
+
+        return hashPasswords(request.getCustomers())
+                .then(blockingExecutor.call(() -> customerService.createCustomersBatch(request.getCustomers())));
     }
 
     @Operation(
             summary = "Listar todos los clientes",
-            description = "Obtiene la lista completa de clientes registrados en el sistema"
+            description = "Obtiene la lista completa de clientes registrados en el sistema. "
+                    + "Los clientes se emiten a medida que se leen de la base de datos; "
+                    + "con Accept: application/x-ndjson se recibe un cliente por línea"
     )
     @ApiResponses(value = {
             @ApiResponse(
                     responseCode = "200",
                     description = "Lista de clientes obtenida exitosamente",
+                    content = {
+                            @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = CustomerDTO.class)
+                            ),
+                            @Content(
+                                    mediaType = "application/x-ndjson",
+                                    schema = @Schema(implementation = CustomerDTO.class)
+                            )
+                    }
+            )
+    })
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    @ResponseStatus(HttpStatus.OK)
+    public Flux<CustomerDTO> getAllCustomers() {
+        log.debug("REST request to get all Customers");
+
+        return customerService.streamAllCustomers()
+                .doOnComplete(() -> log.debug("All customers streamed successfully"));
+    }
+
+    @Operation(
+            summary = "Listar clientes por páginas",
+            description = "Obtiene una página de clientes usando un cursor de continuación (keyset). "
+                    + "Para la página siguiente se envía el nextCursor recibido; el orden y el filtro "
+                    + "quedan fijados por el cursor"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Página obtenida exitosamente",
                     content = @Content(
                             mediaType = "application/json",
-                            schema = @Schema(implementation = CustomerDTO.class)
+                            schema = @Schema(implementation = CustomerPageDTO.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Cursor, tamaño de página u orden inválidos",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ApiErrorResponse.class)
                     )
             )
     })
-    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    @GetMapping(
+            value = "/page",
+            produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, SMILE_VALUE}
+    )
     @ResponseStatus(HttpStatus.OK)
-    public Flux<CustomerDTO> getAllCustomers() {
-        log.info("REST request to get all Customers");
+    public Mono<CustomerPageDTO> getCustomersPage(
+            @Parameter(description = "Cursor de la página anterior (omitir en la primera página)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Tamaño de página", example = "20")
+            @RequestParam(required = false) Integer size,
+            @Parameter(description = "Filtrar por estado (activo/inactivo)", example = "true")
+            @RequestParam(required = false) Boolean status,
+            @Parameter(description = "Orden: id o updatedAt", example = "id")
+            @RequestParam(required = false) String sort) {
 
-        return Mono.fromCallable(() -> {
-            var customers = customerService.findAllCustomers();
-            log.info("Retrieved {} customers successfully", customers.size());
-            return customers;
-        }).flatMapMany(Flux::fromIterable);
+        log.debug("REST request to get Customers page (size={}, status={}, sort={})", size, status, sort);
+
+        return blockingExecutor.call(() -> customerService.findCustomersPage(cursor, size, status, sort));
     }
 
     @Operation(
@@ -119,12 +252,16 @@ public class CustomerController {
     @ApiResponses(value = {
             @ApiResponse(
                     responseCode = "200",
-                    description = "Cliente encontrado",
+                    description = "Cliente encontrado (header ETag con la versión)",
                     content = @Content(
                             mediaType = "application/json",
                             schema = @Schema(implementation = CustomerDTO.class)
                     )
             ),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "Sin cambios respecto al ETag enviado en If-None-Match"
+            ),
             @ApiResponse(
                     responseCode = "404",
                     description = "Cliente no encontrado",
@@ -136,19 +273,20 @@ public class CustomerController {
     })
     @GetMapping(
             value = "/{id}",
-            produces = MediaType.APPLICATION_JSON_VALUE
+            produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, SMILE_VALUE}
     )
-    @ResponseStatus(HttpStatus.OK)
-    public Mono<CustomerDTO> getCustomerById(
+    public Mono<ResponseEntity<CustomerDTO>> getCustomerById(
             @Parameter(description = "ID único del cliente", required = true, example = "1")
             @PathVariable Long id) {
 
-        log.info("REST request to get Customer by ID: {}", id);
+        log.debug("REST request to get Customer by ID: {}", id);
 
-        return Mono.fromCallable(() -> {
+        // Con If-None-Match igual al ETag, ResponseEntityResultHandler responde 304
+        // sin serializar el cuerpo; el DTO sale de la caché sin consultar MySQL
+        return blockingExecutor.call(() -> {
             CustomerDTO customer = customerService.findCustomerById(id);
-            log.info("Customer found: {}", customer.getName());
-            return customer;
+            log.debug("Customer found: {}", customer.getName());
+            return ResponseEntity.ok().eTag(entityTag(customer)).body(customer);
         });
     }
 
@@ -176,20 +314,81 @@ public class CustomerController {
     })
     @GetMapping(
             value = "/identification/{identification}",
-            produces = MediaType.APPLICATION_JSON_VALUE
+            produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, SMILE_VALUE}
     )
     @ResponseStatus(HttpStatus.OK)
     public Mono<CustomerDTO> getCustomerByIdentification(
             @Parameter(description = "Número de identificación del cliente", required = true, example = "1234567890")
             @PathVariable String identification) {
 
-        log.info("REST request to get Customer by identification: {}", identification);
+        log.debug("REST request to get Customer by identification: {}", identification);
 
-        return Mono.fromCallable(() ->
+        return blockingExecutor.call(() ->
                 customerService.findCustomerByIdentification(identification)
         );
     }
 
+    @Operation(
+            summary = "Verificar credenciales",
+            description = "Verifica la contraseña de un cliente (login de los canales). Ante ráfagas "
+                    + "responde 429 en vez de encolar; un hash con costo desactualizado se reemplaza "
+                    + "de forma transparente tras una verificación exitosa"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Credenciales válidas",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = VerifyCredentialsResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "Identificación o contraseña inválidas",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ApiErrorResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "403",
+                    description = "Cliente inactivo",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ApiErrorResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "429",
+                    description = "Demasiadas verificaciones concurrentes (header Retry-After)",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ApiErrorResponse.class)
+                    )
+            )
+    })
+    @PostMapping(
+            value = "/{identification}/verify",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @ResponseStatus(HttpStatus.OK)
+    public Mono<VerifyCredentialsResponse> verifyCredentials(
+            @Parameter(description = "Número de identificación del cliente", required = true, example = "1234567890")
+            @PathVariable String identification,
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "Contraseña a verificar",
+                    required = true,
+                    content = @Content(schema = @Schema(implementation = VerifyCredentialsRequest.class))
+            )
+            @Valid @RequestBody VerifyCredentialsRequest request) {
+
+        log.debug("REST request to verify credentials of Customer: {}", identification);
+
+        return customerCredentialService.verify(identification, request.getPassword());
+    }
+
     @Operation(
             summary = "Actualizar cliente",
             description = "Actualiza la información de un cliente existente. Soporta actualización parcial."
@@ -218,17 +417,34 @@ public class CustomerController {
                             mediaType = "application/json",
                             schema = @Schema(implementation = ApiErrorResponse.class)
                     )
+            ),
+            @ApiResponse(
+                    responseCode = "409",
+                    description = "Modificación concurrente detectada al guardar",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ApiErrorResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "412",
+                    description = "If-Match no coincide con la versión actual",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ApiErrorResponse.class)
+                    )
             )
     })
     @PutMapping(
             value = "/{id}",
-            consumes = MediaType.APPLICATION_JSON_VALUE,
-            produces = MediaType.APPLICATION_JSON_VALUE
+            consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, SMILE_VALUE},
+            produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, SMILE_VALUE}
     )
-    @ResponseStatus(HttpStatus.OK)
-    public Mono<CustomerDTO> updateCustomer(
+    public Mono<ResponseEntity<CustomerDTO>> updateCustomer(
             @Parameter(description = "ID del cliente a actualizar", required = true, example = "1")
             @PathVariable Long id,
+            @Parameter(description = "ETag leído en GET /{id}; si ya no es el actual responde 412", example = "\"3\"")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @io.swagger.v3.oas.annotations.parameters.RequestBody(
                     description = "Datos a actualizar (solo campos presentes serán actualizados)",
                     required = true,
@@ -236,13 +452,82 @@ public class CustomerController {
             )
             @Valid @RequestBody UpdateCustomerRequest request) {
 
-        log.info("REST request to update Customer with ID: {}", id);
+        log.debug("REST request to update Customer with ID: {}", id);
 
-        return Mono.fromCallable(() -> {
-            CustomerDTO updated = customerService.updateCustomer(id, request);
-            log.info("Customer updated successfully: {}", updated.getId());
-            return updated;
-        });
+        return Mono.fromCallable(() -> expectedVersion(id, ifMatch))
+                .flatMap(expectedVersion -> hashPassword(request.getPassword(), request::setPassword)
+                        .then(blockingExecutor.call(() -> {
+                            CustomerDTO updated = customerService.updateCustomer(id, request, expectedVersion.orElse(null));
+                            log.debug("Customer updated successfully: {}", updated.getId());
+                            return ResponseEntity.ok().eTag(entityTag(updated)).body(updated);
+                        })));
+    }
+
+    @Operation(
+            summary = "Modificar cliente (JSON Merge Patch)",
+            description = "Aplica un JSON Merge Patch (RFC 7396): los campos ausentes no cambian y null borra "
+                    + "los opcionales. Solo se escriben las columnas que cambian."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Cliente modificado exitosamente",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = CustomerDTO.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Datos inválidos o intento de borrar un campo obligatorio",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ApiErrorResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Cliente no encontrado",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ApiErrorResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "412",
+                    description = "If-Match no coincide con la versión actual",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ApiErrorResponse.class)
+                    )
+            )
+    })
+    @PatchMapping(
+            value = "/{id}",
+            consumes = {MERGE_PATCH_JSON_VALUE, MediaType.APPLICATION_JSON_VALUE},
+            produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, SMILE_VALUE}
+    )
+    public Mono<ResponseEntity<CustomerDTO>> patchCustomer(
+            @Parameter(description = "ID del cliente a modificar", required = true, example = "1")
+            @PathVariable Long id,
+            @Parameter(description = "ETag leído en GET /{id}; si ya no es el actual responde 412", example = "\"3\"")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "Campos a modificar; null borra el valor",
+                    required = true,
+                    content = @Content(schema = @Schema(implementation = PatchCustomerRequest.class))
+            )
+            @Valid @RequestBody PatchCustomerRequest patch) {
+
+        log.debug("REST request to patch Customer with ID: {}", id);
+
+        return Mono.fromCallable(() -> expectedVersion(id, ifMatch))
+                .flatMap(expectedVersion -> hashPassword(patch.getPassword(), patch::setPassword)
+                        .then(blockingExecutor.call(() -> {
+                            CustomerDTO patched = customerService.patchCustomer(id, patch, expectedVersion.orElse(null));
+                            log.debug("Customer patched successfully: {}", patched.getId());
+                            return ResponseEntity.ok().eTag(entityTag(patched)).body(patched);
+                        })));
     }
 
     @Operation(
@@ -269,11 +554,11 @@ public class CustomerController {
             @Parameter(description = "ID del cliente a desactivar", required = true, example = "1")
             @PathVariable Long id) {
 
-        log.info("REST request to delete (deactivate) Customer with ID: {}", id);
+        log.debug("REST request to delete (deactivate) Customer with ID: {}", id);
 
-        return Mono.fromRunnable(() -> {
+        return blockingExecutor.run(() -> {
             customerService.deleteCustomer(id);
-            log.info("Customer deactivated successfully");
+            log.debug("Customer deactivated successfully");
         });
     }
 
@@ -303,9 +588,193 @@ public class CustomerController {
 
         log.warn("REST request to HARD DELETE Customer with ID: {}", id);
 
-        return Mono.fromRunnable(() -> {
+        return blockingExecutor.run(() -> {
             customerService.hardDeleteCustomer(id);
-            log.info("Customer hard deleted successfully");
+            log.debug("Customer hard deleted successfully");
         });
     }
-}
\ No newline at end of file
+
+    @Operation(
+            summary = "Cambiar estado del cliente",
+            description = "Activa o desactiva un cliente con una sola sentencia UPDATE"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "204",
+                    description = "Estado actualizado exitosamente"
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Cliente no encontrado",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ApiErrorResponse.class)
+                    )
+            )
+    })
+    @PutMapping(
+            value = "/{id}/status",
+            consumes = MediaType.APPLICATION_JSON_VALUE
+    )
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public Mono<Void> changeCustomerStatus(
+            @Parameter(description = "ID del cliente", required = true, example = "1")
+            @PathVariable Long id,
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "Nuevo estado",
+                    required = true,
+                    content = @Content(schema = @Schema(implementation = UpdateStatusRequest.class))
+            )
+            @Valid @RequestBody UpdateStatusRequest request) {
+
+        log.debug("REST request to change status of Customer with ID {} to {}", id, request.getStatus());
+
+        return blockingExecutor.run(() -> customerService.changeCustomerStatus(id, request.getStatus()));
+    }
+
+    @Operation(
+            summary = "Desactivar clientes en lote",
+            description = "Desactiva varios clientes con una sola sentencia UPDATE. "
+                    + "Los IDs inexistentes se ignoran y no cuentan como afectados"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Lote procesado",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = BulkOperationResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Lista vacía o mayor al máximo permitido",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ApiErrorResponse.class)
+                    )
+            )
+    })
+    @PostMapping(
+            value = "/batch/deactivate",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @ResponseStatus(HttpStatus.OK)
+    public Mono<BulkOperationResponse> deactivateCustomers(
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "IDs de los clientes a desactivar",
+                    required = true,
+                    content = @Content(schema = @Schema(implementation = BulkCustomerIdsRequest.class))
+            )
+            @Valid @RequestBody BulkCustomerIdsRequest request) {
+
+        log.debug("REST request to deactivate {} Customers", request.getIds().size());
+
+        return blockingExecutor.call(() -> customerService.deactivateCustomers(request.getIds()));
+    }
+
+    @Operation(
+            summary = "Eliminar clientes en lote (hard delete)",
+            description = "Elimina físicamente varios clientes con una sola sentencia DELETE. "
+                    + "Esta operación es irreversible"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Lote procesado",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = BulkOperationResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Lista vacía o mayor al máximo permitido",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ApiErrorResponse.class)
+                    )
+            )
+    })
+    @PostMapping(
+            value = "/batch/delete",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @ResponseStatus(HttpStatus.OK)
+    public Mono<BulkOperationResponse> hardDeleteCustomers(
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "IDs de los clientes a eliminar",
+                    required = true,
+                    content = @Content(schema = @Schema(implementation = BulkCustomerIdsRequest.class))
+            )
+            @Valid @RequestBody BulkCustomerIdsRequest request) {
+
+        log.warn("REST request to HARD DELETE {} Customers", request.getIds().size());
+
+        return blockingExecutor.call(() -> customerService.hardDeleteCustomers(request.getIds()));
+    }
+
+    /**
+     * Reemplaza la contraseña en claro por su hash, calculado en el pool de hash
+     * antes de pasar al hilo JDBC (sin contraseña no hace nada)
+     */
+    private Mono<Void> hashPassword(String rawPassword, Consumer<String> setter) {
+        if (rawPassword == null) {
+            return Mono.empty();
+        }
+        return passwordHasher.hash(rawPassword).doOnNext(setter).then();
+    }
+
+    /**
+     * Hash de las contraseñas de un lote, en paralelo hasta el tamaño del pool.
+     * Se omiten los elementos cuya contraseña no pasa la validación (el servicio los
+     * informa como inválidos) y los lotes que exceden el máximo (el servicio los rechaza).
+     */
+    private Mono<Void> hashPasswords(List<CreateCustomerRequest> customers) {
+        if (customers.size() > maxBatchSize) {
+            return Mono.empty();
+        }
+        List<CreateCustomerRequest> toHash = customers.stream()
+                .filter(customer -> customer != null && customer.getPassword() != null
+                        && validator.validateProperty(customer, "password").isEmpty())
+                .toList();
+
+        return Flux.fromIterable(toHash)
+                .flatMap(customer -> hashPassword(customer.getPassword(), customer::setPassword),
+                        passwordHasher.parallelism())
+                .then();
+    }
+
+    /**
+     * ETag fuerte a partir de la versión de bloqueo optimista.
+     * personas.version es NOT NULL (las filas anteriores la reciben en 0 con la migración de schema.sql).
+     */
+    static String entityTag(CustomerDTO customer) {
+        return customer.getVersion() != null ? "\"" + customer.getVersion() + "\"" : null;
+    }
+
+    /**
+     * Versión esperada según If-Match: vacío si no viene el header o es "*".
+     * Un ETag que no es una versión nunca coincide con la actual.
+     */
+    static Optional<Long> expectedVersion(Long id, String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return Optional.empty();
+        }
+
+        String tag = ifMatch.trim();
+        if (tag.startsWith("W/")) {
+            tag = tag.substring(2);
+        }
+        if (tag.length() >= 2 && tag.startsWith("\"") && tag.endsWith("\"")) {
+            tag = tag.substring(1, tag.length() - 1);
+        }
+        try {
+            return Optional.of(Long.parseLong(tag));
+        } catch (NumberFormatException e) {
+            throw new CustomerVersionMismatchException("Customer with ID " + id + " does not match ETag " + ifMatch);
+        }
+    }
+}
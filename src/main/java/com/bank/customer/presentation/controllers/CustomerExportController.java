@@ -0,0 +1,174 @@
+package com.bank.customer.presentation.controllers;
+
+import com.bank.customer.application.dto.ExportCustomersRequest;
+import com.bank.customer.application.dto.ExportJobDTO;
+import com.bank.customer.application.execution.BlockingTaskRunner;
+import com.bank.customer.application.services.CustomerExportService;
+import com.bank.customer.presentation.exception.ApiErrorResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.nio.file.Path;
+
+/**
+ * REST Controller para exportación del directorio de clientes.
+ * Base URL: /api/v1/customers/exports
+ *
+ * La descarga devuelve el archivo como FileSystemResource: sobre reactor-netty se
+ * envía con zero-copy (sendfile), sin pasar los bytes por el heap de la JVM.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/customers/exports")
+@RequiredArgsConstructor
+@Tag(name = "Customer Export", description = "Endpoints para exportar el directorio de clientes a CSV/NDJSON")
+public class CustomerExportController {
+
+    private static final MediaType GZIP = MediaType.parseMediaType("application/gzip");
+    private static final MediaType CSV = MediaType.parseMediaType("text/csv");
+
+    private final CustomerExportService customerExportService;
+    private final BlockingTaskRunner blockingExecutor;
+
+    @Operation(
+            summary = "Iniciar exportación de clientes",
+            description = "Genera en segundo plano un archivo CSV o NDJSON (opcionalmente gzip) con todos los "
+                    + "clientes, filtrando por estado y fecha de actualización. No incluye contraseñas"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "202",
+                    description = "Exportación iniciada",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ExportJobDTO.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Formato no soportado",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ApiErrorResponse.class)
+                    )
+            )
+    })
+    @PostMapping(
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public Mono<ExportJobDTO> startExport(
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "Formato y filtros de la exportación",
+                    content = @Content(schema = @Schema(implementation = ExportCustomersRequest.class))
+            )
+            @RequestBody(required = false) ExportCustomersRequest request) {
+
+        ExportCustomersRequest exportRequest = request != null ? request : new ExportCustomersRequest();
+        log.info("REST request to export Customers: {}", exportRequest);
+
+        return Mono.fromSupplier(() -> customerExportService.startExport(exportRequest));
+    }
+
+    @Operation(
+            summary = "Consultar una exportación",
+            description = "Devuelve el estado de una exportación; al completarse incluye filas y tamaño del archivo"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Exportación encontrada",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ExportJobDTO.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Exportación no encontrada",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ApiErrorResponse.class)
+                    )
+            )
+    })
+    @GetMapping(
+            value = "/{jobId}",
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @ResponseStatus(HttpStatus.OK)
+    public Mono<ExportJobDTO> getExportJob(
+            @Parameter(description = "ID de la exportación", required = true)
+            @PathVariable String jobId) {
+
+        log.info("REST request to get export job: {}", jobId);
+
+        return Mono.fromSupplier(() -> customerExportService.findExportJob(jobId));
+    }
+
+    @Operation(
+            summary = "Descargar una exportación",
+            description = "Descarga el archivo de una exportación completada"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Archivo de la exportación"),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "La exportación aún no se completa",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ApiErrorResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Exportación no encontrada",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ApiErrorResponse.class)
+                    )
+            )
+    })
+    @GetMapping("/{jobId}/file")
+    public Mono<ResponseEntity<Resource>> downloadExport(
+            @Parameter(description = "ID de la exportación", required = true)
+            @PathVariable String jobId) {
+
+        log.info("REST request to download export: {}", jobId);
+
+        return blockingExecutor.call(() -> {
+            Path file = customerExportService.findExportFile(jobId);
+            String fileName = file.getFileName().toString();
+
+            return ResponseEntity.ok()
+                    .contentType(mediaTypeOf(fileName))
+                    .header(HttpHeaders.CONTENT_DISPOSITION,
+                            ContentDisposition.attachment().filename(fileName).build().toString())
+                    .body((Resource) new FileSystemResource(file));
+        });
+    }
+
+    private MediaType mediaTypeOf(String fileName) {
+        if (fileName.endsWith(".gz")) {
+            return GZIP;
+        }
+        return fileName.endsWith(".csv") ? CSV : MediaType.APPLICATION_NDJSON;
+    }
+}
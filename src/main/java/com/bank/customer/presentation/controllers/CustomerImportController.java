@@ -0,0 +1,174 @@
+package com.bank.customer.presentation.controllers;
+
+import com.bank.customer.application.dto.CustomerFileFormat;
+import com.bank.customer.application.dto.ImportJobDTO;
+import com.bank.customer.application.dto.LocalImportRequest;
+import com.bank.customer.application.execution.BlockingTaskRunner;
+import com.bank.customer.application.services.CustomerImportService;
+import com.bank.customer.presentation.exception.ApiErrorResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.multipart.FilePart;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.UUID;
+
+/**
+ * REST Controller para importación masiva de clientes.
+ * Base URL: /api/v1/customers/imports
+ *
+ * La importación corre en segundo plano: los endpoints responden 202 con el ID
+ * del trabajo y el progreso se consulta con GET /{jobId}.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/customers/imports")
+@RequiredArgsConstructor
+@Tag(name = "Customer Import", description = "Endpoints para importación masiva de clientes desde NDJSON/CSV")
+public class CustomerImportController {
+
+    private final CustomerImportService customerImportService;
+    private final BlockingTaskRunner blockingExecutor;
+
+    @Operation(
+            summary = "Importar clientes desde un archivo subido",
+            description = "Recibe un archivo NDJSON (un cliente por línea) o CSV con encabezado "
+                    + "(name,gender,identification,address,phone,password). El archivo se guarda en disco "
+                    + "y se procesa en streaming; las líneas rechazadas se escriben en un archivo aparte"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "202",
+                    description = "Importación iniciada",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ImportJobDTO.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Formato de archivo no soportado",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ApiErrorResponse.class)
+                    )
+            )
+    })
+    @PostMapping(
+            consumes = MediaType.MULTIPART_FORM_DATA_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public Mono<ImportJobDTO> importUploadedFile(
+            @Parameter(description = "Archivo a importar", required = true)
+            @RequestPart("file") FilePart file,
+            @Parameter(description = "Formato del archivo (por defecto según la extensión)", example = "NDJSON")
+            @RequestParam(required = false) String format) {
+
+        CustomerFileFormat fileFormat = CustomerFileFormat.resolve(format, file.filename());
+        log.info("REST request to import uploaded file {} ({})", file.filename(), fileFormat);
+
+        // Nombre propio en disco: el nombre del cliente solo se usa como sufijo informativo
+        String originalName = Paths.get(file.filename()).getFileName().toString();
+        String storedName = UUID.randomUUID() + "-" + originalName;
+
+        return blockingExecutor.call(customerImportService::getImportDirectory)
+                .flatMap(directory -> {
+                    Path target = directory.resolve(storedName);
+                    return file.transferTo(target);
+                })
+                .then(blockingExecutor.call(() -> customerImportService.startImport(storedName, fileFormat)));
+    }
+
+    @Operation(
+            summary = "Importar clientes desde un archivo local",
+            description = "Importa un archivo que ya está en el directorio de importación del servidor "
+                    + "(customer.import.directory), útil para archivos grandes copiados por fuera de HTTP"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "202",
+                    description = "Importación iniciada",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ImportJobDTO.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Archivo inexistente o formato no soportado",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ApiErrorResponse.class)
+                    )
+            )
+    })
+    @PostMapping(
+            value = "/local",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public Mono<ImportJobDTO> importLocalFile(
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "Archivo a importar",
+                    required = true,
+                    content = @Content(schema = @Schema(implementation = LocalImportRequest.class))
+            )
+            @Valid @RequestBody LocalImportRequest request) {
+
+        CustomerFileFormat fileFormat = CustomerFileFormat.resolve(request.getFormat(), request.getFileName());
+        log.info("REST request to import local file {} ({})", request.getFileName(), fileFormat);
+
+        return blockingExecutor.call(() -> customerImportService.startImport(request.getFileName(), fileFormat));
+    }
+
+    @Operation(
+            summary = "Consultar una importación",
+            description = "Devuelve el estado y el progreso (líneas leídas, importadas y rechazadas) de una importación"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Importación encontrada",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ImportJobDTO.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Importación no encontrada",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ApiErrorResponse.class)
+                    )
+            )
+    })
+    @GetMapping(
+            value = "/{jobId}",
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @ResponseStatus(HttpStatus.OK)
+    public Mono<ImportJobDTO> getImportJob(
+            @Parameter(description = "ID de la importación", required = true)
+            @PathVariable String jobId) {
+
+        log.info("REST request to get import job: {}", jobId);
+
+        return Mono.fromSupplier(() -> customerImportService.findImportJob(jobId));
+    }
+}
@@ -2,7 +2,12 @@
 package com.bank.customer.presentation.exception;
 
 import com.bank.customer.domain.exceptions.CustomerExceptions.*;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -13,15 +18,22 @@ import org.springframework.web.bind.support.WebExchangeBindException;
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * Manejador global de excepciones para toda la aplicación.
  * Intercepta excepciones y las convierte en responses HTTP con formato JSON.
+ * Cada error se cuenta en customer.errors con el tipo de excepción y el status devuelto.
  */
 @Slf4j
 @RestControllerAdvice
+@RequiredArgsConstructor
 public class GlobalExceptionHandler {
 
+    static final String ERRORS_METRIC = "customer.errors";
+
+    private final MeterRegistry meterRegistry;
+
     /**
      * Maneja CustomerNotFoundException
      * HTTP 404 Not Found
@@ -29,6 +41,7 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(CustomerNotFoundException.class)
     public ResponseEntity<ApiErrorResponse> handleCustomerNotFound(CustomerNotFoundException ex) {
         log.error("Customer not found: {}", ex.getMessage());
+        countError(ex, HttpStatus.NOT_FOUND);
 
         ApiErrorResponse error = ApiErrorResponse.builder()
                 .timestamp(LocalDateTime.now())
@@ -47,6 +60,7 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(CustomerAlreadyExistsException.class)
     public ResponseEntity<ApiErrorResponse> handleCustomerAlreadyExists(CustomerAlreadyExistsException ex) {
         log.error("Customer already exists: {}", ex.getMessage());
+        countError(ex, HttpStatus.CONFLICT);
 
         ApiErrorResponse error = ApiErrorResponse.builder()
                 .timestamp(LocalDateTime.now())
@@ -58,6 +72,65 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
     }
 
+    /**
+     * Maneja CustomerVersionMismatchException (If-Match con una versión que ya no es la actual)
+     * HTTP 412 Precondition Failed
+     */
+    @ExceptionHandler(CustomerVersionMismatchException.class)
+    public ResponseEntity<ApiErrorResponse> handleCustomerVersionMismatch(CustomerVersionMismatchException ex) {
+        log.warn("Customer version mismatch: {}", ex.getMessage());
+        countError(ex, HttpStatus.PRECONDITION_FAILED);
+
+        ApiErrorResponse error = ApiErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.PRECONDITION_FAILED.value())
+                .error("Precondition Failed")
+                .message(ex.getMessage())
+                .build();
+
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(error);
+    }
+
+    /**
+     * Maneja conflictos de bloqueo optimista: otra escritura cambió la versión
+     * entre la lectura y el UPDATE
+     * HTTP 409 Conflict
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ApiErrorResponse> handleOptimisticLockingFailure(OptimisticLockingFailureException ex) {
+        log.warn("Optimistic locking failure: {}", ex.getMessage());
+        countError(ex, HttpStatus.CONFLICT);
+
+        ApiErrorResponse error = ApiErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.CONFLICT.value())
+                .error("Conflict")
+                .message("The customer was modified concurrently, reload it and retry")
+                .build();
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
+    }
+
+    /**
+     * Maneja violaciones de restricciones de la base (p. ej. identificación duplicada
+     * insertada en paralelo entre la verificación y el INSERT)
+     * HTTP 409 Conflict
+     */
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<ApiErrorResponse> handleDataIntegrityViolation(DataIntegrityViolationException ex) {
+        log.error("Data integrity violation: {}", ex.getMostSpecificCause().getMessage());
+        countError(ex, HttpStatus.CONFLICT);
+
+        ApiErrorResponse error = ApiErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.CONFLICT.value())
+                .error("Conflict")
+                .message("The operation conflicts with existing customer data")
+                .build();
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
+    }
+
     /**
      * Maneja CustomerInactiveException
      * HTTP 403 Forbidden
@@ -65,6 +138,7 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(CustomerInactiveException.class)
     public ResponseEntity<ApiErrorResponse> handleCustomerInactive(CustomerInactiveException ex) {
         log.error("Customer inactive: {}", ex.getMessage());
+        countError(ex, HttpStatus.FORBIDDEN);
 
         ApiErrorResponse error = ApiErrorResponse.builder()
                 .timestamp(LocalDateTime.now())
@@ -76,6 +150,47 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.FORBIDDEN).body(error);
     }
 
+    /**
+     * Maneja CustomerAuthenticationException (contraseña errada o cliente inexistente,
+     * sin distinguir uno de otro)
+     * HTTP 401 Unauthorized
+     */
+    @ExceptionHandler(CustomerAuthenticationException.class)
+    public ResponseEntity<ApiErrorResponse> handleCustomerAuthentication(CustomerAuthenticationException ex) {
+        log.warn("Customer authentication failed: {}", ex.getMessage());
+        countError(ex, HttpStatus.UNAUTHORIZED);
+
+        ApiErrorResponse error = ApiErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.UNAUTHORIZED.value())
+                .error("Unauthorized")
+                .message(ex.getMessage())
+                .build();
+
+        return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(error);
+    }
+
+    /**
+     * Maneja CustomerVerificationThrottledException (límite de verificaciones concurrentes)
+     * HTTP 429 Too Many Requests
+     */
+    @ExceptionHandler(CustomerVerificationThrottledException.class)
+    public ResponseEntity<ApiErrorResponse> handleVerificationThrottled(CustomerVerificationThrottledException ex) {
+        log.warn("Credential verification throttled: {}", ex.getMessage());
+        countError(ex, HttpStatus.TOO_MANY_REQUESTS);
+
+        ApiErrorResponse error = ApiErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.TOO_MANY_REQUESTS.value())
+                .error("Too Many Requests")
+                .message(ex.getMessage())
+                .build();
+
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(error);
+    }
+
     /**
      * Maneja InvalidCustomerDataException
      * HTTP 400 Bad Request
@@ -83,6 +198,7 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(InvalidCustomerDataException.class)
     public ResponseEntity<ApiErrorResponse> handleInvalidCustomerData(InvalidCustomerDataException ex) {
         log.error("Invalid customer data: {}", ex.getMessage());
+        countError(ex, HttpStatus.BAD_REQUEST);
 
         ApiErrorResponse error = ApiErrorResponse.builder()
                 .timestamp(LocalDateTime.now())
@@ -101,6 +217,7 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(WebExchangeBindException.class)
     public ResponseEntity<ValidationErrorResponse> handleValidationErrors(WebExchangeBindException ex) {
         log.error("Validation error: {}", ex.getMessage());
+        countError(ex, HttpStatus.BAD_REQUEST);
 
         Map<String, String> errors = new HashMap<>();
         ex.getBindingResult().getAllErrors().forEach(error -> {
@@ -120,6 +237,25 @@ public class GlobalExceptionHandler {
         return ResponseEntity.badRequest().body(errorResponse);
     }
 
+    /**
+     * Maneja la saturación del scheduler de trabajo bloqueante (cola llena)
+     * HTTP 503 Service Unavailable
+     */
+    @ExceptionHandler(RejectedExecutionException.class)
+    public ResponseEntity<ApiErrorResponse> handleRejectedExecution(RejectedExecutionException ex) {
+        log.error("Request rejected, executor saturated: {}", ex.getMessage());
+        countError(ex, HttpStatus.SERVICE_UNAVAILABLE);
+
+        ApiErrorResponse error = ApiErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.SERVICE_UNAVAILABLE.value())
+                .error("Service Unavailable")
+                .message("The service is under heavy load. Please retry later.")
+                .build();
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(error);
+    }
+
     /**
      * Maneja cualquier otra excepción no controlada
      * HTTP 500 Internal Server Error
@@ -127,6 +263,7 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ApiErrorResponse> handleGenericException(Exception ex) {
         log.error("Unexpected error: {}", ex.getMessage(), ex);
+        countError(ex, HttpStatus.INTERNAL_SERVER_ERROR);
 
         ApiErrorResponse error = ApiErrorResponse.builder()
                 .timestamp(LocalDateTime.now())
@@ -137,4 +274,11 @@ public class GlobalExceptionHandler {
 
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(error);
     }
-}
\ No newline at end of file
+
+    private void countError(Exception ex, HttpStatus status) {
+        meterRegistry.counter(ERRORS_METRIC,
+                "exception", ex.getClass().getSimpleName(),
+                "status", String.valueOf(status.value())
+        ).increment();
+    }
+}
@@ -0,0 +1,59 @@
+package com.bank.customer.presentation.filter;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+/**
+ * Una sola línea de access log por request, al terminar la respuesta:
+ *
+ *   method=GET path=/api/v1/customers/1 status=200 duration_us=3120 signal=onComplete
+ *
+ * Reemplaza los logs INFO "REST request to ..." de cada capa (quedaron en DEBUG).
+ * Logger propio (com.bank.customer.access) para poder enrutarlo o apagarlo aparte;
+ * la línea se arma en un StringBuilder con capacidad fija, sin varargs ni formateo.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(name = "customer.access-log.enabled", havingValue = "true", matchIfMissing = true)
+public class AccessLogWebFilter implements WebFilter {
+
+    static final String LOGGER_NAME = "com.bank.customer.access";
+
+    private static final Logger log = LoggerFactory.getLogger(LOGGER_NAME);
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        if (!log.isInfoEnabled()) {
+            return chain.filter(exchange);
+        }
+
+        long start = System.nanoTime();
+        return chain.filter(exchange)
+                .doFinally(signal -> log.info(line(exchange, signal, System.nanoTime() - start)));
+    }
+
+    private String line(ServerWebExchange exchange, SignalType signal, long elapsedNanos) {
+        ServerHttpRequest request = exchange.getRequest();
+        HttpStatusCode status = exchange.getResponse().getStatusCode();
+        String path = request.getPath().value();
+
+        return new StringBuilder(64 + path.length())
+                .append("method=").append(request.getMethod().name())
+                .append(" path=").append(path)
+                .append(" status=").append(status != null ? status.value() : 0)
+                .append(" duration_us=").append(elapsedNanos / 1_000)
+                .append(" signal=").append(signal)
+                .toString();
+    }
+}
@@ -0,0 +1,116 @@
+package com.bank.customer.presentation.json;
+
+import com.bank.customer.application.dto.CustomerDTO;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import org.springframework.boot.jackson.JsonComponent;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Serializador de CustomerDTO sin reflexión, registrado en el ObjectMapper de Spring Boot
+ * (@JsonComponent): lo usan las respuestas JSON y NDJSON de lista, stream y detalle.
+ *
+ * Produce exactamente el mismo JSON que la serialización por defecto:
+ * mismo orden de campos, campos null omitidos (NON_NULL), fechas con el patrón
+ * yyyy-MM-dd'T'HH:mm:ss, version fuera del cuerpo, y active/summary al final.
+ *
+ * - Nombres de campo pre-codificados (SerializedString): se escriben sin escapar cada vez
+ * - Fechas escritas dígito a dígito en un char[19], sin DateTimeFormatter por valor
+ */
+@JsonComponent
+public class CustomerDTOSerializer extends StdSerializer<CustomerDTO> {
+
+    static final String TIMESTAMP_PATTERN = "yyyy-MM-dd'T'HH:mm:ss";
+
+    private static final DateTimeFormatter FALLBACK_FORMATTER = DateTimeFormatter.ofPattern(TIMESTAMP_PATTERN);
+    private static final int TIMESTAMP_LENGTH = 19;
+
+    private static final SerializedString ID = new SerializedString("id");
+    private static final SerializedString NAME = new SerializedString("name");
+    private static final SerializedString GENDER = new SerializedString("gender");
+    private static final SerializedString IDENTIFICATION = new SerializedString("identification");
+    private static final SerializedString ADDRESS = new SerializedString("address");
+    private static final SerializedString PHONE = new SerializedString("phone");
+    private static final SerializedString STATUS = new SerializedString("status");
+    private static final SerializedString CREATED_AT = new SerializedString("createdAt");
+    private static final SerializedString UPDATED_AT = new SerializedString("updatedAt");
+    private static final SerializedString ACTIVE = new SerializedString("active");
+    private static final SerializedString SUMMARY = new SerializedString("summary");
+
+    public CustomerDTOSerializer() {
+        super(CustomerDTO.class);
+    }
+
+    @Override
+    public void serialize(CustomerDTO customer, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(customer);
+
+        if (customer.getId() != null) {
+            gen.writeFieldName(ID);
+            gen.writeNumber(customer.getId());
+        }
+        writeString(gen, NAME, customer.getName());
+        writeString(gen, GENDER, customer.getGender());
+        writeString(gen, IDENTIFICATION, customer.getIdentification());
+        writeString(gen, ADDRESS, customer.getAddress());
+        writeString(gen, PHONE, customer.getPhone());
+        if (customer.getStatus() != null) {
+            gen.writeFieldName(STATUS);
+            gen.writeBoolean(customer.getStatus());
+        }
+        writeTimestamp(gen, CREATED_AT, customer.getCreatedAt());
+        writeTimestamp(gen, UPDATED_AT, customer.getUpdatedAt());
+
+        gen.writeFieldName(ACTIVE);
+        gen.writeBoolean(customer.isActive());
+        writeString(gen, SUMMARY, customer.getSummary());
+
+        gen.writeEndObject();
+    }
+
+    private static void writeString(JsonGenerator gen, SerializedString field, String value) throws IOException {
+        if (value != null) {
+            gen.writeFieldName(field);
+            gen.writeString(value);
+        }
+    }
+
+    private static void writeTimestamp(JsonGenerator gen, SerializedString field, LocalDateTime value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        gen.writeFieldName(field);
+
+        int year = value.getYear();
+        if (year < 0 || year > 9999) {
+            gen.writeString(FALLBACK_FORMATTER.format(value));
+            return;
+        }
+
+        char[] buffer = new char[TIMESTAMP_LENGTH];
+        writeDigits(buffer, 0, year, 4);
+        buffer[4] = '-';
+        writeDigits(buffer, 5, value.getMonthValue(), 2);
+        buffer[7] = '-';
+        writeDigits(buffer, 8, value.getDayOfMonth(), 2);
+        buffer[10] = 'T';
+        writeDigits(buffer, 11, value.getHour(), 2);
+        buffer[13] = ':';
+        writeDigits(buffer, 14, value.getMinute(), 2);
+        buffer[16] = ':';
+        writeDigits(buffer, 17, value.getSecond(), 2);
+        gen.writeString(buffer, 0, TIMESTAMP_LENGTH);
+    }
+
+    private static void writeDigits(char[] buffer, int offset, int value, int width) {
+        for (int i = offset + width - 1; i >= offset; i--) {
+            buffer[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+    }
+}
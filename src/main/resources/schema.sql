@@ -11,9 +11,45 @@ CREATE TABLE IF NOT EXISTS personas (
     direccion VARCHAR(200),
     telefono VARCHAR(15),
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
-    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    -- Bloqueo optimista (@Version de Person) y ETag de GET /{id}
+    version BIGINT NOT NULL DEFAULT 0,
+    -- Paginación keyset ordenada por fecha de actualización
+    INDEX idx_personas_updated_at_id (updated_at, id)
+);
+
+-- Migración: bases creadas antes de la columna version (CREATE TABLE IF NOT EXISTS no la agrega).
+-- MySQL no tiene ADD COLUMN IF NOT EXISTS: se consulta information_schema y se ejecuta el ALTER solo si falta.
+SET @ddl = (SELECT IF(COUNT(*) = 0,
+        'ALTER TABLE personas ADD COLUMN version BIGINT NOT NULL DEFAULT 0',
+        'DO 0')
+    FROM information_schema.columns
+    WHERE table_schema = DATABASE() AND table_name = 'personas' AND column_name = 'version');
+PREPARE migration FROM @ddl;
+EXECUTE migration;
+DEALLOCATE PREPARE migration;
+
+-- Migración: bases creadas antes del índice de paginación keyset por updated_at
+SET @ddl = (SELECT IF(COUNT(*) = 0,
+        'ALTER TABLE personas ADD INDEX idx_personas_updated_at_id (updated_at, id)',
+        'DO 0')
+    FROM information_schema.statistics
+    WHERE table_schema = DATABASE() AND table_name = 'personas' AND index_name = 'idx_personas_updated_at_id');
+PREPARE migration FROM @ddl;
+EXECUTE migration;
+DEALLOCATE PREPARE migration;
+
+-- Secuencia de IDs de personas (MySQL no tiene SEQUENCE: Hibernate usa esta tabla)
+-- Hibernate reserva bloques de 50 IDs (pooled): next_val = último ID del bloque reservado.
+-- Se inicializa en MAX(id) + 50 para no reutilizar IDs existentes.
+CREATE TABLE IF NOT EXISTS personas_seq (
+    next_val BIGINT NOT NULL
 );
 
+INSERT INTO personas_seq (next_val)
+SELECT COALESCE(MAX(id), 0) + 50 FROM personas
+WHERE NOT EXISTS (SELECT 1 FROM personas_seq);
+
 -- Tabla clientes (hereda de personas)
 CREATE TABLE IF NOT EXISTS clientes (
     id BIGINT PRIMARY KEY,
@@ -21,11 +57,88 @@ CREATE TABLE IF NOT EXISTS clientes (
     estado BOOLEAN DEFAULT TRUE,
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
-    FOREIGN KEY (id) REFERENCES personas(id) ON DELETE CASCADE
+    FOREIGN KEY (id) REFERENCES personas(id) ON DELETE CASCADE,
+    -- Paginación keyset filtrada por estado
+    INDEX idx_clientes_estado_id (estado, id)
 );
 
+-- Migración: bases creadas antes del índice de paginación keyset por estado
+SET @ddl = (SELECT IF(COUNT(*) = 0,
+        'ALTER TABLE clientes ADD INDEX idx_clientes_estado_id (estado, id)',
+        'DO 0')
+    FROM information_schema.statistics
+    WHERE table_schema = DATABASE() AND table_name = 'clientes' AND index_name = 'idx_clientes_estado_id');
+PREPARE migration FROM @ddl;
+EXECUTE migration;
+DEALLOCATE PREPARE migration;
+
+-- ========== MODELO DE LECTURA (customer.read-model.enabled) ==========
+-- Copia aplanada de personas + clientes (sin contraseña) para leer sin JOIN.
+-- La mantienen los triggers de abajo dentro de la misma transacción de cada escritura,
+-- sea por JPA, R2DBC o SQL directo.
+CREATE TABLE IF NOT EXISTS customer_view (
+    id BIGINT PRIMARY KEY,
+    nombre VARCHAR(100) NOT NULL,
+    genero VARCHAR(20),
+    identificacion VARCHAR(20) UNIQUE NOT NULL,
+    direccion VARCHAR(200),
+    telefono VARCHAR(15),
+    estado BOOLEAN,
+    created_at TIMESTAMP NULL,
+    updated_at TIMESTAMP NULL,
+    version BIGINT NOT NULL DEFAULT 0,
+    INDEX idx_customer_view_updated_at_id (updated_at, id),
+    INDEX idx_customer_view_estado_id (estado, id)
+);
+
+-- Migración: customer_view creada antes de la columna version (los triggers de abajo la escriben)
+SET @ddl = (SELECT IF(COUNT(*) = 0,
+        'ALTER TABLE customer_view ADD COLUMN version BIGINT NOT NULL DEFAULT 0',
+        'DO 0')
+    FROM information_schema.columns
+    WHERE table_schema = DATABASE() AND table_name = 'customer_view' AND column_name = 'version');
+PREPARE migration FROM @ddl;
+EXECUTE migration;
+DEALLOCATE PREPARE migration;
+
+-- Hibernate inserta personas y luego clientes: la fila completa existe al insertar en clientes
+DROP TRIGGER IF EXISTS trg_clientes_view_insert;
+CREATE TRIGGER trg_clientes_view_insert AFTER INSERT ON clientes
+FOR EACH ROW
+    INSERT INTO customer_view (id, nombre, genero, identificacion, direccion, telefono, estado, created_at, updated_at, version)
+    SELECT p.id, p.nombre, p.genero, p.identificacion, p.direccion, p.telefono, NEW.estado, p.created_at, p.updated_at, p.version
+    FROM personas p
+    WHERE p.id = NEW.id;
+
+DROP TRIGGER IF EXISTS trg_personas_view_update;
+CREATE TRIGGER trg_personas_view_update AFTER UPDATE ON personas
+FOR EACH ROW
+    UPDATE customer_view
+    SET nombre = NEW.nombre, genero = NEW.genero, identificacion = NEW.identificacion,
+        direccion = NEW.direccion, telefono = NEW.telefono, updated_at = NEW.updated_at,
+        version = NEW.version
+    WHERE id = NEW.id;
+
+DROP TRIGGER IF EXISTS trg_clientes_view_update;
+CREATE TRIGGER trg_clientes_view_update AFTER UPDATE ON clientes
+FOR EACH ROW
+    UPDATE customer_view SET estado = NEW.estado WHERE id = NEW.id;
+
+-- Los borrados en cascada de clientes no disparan triggers: se escucha el borrado de personas
+DROP TRIGGER IF EXISTS trg_personas_view_delete;
+CREATE TRIGGER trg_personas_view_delete AFTER DELETE ON personas
+FOR EACH ROW
+    DELETE FROM customer_view WHERE id = OLD.id;
+
+-- Carga inicial para bases con datos previos
+INSERT IGNORE INTO customer_view (id, nombre, genero, identificacion, direccion, telefono, estado, created_at, updated_at, version)
+SELECT p.id, p.nombre, p.genero, p.identificacion, p.direccion, p.telefono, c.estado, p.created_at, p.updated_at, p.version
+FROM personas p
+JOIN clientes c ON c.id = p.id;
+
 -- Índices para optimización (sin IF NOT EXISTS)
 -- El UNIQUE en identificacion ya crea un índice automáticamente
--- Solo agregamos índice para clientes.estado si es necesario
--- CREATE INDEX IF NOT EXISTS idx_persona_identificacion ON personas(identificacion);
--- CREATE INDEX IF NOT EXISTS idx_cliente_estado ON clientes(estado);
\ No newline at end of file
+-- Los índices de paginación keyset se declaran dentro de cada CREATE TABLE
+-- (idx_personas_updated_at_id, idx_clientes_estado_id) y las bases existentes
+-- los reciben con las migraciones de arriba
+-- CREATE INDEX IF NOT EXISTS idx_persona_identificacion ON personas(identificacion);
\ No newline at end of file
@@ -0,0 +1,239 @@
+package com.bank.customer.application.services;
+
+import com.bank.customer.application.security.PasswordHasher;
+import com.bank.customer.domain.exceptions.CustomerExceptions.CustomerAuthenticationException;
+import com.bank.customer.domain.exceptions.CustomerExceptions.CustomerInactiveException;
+import com.bank.customer.domain.exceptions.CustomerExceptions.CustomerVerificationThrottledException;
+import com.bank.customer.domain.projections.CustomerCredentials;
+import com.bank.customer.domain.repositories.CustomerRepository;
+import com.bank.customer.infrastructure.execution.BlockingExecutor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Pruebas unitarias para CustomerCredentialServiceImpl
+ *
+ * El BlockingExecutor usa Schedulers.immediate(): todo corre en el hilo del test y una
+ * verificación "en curso" se simula con un hash que no emite (Mono.never()).
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Customer Credential Service - Unit Tests")
+class CustomerCredentialServiceImplTest {
+
+    private static final String IDENTIFICATION = "1712345675";
+    private static final String PASSWORD = "password123";
+    private static final String HASH = "$2a$04$hash";
+
+    @Mock
+    private CustomerRepository customerRepository;
+
+    @Mock
+    private PasswordHasher passwordHasher;
+
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    // ========== CREDENCIALES ==========
+
+    @Test
+    @DisplayName("Should return the customer ID when the password matches")
+    void verify_ShouldSucceedWithValidPassword() {
+        CustomerCredentialServiceImpl service = service(64, 2);
+        givenCredentials(IDENTIFICATION, new CustomerCredentials(1L, HASH, true));
+        when(passwordHasher.matches(PASSWORD, HASH)).thenReturn(Mono.just(true));
+
+        StepVerifier.create(service.verify(IDENTIFICATION, PASSWORD))
+                .assertNext(response -> {
+                    assertEquals(1L, response.getCustomerId());
+                    assertEquals(IDENTIFICATION, response.getIdentification());
+                })
+                .verifyComplete();
+
+        assertEquals(1.0, count("success"));
+        verify(customerRepository, never()).updatePassword(anyLong(), anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("Should check an unknown identification against the dummy hash and return the same 401")
+    void verify_ShouldHideUnknownIdentification() {
+        CustomerCredentialServiceImpl service = service(64, 2);
+        givenCredentials("9999999999", null);
+        when(passwordHasher.matches(PASSWORD, null)).thenReturn(Mono.just(false));
+        givenCredentials(IDENTIFICATION, new CustomerCredentials(1L, HASH, true));
+        when(passwordHasher.matches("wrong", HASH)).thenReturn(Mono.just(false));
+
+        Throwable unknown = assertThrows(RuntimeException.class,
+                () -> service.verify("9999999999", PASSWORD).block());
+        Throwable wrongPassword = assertThrows(RuntimeException.class,
+                () -> service.verify(IDENTIFICATION, "wrong").block());
+
+        assertInstanceOf(CustomerAuthenticationException.class, unknown);
+        assertInstanceOf(CustomerAuthenticationException.class, wrongPassword);
+        assertEquals(wrongPassword.getMessage(), unknown.getMessage());
+        // El hash ficticio se calcula igual: matches con encodedPassword null
+        verify(passwordHasher, times(1)).matches(PASSWORD, null);
+        assertEquals(2.0, count("failure"));
+    }
+
+    @Test
+    @DisplayName("Should return 403 for an inactive customer only when the password is correct")
+    void verify_ShouldRevealInactiveOnlyWithCorrectPassword() {
+        CustomerCredentialServiceImpl service = service(64, 2);
+        givenCredentials(IDENTIFICATION, new CustomerCredentials(1L, HASH, false));
+        when(passwordHasher.matches(PASSWORD, HASH)).thenReturn(Mono.just(true));
+        when(passwordHasher.matches("wrong", HASH)).thenReturn(Mono.just(false));
+
+        StepVerifier.create(service.verify(IDENTIFICATION, "wrong"))
+                .expectError(CustomerAuthenticationException.class)
+                .verify();
+        StepVerifier.create(service.verify(IDENTIFICATION, PASSWORD))
+                .expectError(CustomerInactiveException.class)
+                .verify();
+
+        assertEquals(1.0, count("inactive"));
+    }
+
+    @Test
+    @DisplayName("Should upgrade an outdated hash with a conditional update after a successful login")
+    void verify_ShouldRehashOutdatedPassword() {
+        CustomerCredentialServiceImpl service = service(64, 2);
+        givenCredentials(IDENTIFICATION, new CustomerCredentials(1L, "plain-legacy", true));
+        when(passwordHasher.matches(PASSWORD, "plain-legacy")).thenReturn(Mono.just(true));
+        when(passwordHasher.needsRehash("plain-legacy")).thenReturn(true);
+        when(passwordHasher.hash(PASSWORD)).thenReturn(Mono.just(HASH));
+        // 0 filas: la contraseña cambió entre la lectura y el UPDATE, no se pisa
+        when(customerRepository.updatePassword(1L, "plain-legacy", HASH)).thenReturn(0);
+
+        StepVerifier.create(service.verify(IDENTIFICATION, PASSWORD))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        verify(customerRepository, times(1)).updatePassword(1L, "plain-legacy", HASH);
+    }
+
+    // ========== LÍMITES DE CONCURRENCIA ==========
+
+    @Test
+    @DisplayName("Should return 429 when the global limit is reached and release the permit on cancel")
+    void verify_ShouldThrottleGlobalLimitAndReleaseOnCancel() {
+        CustomerCredentialServiceImpl service = service(1, 2);
+        givenCredentials(IDENTIFICATION, new CustomerCredentials(1L, HASH, true));
+        when(passwordHasher.matches(PASSWORD, HASH)).thenReturn(Mono.never(), Mono.just(true));
+
+        Disposable inFlight = service.verify(IDENTIFICATION, PASSWORD).subscribe();
+        assertEquals(1.0, inFlight());
+
+        StepVerifier.create(service.verify("1700000001", PASSWORD))
+                .expectError(CustomerVerificationThrottledException.class)
+                .verify();
+        verify(customerRepository, never()).findCredentialsByIdentification("1700000001");
+
+        inFlight.dispose();
+        assertEquals(0.0, inFlight());
+
+        StepVerifier.create(service.verify(IDENTIFICATION, PASSWORD))
+                .expectNextCount(1)
+                .verifyComplete();
+        assertEquals(1.0, count("throttled"));
+    }
+
+    @Test
+    @DisplayName("Should limit concurrent verifications per identification")
+    void verify_ShouldThrottlePerIdentification() {
+        CustomerCredentialServiceImpl service = service(64, 1);
+        givenCredentials(IDENTIFICATION, new CustomerCredentials(1L, HASH, true));
+        givenCredentials("1700000001", new CustomerCredentials(2L, HASH, true));
+        when(passwordHasher.matches(PASSWORD, HASH)).thenReturn(Mono.never(), Mono.just(true));
+
+        Disposable inFlight = service.verify(IDENTIFICATION, PASSWORD).subscribe();
+
+        StepVerifier.create(service.verify(IDENTIFICATION, PASSWORD))
+                .expectError(CustomerVerificationThrottledException.class)
+                .verify();
+        StepVerifier.create(service.verify("1700000001", PASSWORD))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        inFlight.dispose();
+        assertEquals(0.0, inFlight());
+    }
+
+    @Test
+    @DisplayName("Should release permits when the verification fails")
+    void verify_ShouldReleasePermitsOnError() {
+        CustomerCredentialServiceImpl service = service(1, 1);
+        when(customerRepository.findCredentialsByIdentification(IDENTIFICATION))
+                .thenThrow(new IllegalStateException("database down"))
+                .thenReturn(Optional.of(new CustomerCredentials(1L, HASH, true)));
+        when(passwordHasher.matches(PASSWORD, HASH)).thenReturn(Mono.just(true));
+
+        StepVerifier.create(service.verify(IDENTIFICATION, PASSWORD))
+                .expectError(IllegalStateException.class)
+                .verify();
+        assertEquals(0.0, inFlight());
+
+        StepVerifier.create(service.verify(IDENTIFICATION, PASSWORD))
+                .expectNextCount(1)
+                .verifyComplete();
+    }
+
+    // ========== INTENTOS FALLIDOS ==========
+
+    @Test
+    @DisplayName("Should not lock an identification after failed verifications")
+    void verify_ShouldNotLockAfterFailures() {
+        // Un tercero que conoce la identificación no puede bloquear al cliente
+        CustomerCredentialServiceImpl service = service(64, 2);
+        givenCredentials(IDENTIFICATION, new CustomerCredentials(1L, HASH, true));
+        when(passwordHasher.matches("wrong", HASH)).thenReturn(Mono.just(false));
+        when(passwordHasher.matches(PASSWORD, HASH)).thenReturn(Mono.just(true));
+
+        for (int attempt = 0; attempt < 10; attempt++) {
+            StepVerifier.create(service.verify(IDENTIFICATION, "wrong"))
+                    .expectError(CustomerAuthenticationException.class)
+                    .verify();
+        }
+
+        StepVerifier.create(service.verify(IDENTIFICATION, PASSWORD)).expectNextCount(1).verifyComplete();
+        assertEquals(10.0, count("failure"));
+    }
+
+    private CustomerCredentialServiceImpl service(int maxConcurrent, int maxPerIdentification) {
+        BlockingExecutor executor = new BlockingExecutor(Schedulers.immediate(), "test", meterRegistry);
+        return new CustomerCredentialServiceImpl(customerRepository, executor, passwordHasher, meterRegistry,
+                maxConcurrent, maxPerIdentification);
+    }
+
+    private void givenCredentials(String identification, CustomerCredentials credentials) {
+        lenient().when(customerRepository.findCredentialsByIdentification(identification))
+                .thenReturn(Optional.ofNullable(credentials));
+    }
+
+    private double count(String result) {
+        return meterRegistry.get("customer.verification").tag("result", result).counter().count();
+    }
+
+    private double inFlight() {
+        return meterRegistry.get("customer.verification.in.flight").gauge().value();
+    }
+}
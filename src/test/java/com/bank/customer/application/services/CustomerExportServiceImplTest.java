@@ -0,0 +1,174 @@
+package com.bank.customer.application.services;
+
+import com.bank.customer.application.dto.CustomerFileFormat;
+import com.bank.customer.application.dto.ExportCustomersRequest;
+import com.bank.customer.application.dto.ExportJobDTO;
+import com.bank.customer.application.export.CustomerExporter;
+import com.bank.customer.domain.exceptions.CustomerExceptions.CustomerNotFoundException;
+import com.bank.customer.infrastructure.execution.BlockingExecutor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.when;
+
+/**
+ * Ciclo de vida de las exportaciones con archivos reales en un directorio temporal.
+ * CustomerExporter es un mock que escribe (o falla) directamente en el canal.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Customer Export Service - Unit Tests")
+class CustomerExportServiceImplTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    @TempDir
+    Path exportDirectory;
+
+    @Mock
+    private CustomerExporter exporter;
+
+    private CustomerExportServiceImpl exportService;
+
+    @Test
+    @DisplayName("Should rename the .part file to the final name when the export completes")
+    void startExport_ShouldWriteFinalFile() throws IOException {
+        exportService = exportService(Duration.ofHours(1));
+        when(exporter.export(eq(CustomerFileFormat.CSV), isNull(), isNull(), any()))
+                .thenAnswer(invocation -> {
+                    WritableByteChannel channel = invocation.getArgument(3);
+                    channel.write(ByteBuffer.wrap("id,name\n1,Maria\n".getBytes(StandardCharsets.UTF_8)));
+                    return 1L;
+                });
+
+        ExportJobDTO job = await(exportService.startExport(new ExportCustomersRequest()));
+
+        assertEquals(ExportJobDTO.Status.COMPLETED, job.getStatus());
+        assertEquals(1, job.getRows());
+        Path file = exportService.findExportFile(job.getId());
+        assertEquals("id,name\n1,Maria\n", Files.readString(file));
+        assertEquals(Files.size(file), job.getBytes());
+        assertEquals(1, listFiles().length);
+    }
+
+    @Test
+    @DisplayName("Should delete the .part file and mark the job FAILED when the exporter throws")
+    void startExport_ShouldDeletePartialFileOnFailure() throws IOException {
+        exportService = exportService(Duration.ofHours(1));
+        when(exporter.export(any(), any(), any(), any()))
+                .thenAnswer(invocation -> {
+                    WritableByteChannel channel = invocation.getArgument(3);
+                    channel.write(ByteBuffer.wrap("id,name\n1,Mar".getBytes(StandardCharsets.UTF_8)));
+                    throw new UncheckedIOException("Cannot write export", new IOException("disk full"));
+                });
+
+        ExportJobDTO job = await(exportService.startExport(ExportCustomersRequest.builder().gzip(true).build()));
+
+        assertEquals(ExportJobDTO.Status.FAILED, job.getStatus());
+        assertEquals("Cannot write export", job.getError());
+        assertEquals(0, listFiles().length);
+        assertThrows(RuntimeException.class, () -> exportService.findExportFile(job.getId()));
+    }
+
+    @Test
+    @DisplayName("Should forget finished jobs after the retention window")
+    void findExportJob_ShouldExpireFinishedJobs() {
+        exportService = exportService(Duration.ZERO);
+        when(exporter.export(any(), any(), any(), any())).thenReturn(0L);
+
+        String jobId = exportService.startExport(new ExportCustomersRequest()).getId();
+
+        long deadline = System.nanoTime() + TIMEOUT.toNanos();
+        assertThrows(CustomerNotFoundException.class, () -> {
+            while (System.nanoTime() < deadline) {
+                exportService.findExportJob(jobId);
+                Thread.onSpinWait();
+            }
+        });
+    }
+
+    @Test
+    @DisplayName("Should reject exports beyond max-concurrent and accept new ones once a slot frees up")
+    void startExport_ShouldLimitConcurrentExports() throws InterruptedException {
+        exportService = exportService(Duration.ofHours(1), 1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(exporter.export(any(), any(), any(), any()))
+                .thenAnswer(invocation -> {
+                    assertTrue(release.await(TIMEOUT.toSeconds(), TimeUnit.SECONDS));
+                    return 0L;
+                });
+
+        ExportJobDTO running = exportService.startExport(new ExportCustomersRequest());
+        assertThrows(RejectedExecutionException.class,
+                () -> exportService.startExport(new ExportCustomersRequest()));
+
+        release.countDown();
+        assertEquals(ExportJobDTO.Status.COMPLETED, await(running).getStatus());
+
+        // El permiso se libera después de marcar el trabajo como terminado
+        long deadline = System.nanoTime() + TIMEOUT.toNanos();
+        ExportJobDTO next = null;
+        while (next == null) {
+            assertTrue(System.nanoTime() < deadline, "export slot was not released in " + TIMEOUT);
+            try {
+                next = exportService.startExport(new ExportCustomersRequest());
+            } catch (RejectedExecutionException e) {
+                Thread.onSpinWait();
+            }
+        }
+        assertEquals(ExportJobDTO.Status.COMPLETED, await(next).getStatus());
+    }
+
+    private CustomerExportServiceImpl exportService(Duration jobRetention) {
+        return exportService(jobRetention, 2);
+    }
+
+    private CustomerExportServiceImpl exportService(Duration jobRetention, int maxConcurrent) {
+        return new CustomerExportServiceImpl(
+                exporter,
+                new BlockingExecutor(Schedulers.boundedElastic(), "test", new SimpleMeterRegistry()),
+                exportDirectory.toString(),
+                1024,
+                maxConcurrent,
+                jobRetention);
+    }
+
+    private Path[] listFiles() throws IOException {
+        try (Stream<Path> files = Files.list(exportDirectory)) {
+            return files.toArray(Path[]::new);
+        }
+    }
+
+    private ExportJobDTO await(ExportJobDTO started) {
+        long deadline = System.nanoTime() + TIMEOUT.toNanos();
+        ExportJobDTO job = started;
+        while (job.getStatus() == ExportJobDTO.Status.RUNNING) {
+            assertTrue(System.nanoTime() < deadline, "export did not finish in " + TIMEOUT);
+            Thread.onSpinWait();
+            job = exportService.findExportJob(started.getId());
+        }
+        return job;
+    }
+}
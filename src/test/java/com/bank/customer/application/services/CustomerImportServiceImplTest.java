@@ -0,0 +1,282 @@
+package com.bank.customer.application.services;
+
+import com.bank.customer.application.dto.BatchCreateCustomersResponse;
+import com.bank.customer.application.dto.BatchCreateCustomersResponse.ItemResult;
+import com.bank.customer.application.dto.BatchCreateCustomersResponse.ItemStatus;
+import com.bank.customer.application.dto.CreateCustomerRequest;
+import com.bank.customer.application.dto.CustomerFileFormat;
+import com.bank.customer.application.dto.ImportJobDTO;
+import com.bank.customer.domain.exceptions.CustomerExceptions.CustomerNotFoundException;
+import com.bank.customer.infrastructure.execution.BlockingExecutor;
+import com.bank.customer.infrastructure.security.BCryptPasswordHasher;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * Pruebas del pipeline de importación con archivos reales en un directorio temporal.
+ * CustomerService es un mock que registra los lotes recibidos y los da por creados.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Customer Import Service - Unit Tests")
+class CustomerImportServiceImplTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    @TempDir
+    Path importDirectory;
+
+    @Mock
+    private CustomerService customerService;
+
+    private BCryptPasswordHasher passwordHasher;
+    private CustomerImportServiceImpl importService;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<CreateCustomerRequest> written = new ArrayList<>();
+    private final List<String> writerThreads = new ArrayList<>();
+    private Scheduler jobScheduler;
+
+    @BeforeEach
+    void setUp() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        passwordHasher = new BCryptPasswordHasher(meterRegistry, 1, 100, 4, 10, 14, Duration.ofMillis(250), false);
+        jobScheduler = Schedulers.newBoundedElastic(2, 16, "test-jobs");
+        importService = importService(Duration.ofHours(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        passwordHasher.destroy();
+        jobScheduler.dispose();
+    }
+
+    @Test
+    @DisplayName("Should hash passwords before writing the batches")
+    void startImport_ShouldHashPasswords() throws IOException {
+        givenAllCreated();
+        write("customers.ndjson",
+                "{\"name\":\"Maria Lopez\",\"identification\":\"7300000001\",\"password\":\"first-secret\"}",
+                "{\"name\":\"Juan Perez\",\"identification\":\"7300000002\",\"password\":\"second-secret\"}");
+
+        ImportJobDTO job = await(importService.startImport("customers.ndjson", CustomerFileFormat.NDJSON));
+
+        assertEquals(ImportJobDTO.Status.COMPLETED, job.getStatus());
+        assertEquals(2, job.getImported());
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder();
+        assertEquals(2, written.size());
+        assertTrue(bcrypt.matches("first-secret", written.get(0).getPassword()));
+        assertTrue(bcrypt.matches("second-secret", written.get(1).getPassword()));
+    }
+
+    @Test
+    @DisplayName("Should write the batches on the job executor, not on the request pool")
+    void startImport_ShouldWriteOnJobExecutor() throws IOException {
+        givenAllCreated();
+        write("customers.ndjson",
+                "{\"name\":\"Maria Lopez\",\"identification\":\"7300000003\",\"password\":\"secret-1\"}",
+                "{\"name\":\"Juan Perez\",\"identification\":\"7300000004\",\"password\":\"secret-2\"}",
+                "{\"name\":\"Ana Torres\",\"identification\":\"7300000005\",\"password\":\"secret-3\"}");
+
+        ImportJobDTO job = await(importService.startImport("customers.ndjson", CustomerFileFormat.NDJSON));
+
+        assertEquals(ImportJobDTO.Status.COMPLETED, job.getStatus());
+        assertEquals(2, writerThreads.size());
+        assertTrue(writerThreads.stream().allMatch(thread -> thread.startsWith("test-jobs")), writerThreads.toString());
+    }
+
+    // ========== CSV ==========
+
+    @Test
+    @DisplayName("Should parse quoted CSV values with commas and escaped quotes")
+    void startImport_ShouldParseQuotedCsv() throws IOException {
+        givenAllCreated();
+        write("customers.csv",
+                "Name, Identification ,password,address,phone",
+                "\"Lopez, Maria\",7300000011,secret-1,\"Av. \"\"Amazonas\"\" N34, Quito\",",
+                "Juan Perez,7300000012,secret-2,,0999999999");
+
+        ImportJobDTO job = await(importService.startImport("customers.csv", CustomerFileFormat.CSV));
+
+        assertEquals(ImportJobDTO.Status.COMPLETED, job.getStatus());
+        assertEquals(2, job.getLinesRead());
+        assertEquals(2, job.getImported());
+        assertEquals("Lopez, Maria", written.get(0).getName());
+        assertEquals("Av. \"Amazonas\" N34, Quito", written.get(0).getAddress());
+        // Valor vacío = null
+        assertNull(written.get(0).getPhone());
+        assertNull(written.get(1).getAddress());
+        assertEquals("0999999999", written.get(1).getPhone());
+    }
+
+    @Test
+    @DisplayName("Should fail the import when the CSV header lacks required columns")
+    void startImport_ShouldFailOnBadHeader() throws IOException {
+        write("customers.csv",
+                "name,identification,phone",
+                "Maria Lopez,7300000021,0999999999");
+
+        ImportJobDTO job = await(importService.startImport("customers.csv", CustomerFileFormat.CSV));
+
+        assertEquals(ImportJobDTO.Status.FAILED, job.getStatus());
+        assertTrue(job.getError().contains("CSV header must include"), job.getError());
+        verifyNoInteractions(customerService);
+    }
+
+    // ========== RECHAZOS ==========
+
+    @Test
+    @DisplayName("Should write each rejected row to the rejects file and import the rest")
+    void startImport_ShouldWriteRejects() throws IOException {
+        givenAllCreated();
+        write("customers.csv",
+                "name,identification,password",
+                "Maria Lopez,7300000031,secret-1",
+                "Juan Perez,12AB,secret-2",
+                "\"unterminated,7300000033,secret-3",
+                "Ana Torres,7300000034",
+                "",
+                "Luis Vera,7300000035,secret-5");
+
+        ImportJobDTO job = await(importService.startImport("customers.csv", CustomerFileFormat.CSV));
+
+        assertEquals(ImportJobDTO.Status.COMPLETED, job.getStatus());
+        assertEquals(5, job.getLinesRead());
+        assertEquals(2, job.getImported());
+        assertEquals(3, job.getRejected());
+
+        List<JsonNode> rejects = rejects(job);
+        assertEquals(List.of(3L, 4L, 5L), rejects.stream().map(reject -> reject.get("line").asLong()).toList());
+        assertEquals("12AB", rejects.get(0).get("identification").asText());
+        assertTrue(rejects.get(0).get("reason").asText().startsWith("identification: "));
+        assertTrue(rejects.get(1).get("reason").asText().contains("unterminated quoted value"));
+        assertTrue(rejects.get(2).get("reason").asText().contains("expected 3 columns but found 2"));
+    }
+
+    @Test
+    @DisplayName("Should reject the rows of a failed batch and continue with the next batches")
+    void startImport_ShouldRejectFailedBatch() throws IOException {
+        when(customerService.createValidatedCustomersBatch(anyList()))
+                .thenThrow(new IllegalStateException("Duplicate entry '7300000041'"))
+                .thenAnswer(invocation -> created(invocation.getArgument(0)));
+        write("customers.ndjson",
+                "{\"name\":\"Maria Lopez\",\"identification\":\"7300000041\",\"password\":\"secret-1\"}",
+                "{\"name\":\"Juan Perez\",\"identification\":\"7300000042\",\"password\":\"secret-2\"}",
+                "{\"name\":\"Ana Torres\",\"identification\":\"7300000043\",\"password\":\"secret-3\"}");
+
+        ImportJobDTO job = await(importService.startImport("customers.ndjson", CustomerFileFormat.NDJSON));
+
+        assertEquals(ImportJobDTO.Status.COMPLETED, job.getStatus());
+        assertEquals(1, job.getImported());
+        assertEquals(2, job.getRejected());
+
+        List<JsonNode> rejects = rejects(job);
+        assertEquals(List.of("7300000041", "7300000042"),
+                rejects.stream().map(reject -> reject.get("identification").asText()).toList());
+        assertTrue(rejects.get(0).get("reason").asText().startsWith("Batch insert failed: Duplicate entry"));
+    }
+
+    // ========== RETENCIÓN ==========
+
+    @Test
+    @DisplayName("Should forget finished jobs after the retention window")
+    void findImportJob_ShouldExpireFinishedJobs() throws IOException {
+        importService = importService(Duration.ZERO);
+        givenAllCreated();
+        write("customers.ndjson",
+                "{\"name\":\"Maria Lopez\",\"identification\":\"7300000051\",\"password\":\"secret-1\"}");
+
+        String jobId = importService.startImport("customers.ndjson", CustomerFileFormat.NDJSON).getId();
+
+        long deadline = System.nanoTime() + TIMEOUT.toNanos();
+        assertThrows(CustomerNotFoundException.class, () -> {
+            while (System.nanoTime() < deadline) {
+                importService.findImportJob(jobId);
+                Thread.onSpinWait();
+            }
+        });
+        verify(customerService, times(1)).createValidatedCustomersBatch(anyList());
+    }
+
+    private CustomerImportServiceImpl importService(Duration jobRetention) {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        return new CustomerImportServiceImpl(
+                customerService,
+                new BlockingExecutor(jobScheduler, "test", meterRegistry),
+                passwordHasher,
+                Validation.buildDefaultValidatorFactory().getValidator(),
+                objectMapper,
+                importDirectory.toString(),
+                2,
+                jobRetention);
+    }
+
+    private List<JsonNode> rejects(ImportJobDTO job) throws IOException {
+        List<JsonNode> rejects = new ArrayList<>();
+        for (String line : Files.readAllLines(Path.of(job.getRejectsFile()), StandardCharsets.UTF_8)) {
+            rejects.add(objectMapper.readTree(line));
+        }
+        return rejects;
+    }
+
+    private void givenAllCreated() {
+        when(customerService.createValidatedCustomersBatch(anyList()))
+                .thenAnswer(invocation -> created(invocation.getArgument(0)));
+    }
+
+    private BatchCreateCustomersResponse created(List<CreateCustomerRequest> batch) {
+        writerThreads.add(Thread.currentThread().getName());
+        written.addAll(batch);
+        return BatchCreateCustomersResponse.builder()
+                .total(batch.size())
+                .created(batch.size())
+                .rejected(0)
+                .results(IntStream.range(0, batch.size())
+                        .mapToObj(i -> ItemResult.builder()
+                                .index(i)
+                                .identification(batch.get(i).getIdentification())
+                                .status(ItemStatus.CREATED)
+                                .build())
+                        .toList())
+                .build();
+    }
+
+    private void write(String fileName, String... lines) throws IOException {
+        Files.write(importDirectory.resolve(fileName), List.of(lines), StandardCharsets.UTF_8);
+    }
+
+    private ImportJobDTO await(ImportJobDTO started) {
+        long deadline = System.nanoTime() + TIMEOUT.toNanos();
+        ImportJobDTO job = started;
+        while (job.getStatus() == ImportJobDTO.Status.RUNNING) {
+            assertTrue(System.nanoTime() < deadline, "import did not finish in " + TIMEOUT);
+            Thread.onSpinWait();
+            job = importService.findImportJob(started.getId());
+        }
+        return job;
+    }
+}
@@ -1,12 +1,28 @@
 package com.bank.customer.application.services;
 
+import com.bank.customer.application.cache.CustomerCache;
+import com.bank.customer.application.index.IdentificationFilter;
+import com.bank.customer.application.index.IdentificationIndex;
+import com.bank.customer.application.security.PasswordHasher;
+import com.bank.customer.application.dto.BatchCreateCustomersResponse;
+import com.bank.customer.application.dto.BatchCreateCustomersResponse.ItemStatus;
+import com.bank.customer.application.dto.BulkOperationResponse;
 import com.bank.customer.application.dto.CreateCustomerRequest;
 import com.bank.customer.application.dto.CustomerDTO;
+import com.bank.customer.application.dto.CustomerPageDTO;
+import com.bank.customer.application.dto.PatchCustomerRequest;
 import com.bank.customer.application.dto.UpdateCustomerRequest;
 import com.bank.customer.domain.entities.Customer;
 import com.bank.customer.domain.exceptions.CustomerExceptions.CustomerAlreadyExistsException;
 import com.bank.customer.domain.exceptions.CustomerExceptions.CustomerNotFoundException;
+import com.bank.customer.domain.exceptions.CustomerExceptions.CustomerVersionMismatchException;
+import com.bank.customer.domain.exceptions.CustomerExceptions.InvalidCustomerDataException;
+import com.bank.customer.domain.projections.CustomerProjection;
+import com.bank.customer.domain.repositories.CustomerPageQuery;
+import com.bank.customer.domain.repositories.CustomerSort;
 import com.bank.customer.domain.repositories.CustomerRepository;
+import com.bank.customer.domain.repositories.ReactiveCustomerRepository;
+import jakarta.validation.Validator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -14,11 +30,20 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -37,9 +62,30 @@ import static org.mockito.Mockito.*;
 @DisplayName("Customer Service - Unit Tests")
 class CustomerServiceImplTest {
 
+    // Hash BCrypt de ejemplo: el controller hashea antes de llamar al servicio
+    private static final String PASSWORD_HASH = "$2a$10$N9qo8uLOickgx2ZMRZoMyeIjZAgcfl7p92ldGxad68LJZdL17lhWy";
+
     @Mock
     private CustomerRepository customerRepository;
 
+    @Mock
+    private ReactiveCustomerRepository reactiveCustomerRepository;
+
+    @Mock
+    private Validator validator;
+
+    @Mock
+    private CustomerCache customerCache;
+
+    @Mock
+    private IdentificationFilter identificationFilter;
+
+    @Mock
+    private IdentificationIndex identificationIndex;
+
+    @Mock
+    private PasswordHasher passwordHasher;
+
     @InjectMocks
     private CustomerServiceImpl customerService;
 
@@ -54,6 +100,13 @@ class CustomerServiceImplTest {
 
     @BeforeEach
     void setUp() {
+        // Límites de paginación (en la aplicación vienen de application.yml)
+        ReflectionTestUtils.setField(customerService, "defaultPageSize", 20);
+        ReflectionTestUtils.setField(customerService, "maxPageSize", 100);
+        ReflectionTestUtils.setField(customerService, "maxBatchSize", 1000);
+        ReflectionTestUtils.setField(customerService, "singleWriter", true);
+        lenient().when(passwordHasher.isHash(PASSWORD_HASH)).thenReturn(true);
+
         // Crear customer de ejemplo
         sampleCustomer = new Customer();
         sampleCustomer.setId(1L);
@@ -66,6 +119,7 @@ class CustomerServiceImplTest {
         sampleCustomer.setStatus(true);
         sampleCustomer.setCreatedAt(LocalDateTime.now());
         sampleCustomer.setUpdatedAt(LocalDateTime.now());
+        sampleCustomer.setVersion(3L);
 
         // Crear request de ejemplo
         createRequest = CreateCustomerRequest.builder()
@@ -74,7 +128,7 @@ class CustomerServiceImplTest {
                 .identification("1234567890")
                 .address("123 Main St")
                 .phone("0999999999")
-                .password("password123")
+                .password(PASSWORD_HASH)
                 .build();
 
         // Crear update request de ejemplo
@@ -90,6 +144,7 @@ class CustomerServiceImplTest {
     @DisplayName("Should create customer successfully with valid data")
     void createCustomer_WithValidData_ShouldReturnCustomerDTO() {
         // Given (Preparación)
+        when(identificationFilter.mightContain(anyString())).thenReturn(true);
         when(customerRepository.existsByIdentification(anyString())).thenReturn(false);
         when(customerRepository.save(any(Customer.class))).thenReturn(sampleCustomer);
 
@@ -111,12 +166,56 @@ class CustomerServiceImplTest {
         verifyNoMoreInteractions(customerRepository);
     }
 
+    @Test
+    @DisplayName("Should add the identification to the filter again after commit")
+    void createCustomer_ShouldRegisterIdentificationAgainAfterCommit() {
+        // Given: una transacción activa, como con @Transactional
+        when(identificationFilter.mightContain(anyString())).thenReturn(false);
+        when(customerRepository.save(any(Customer.class))).thenReturn(sampleCustomer);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // When
+            customerService.createCustomer(createRequest);
+
+            // Then: antes del commit y otra vez al confirmarse (reconstrucción en curso)
+            verify(identificationFilter, times(1)).add("1234567890");
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(TransactionSynchronization::afterCommit);
+            verify(identificationFilter, times(2)).add("1234567890");
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Should refuse to store a password that was not hashed by PasswordHasher")
+    void createCustomer_WithPlainPassword_ShouldNotSave() {
+        // Given
+        createRequest.setPassword("password123");
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> customerService.createCustomer(createRequest));
+        verify(customerRepository, never()).save(any(Customer.class));
+    }
+
+    @Test
+    @DisplayName("Should refuse a plain password on update")
+    void updateCustomer_WithPlainPassword_ShouldNotUpdate() {
+        // Given
+        updateRequest.setPassword("new-password");
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> customerService.updateCustomer(1L, updateRequest));
+        verifyNoInteractions(customerRepository);
+    }
+
     // ========== TEST 2: CREATE CUSTOMER - ALREADY EXISTS ==========
 
     @Test
     @DisplayName("Should throw exception when customer with same identification already exists")
     void createCustomer_WithDuplicateIdentification_ShouldThrowException() {
         // Given
+        when(identificationFilter.mightContain(anyString())).thenReturn(true);
         when(customerRepository.existsByIdentification(anyString())).thenReturn(true);
 
         // When & Then
@@ -137,6 +236,37 @@ class CustomerServiceImplTest {
         verify(customerRepository, never()).save(any(Customer.class));
     }
 
+    @Test
+    @DisplayName("Should skip the duplicate query when the filter rules the identification out")
+    void createCustomer_WhenFilterRulesOutIdentification_ShouldNotQueryExistence() {
+        // Given
+        when(identificationFilter.mightContain("1234567890")).thenReturn(false);
+        when(customerRepository.save(any(Customer.class))).thenReturn(sampleCustomer);
+
+        // When
+        CustomerDTO result = customerService.createCustomer(createRequest);
+
+        // Then
+        assertEquals(1L, result.getId());
+        verify(customerRepository, never()).existsByIdentification(anyString());
+        verify(identificationFilter, times(1)).add("1234567890");
+    }
+
+    @Test
+    @DisplayName("Should always query duplicates when other instances may be writing")
+    void createCustomer_WithSeveralWriters_ShouldQueryExistenceEvenIfIndexMisses() {
+        // Given: el índice no conoce la identificación, pero otra instancia pudo darla de alta
+        ReflectionTestUtils.setField(customerService, "singleWriter", false);
+        lenient().when(identificationIndex.canAnswer("1234567890")).thenReturn(true);
+        lenient().when(identificationIndex.findCustomerId("1234567890")).thenReturn(OptionalLong.empty());
+        when(customerRepository.existsByIdentification("1234567890")).thenReturn(true);
+
+        // When & Then
+        assertThrows(CustomerAlreadyExistsException.class, () -> customerService.createCustomer(createRequest));
+        verify(customerRepository, times(1)).existsByIdentification("1234567890");
+        verify(customerRepository, never()).save(any(Customer.class));
+    }
+
     // ========== TEST 3: FIND CUSTOMER BY ID - NOT FOUND ==========
 
     @Test
@@ -144,7 +274,7 @@ class CustomerServiceImplTest {
     void findCustomerById_WithNonExistentId_ShouldThrowException() {
         // Given
         Long nonExistentId = 999L;
-        when(customerRepository.findById(nonExistentId)).thenReturn(Optional.empty());
+        when(customerRepository.findProjectionById(nonExistentId)).thenReturn(Optional.empty());
 
         // When & Then
         CustomerNotFoundException exception = assertThrows(
@@ -159,7 +289,7 @@ class CustomerServiceImplTest {
         assertTrue(exception.getMessage().contains("not found"),
                 "Exception message should mention 'not found'");
 
-        verify(customerRepository, times(1)).findById(nonExistentId);
+        verify(customerRepository, times(1)).findProjectionById(nonExistentId);
     }
 
     // ========== TEST 4: FIND CUSTOMER BY ID - SUCCESS ==========
@@ -168,7 +298,7 @@ class CustomerServiceImplTest {
     @DisplayName("Should return customer DTO when found by ID")
     void findCustomerById_WithExistingId_ShouldReturnCustomerDTO() {
         // Given
-        when(customerRepository.findById(1L)).thenReturn(Optional.of(sampleCustomer));
+        when(customerRepository.findProjectionById(1L)).thenReturn(Optional.of(projectionOf(sampleCustomer)));
 
         // When
         CustomerDTO result = customerService.findCustomerById(1L);
@@ -179,7 +309,9 @@ class CustomerServiceImplTest {
         assertEquals("John Doe", result.getName());
         assertEquals("1234567890", result.getIdentification());
 
-        verify(customerRepository, times(1)).findById(1L);
+        // Lectura por proyección: nunca se carga la entidad administrada
+        verify(customerRepository, times(1)).findProjectionById(1L);
+        verify(customerRepository, never()).findById(anyLong());
     }
 
     // ========== TEST 5: FIND ALL CUSTOMERS ==========
@@ -194,8 +326,8 @@ class CustomerServiceImplTest {
         customer2.setIdentification("0987654321");
         customer2.setStatus(true);
 
-        List<Customer> customers = Arrays.asList(sampleCustomer, customer2);
-        when(customerRepository.findAll()).thenReturn(customers);
+        List<CustomerProjection> customers = Arrays.asList(projectionOf(sampleCustomer), projectionOf(customer2));
+        when(customerRepository.findAllProjections()).thenReturn(customers);
 
         // When
         List<CustomerDTO> result = customerService.findAllCustomers();
@@ -206,7 +338,7 @@ class CustomerServiceImplTest {
         assertEquals("John Doe", result.get(0).getName());
         assertEquals("Jane Smith", result.get(1).getName());
 
-        verify(customerRepository, times(1)).findAll();
+        verify(customerRepository, times(1)).findAllProjections();
     }
 
     // ========== TEST 6: UPDATE CUSTOMER - PARTIAL UPDATE ==========
@@ -253,22 +385,324 @@ class CustomerServiceImplTest {
         verify(customerRepository, never()).update(any(Customer.class));
     }
 
+    @Test
+    @DisplayName("Should reject update when If-Match version is stale")
+    void updateCustomer_WithStaleVersion_ShouldThrowVersionMismatch() {
+        // Given
+        when(customerRepository.findById(1L)).thenReturn(Optional.of(sampleCustomer));
+
+        // When & Then
+        assertThrows(CustomerVersionMismatchException.class,
+                () -> customerService.updateCustomer(1L, updateRequest, 2L));
+
+        verify(customerRepository, never()).update(any(Customer.class));
+        verify(customerCache, never()).evict(anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("Should report a concurrent write as version mismatch when If-Match was sent")
+    void updateCustomer_WhenConcurrentWriteWins_ShouldThrowVersionMismatch() {
+        // Given
+        when(customerRepository.findById(1L)).thenReturn(Optional.of(sampleCustomer));
+        when(customerRepository.update(any(Customer.class)))
+                .thenThrow(new OptimisticLockingFailureException("stale"));
+
+        // When & Then
+        assertThrows(CustomerVersionMismatchException.class,
+                () -> customerService.updateCustomer(1L, updateRequest, 3L));
+    }
+
+    @Test
+    @DisplayName("Should apply merge patch: absent fields unchanged, null clears optional fields")
+    void patchCustomer_WithNullOptionalField_ShouldClearIt() {
+        // Given
+        PatchCustomerRequest patch = new PatchCustomerRequest();
+        patch.setAddress(null);
+        patch.setPhone("0977777777");
+        when(customerRepository.findById(1L)).thenReturn(Optional.of(sampleCustomer));
+        when(customerRepository.update(any(Customer.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        CustomerDTO result = customerService.patchCustomer(1L, patch, null);
+
+        // Then
+        assertNull(result.getAddress());
+        assertEquals("0977777777", result.getPhone());
+        assertEquals("John Doe", result.getName());
+        assertEquals("Male", result.getGender());
+    }
+
+    @Test
+    @DisplayName("Should reject merge patch that removes a required field")
+    void patchCustomer_WithNullRequiredField_ShouldThrowException() {
+        // Given
+        PatchCustomerRequest patch = new PatchCustomerRequest();
+        patch.setName(null);
+        when(customerRepository.findById(1L)).thenReturn(Optional.of(sampleCustomer));
+
+        // When & Then
+        assertThrows(InvalidCustomerDataException.class,
+                () -> customerService.patchCustomer(1L, patch, null));
+        verify(customerRepository, never()).update(any(Customer.class));
+    }
+
     // ========== TEST 8: DELETE CUSTOMER (SOFT DELETE) ==========
 
     @Test
     @DisplayName("Should deactivate customer (soft delete)")
     void deleteCustomer_ShouldDeactivateCustomer() {
+        // Given
+        when(customerRepository.updateStatus(1L, false)).thenReturn(1);
+
+        // When
+        assertDoesNotThrow(() -> customerService.deleteCustomer(1L));
+
+        // Then: un solo UPDATE, sin leer la entidad
+        verify(customerRepository, times(1)).updateStatus(1L, false);
+        verify(customerRepository, never()).findById(anyLong());
+        verify(customerRepository, never()).update(any(Customer.class));
+    }
+
+    @Test
+    @DisplayName("Should throw exception when deactivating a non-existent customer")
+    void deleteCustomer_WithNonExistentId_ShouldThrowException() {
+        // Given: 0 filas afectadas
+        when(customerRepository.updateStatus(999L, false)).thenReturn(0);
+
+        // When & Then
+        assertThrows(CustomerNotFoundException.class, () -> customerService.deleteCustomer(999L));
+    }
+
+    @Test
+    @DisplayName("Should hard delete with a single statement and drop the identification from cache and index")
+    void hardDeleteCustomer_ShouldDeleteDirectly() {
+        // Given
+        when(customerRepository.deleteDirectlyById(1L)).thenReturn(Optional.of("1234567890"));
+
+        // When
+        customerService.hardDeleteCustomer(1L);
+
+        // Then
+        verify(customerRepository, never()).findById(anyLong());
+        verify(customerCache, atLeastOnce()).evict(1L, "1234567890");
+        verify(identificationIndex, times(1)).remove("1234567890");
+        verify(identificationFilter, times(1)).removed(1);
+    }
+
+    @Test
+    @DisplayName("Should throw exception when hard deleting a non-existent customer")
+    void hardDeleteCustomer_WithNonExistentId_ShouldThrowException() {
+        // Given
+        when(customerRepository.deleteDirectlyById(999L)).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThrows(CustomerNotFoundException.class, () -> customerService.hardDeleteCustomer(999L));
+        verifyNoInteractions(identificationIndex);
+    }
+
+    @Test
+    @DisplayName("Should hard delete in bulk and forget only the identifications actually deleted")
+    void hardDeleteCustomers_ShouldForgetDeletedIdentifications() {
+        // Given: el ID 3 no existe
+        when(customerRepository.deleteDirectlyByIds(Set.of(1L, 2L, 3L)))
+                .thenReturn(Map.of(1L, "1234567890", 2L, "0987654321"));
+
+        // When
+        BulkOperationResponse response = customerService.hardDeleteCustomers(List.of(1L, 2L, 3L, 1L));
+
+        // Then
+        assertEquals(3, response.getRequested());
+        assertEquals(2, response.getAffected());
+        verify(customerCache, atLeastOnce()).evict(1L, "1234567890");
+        verify(customerCache, atLeastOnce()).evict(2L, "0987654321");
+        verify(identificationIndex, times(1)).remove("1234567890");
+        verify(identificationIndex, times(1)).remove("0987654321");
+        verify(identificationFilter, times(1)).removed(2);
+    }
+
+    // ========== TEST 9: STREAM ALL CUSTOMERS ==========
+
+    @Test
+    @DisplayName("Should stream customers as DTOs in repository order")
+    void streamAllCustomers_ShouldEmitDTOsAsTheyAreRead() {
+        // Given
+        CustomerProjection customer1 = new CustomerProjection(1L, "John Doe", "Male", "1234567890",
+                null, null, true, null, null, 0L);
+        CustomerProjection customer2 = new CustomerProjection(2L, "Jane Smith", "Female", "0987654321",
+                null, null, true, null, null, 0L);
+
+        when(reactiveCustomerRepository.findAll()).thenReturn(Flux.just(customer1, customer2));
+
+        // When & Then
+        StepVerifier.create(customerService.streamAllCustomers())
+                .assertNext(dto -> assertEquals("John Doe", dto.getName()))
+                .assertNext(dto -> assertEquals("Jane Smith", dto.getName()))
+                .verifyComplete();
+
+        verify(reactiveCustomerRepository, times(1)).findAll();
+        verifyNoInteractions(customerRepository);
+    }
+
+    // ========== TEST 10: KEYSET PAGINATION ==========
+
+    @Test
+    @DisplayName("Should return a page with a cursor that continues after the last customer")
+    void findCustomersPage_WithMoreRows_ShouldReturnNextCursor() {
+        // Given: se piden 1 + 1 filas, el repositorio devuelve 2 => hay página siguiente
+        Customer customer2 = new Customer();
+        customer2.setId(2L);
+        customer2.setName("Jane Smith");
+        customer2.setIdentification("0987654321");
+        customer2.setStatus(true);
+
+        when(customerRepository.findPage(any(CustomerPageQuery.class)))
+                .thenReturn(Arrays.asList(projectionOf(sampleCustomer), projectionOf(customer2)));
+
+        // When
+        CustomerPageDTO page = customerService.findCustomersPage(null, 1, true, "id");
+
+        // Then
+        assertEquals(1, page.getSize());
+        assertTrue(page.getHasNext());
+        assertEquals("John Doe", page.getContent().get(0).getName());
+
+        CustomerCursor cursor = CustomerCursor.decode(page.getNextCursor());
+        assertEquals(CustomerSort.ID, cursor.sort());
+        assertEquals(1L, cursor.lastId());
+        assertEquals(true, cursor.status());
+
+        verify(customerRepository).findPage(new CustomerPageQuery(CustomerSort.ID, null, null, true, 2));
+    }
+
+    @Test
+    @DisplayName("Should reject page sizes above the configured maximum")
+    void findCustomersPage_WithSizeAboveMax_ShouldThrowException() {
+        assertThrows(InvalidCustomerDataException.class,
+                () -> customerService.findCustomersPage(null, 101, null, null));
+
+        verifyNoInteractions(customerRepository);
+    }
+
+    // ========== TEST 11: BATCH CREATE ==========
+
+    @Test
+    @DisplayName("Should create new customers in batch and report duplicates per item")
+    void createCustomersBatch_WithDuplicates_ShouldReportPerItemResults() {
+        // Given: [nuevo, repetido en el lote, ya existente en la base]
+        CreateCustomerRequest existingRequest = CreateCustomerRequest.builder()
+                .name("Jane Smith")
+                .identification("0987654321")
+                .password(PASSWORD_HASH)
+                .build();
+
+        when(identificationFilter.mightContain(anyString())).thenReturn(true);
+        when(customerRepository.findExistingIdentifications(any()))
+                .thenReturn(Set.of("0987654321"));
+        when(customerRepository.saveAll(anyList())).thenReturn(List.of(sampleCustomer));
+
+        // When
+        BatchCreateCustomersResponse response = customerService.createCustomersBatch(
+                List.of(createRequest, createRequest, existingRequest));
+
+        // Then
+        assertEquals(3, response.getTotal());
+        assertEquals(1, response.getCreated());
+        assertEquals(2, response.getRejected());
+        assertEquals(ItemStatus.CREATED, response.getResults().get(0).getStatus());
+        assertEquals(1L, response.getResults().get(0).getId());
+        assertEquals(ItemStatus.DUPLICATE, response.getResults().get(1).getStatus());
+        assertEquals(ItemStatus.DUPLICATE, response.getResults().get(2).getStatus());
+
+        // Una sola consulta de duplicados y un solo saveAll
+        verify(customerRepository, times(1)).findExistingIdentifications(List.of("1234567890", "0987654321"));
+        verify(customerRepository, times(1)).saveAll(argThat(customers -> customers.size() == 1));
+        verify(customerRepository, never()).existsByIdentification(anyString());
+    }
+
+    // ========== TEST 12: CACHE ==========
+
+    @Test
+    @DisplayName("Should serve cached customer without hitting the repository")
+    void findCustomerById_WhenCached_ShouldNotQueryRepository() {
+        // Given
+        CustomerDTO cached = CustomerDTO.builder().id(1L).name("John Doe").identification("1234567890").build();
+        when(customerCache.getById(1L)).thenReturn(Optional.of(cached));
+
+        // When
+        CustomerDTO result = customerService.findCustomerById(1L);
+
+        // Then
+        assertSame(cached, result);
+        verify(customerRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    @DisplayName("Should invalidate cache when a customer is updated")
+    void updateCustomer_ShouldEvictCachedCustomer() {
         // Given
         when(customerRepository.findById(1L)).thenReturn(Optional.of(sampleCustomer));
         when(customerRepository.update(any(Customer.class))).thenReturn(sampleCustomer);
 
         // When
-        assertDoesNotThrow(() -> customerService.deleteCustomer(1L));
+        customerService.updateCustomer(1L, updateRequest);
 
         // Then
-        verify(customerRepository, times(1)).findById(1L);
-        verify(customerRepository, times(1)).update(argThat(customer ->
-                customer.getStatus() == false
-        ));
+        verify(customerCache, times(1)).evict(1L, "1234567890");
+    }
+
+    // ========== TEST 13: IDENTIFICATION INDEX ==========
+
+    @Test
+    @DisplayName("Should resolve identification through the in-memory index and cache")
+    void findCustomerByIdentification_WhenIndexed_ShouldNotQueryByIdentification() {
+        // Given
+        CustomerDTO cached = CustomerDTO.builder().id(1L).name("John Doe").identification("1234567890").build();
+        when(identificationIndex.findCustomerId("1234567890")).thenReturn(OptionalLong.of(1L));
+        when(customerCache.getById(1L)).thenReturn(Optional.of(cached));
+
+        // When
+        CustomerDTO result = customerService.findCustomerByIdentification("1234567890");
+
+        // Then
+        assertSame(cached, result);
+        verify(customerRepository, never()).findByIdentification(anyString());
+    }
+
+    // ========== TEST 14: FIND BY IDENTIFICATION (PROJECTION) ==========
+
+    @Test
+    @DisplayName("Should resolve unknown identification with a read-only projection and cache it")
+    void findCustomerByIdentification_WhenNotIndexed_ShouldUseProjection() {
+        // Given
+        CustomerProjection projection = new CustomerProjection(1L, "John Doe", "Male", "1234567890",
+                "123 Main St", "0999999999", true, LocalDateTime.now(), LocalDateTime.now(), 0L);
+        when(customerRepository.findProjectionByIdentification("1234567890")).thenReturn(Optional.of(projection));
+
+        // When
+        CustomerDTO result = customerService.findCustomerByIdentification("1234567890");
+
+        // Then
+        assertEquals(1L, result.getId());
+        assertEquals("John Doe", result.getName());
+        verify(customerRepository, never()).findByIdentification(anyString());
+        verify(customerCache, times(1)).put(result, 0L);
+        verify(identificationIndex, times(1)).put("1234567890", 1L);
+    }
+
+    @Test
+    @DisplayName("Should throw exception when identification does not exist")
+    void findCustomerByIdentification_WithUnknownIdentification_ShouldThrowException() {
+        // Given
+        when(customerRepository.findProjectionByIdentification("0000000000")).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThrows(CustomerNotFoundException.class,
+                () -> customerService.findCustomerByIdentification("0000000000"));
+    }
+
+    private CustomerProjection projectionOf(Customer customer) {
+        return new CustomerProjection(customer.getId(), customer.getName(), customer.getGender(),
+                customer.getIdentification(), customer.getAddress(), customer.getPhone(), customer.getStatus(),
+                customer.getCreatedAt(), customer.getUpdatedAt(), customer.getVersion());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,84 @@
+package com.bank.customer.domain.validation;
+
+import com.bank.customer.domain.entities.Customer;
+import com.bank.customer.domain.entities.Person;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Los validadores sin regex deben aceptar exactamente lo mismo que los @Pattern que reemplazan.
+ */
+@DisplayName("Field Validators - Unit Tests")
+class FieldValidatorsTest {
+
+    private static final Pattern IDENTIFICATION_PATTERN = Pattern.compile("^[0-9]{10,20}$");
+    private static final Pattern PHONE_PATTERN = Pattern.compile("^[0-9+\\-\\s()]{7,15}$");
+
+    private static final List<String> SAMPLES = List.of(
+            "", "123456", "1234567", "123456789", "1234567890", "17123456789012345678",
+            "171234567890123456789", "17123456AB", "1712345678 ", "+593 (2) 2-345",
+            "099\t999\n999", "099-ABC-999", "0999999999٣", "１２３４５６７８９０", "(02)-2345678");
+
+    @Test
+    @DisplayName("Should match the identification and phone regular expressions")
+    void shouldMatchRegularExpressions() {
+        for (String sample : SAMPLES) {
+            assertEquals(IDENTIFICATION_PATTERN.matcher(sample).matches(),
+                    IdentificationValidator.isValidIdentification(sample), "identification: " + sample);
+            assertEquals(PHONE_PATTERN.matcher(sample).matches(),
+                    PhoneNumberValidator.isValidPhone(sample), "phone: " + sample);
+        }
+    }
+
+    @Test
+    @DisplayName("Should validate Ecuadorian cedula check digit")
+    void shouldValidateCedulaCheckDigit() {
+        assertTrue(EcuadorianCedula.isValid("1712345675"));
+        assertTrue(EcuadorianCedula.isValid("0102030400"));
+        assertTrue(EcuadorianCedula.isValid("3050000003"));
+
+        assertFalse(EcuadorianCedula.isValid("1712345678"), "dígito verificador");
+        assertFalse(EcuadorianCedula.isValid("2512345675"), "provincia");
+        assertFalse(EcuadorianCedula.isValid("1762345674"), "tercer dígito");
+        assertFalse(EcuadorianCedula.isValid("17123456AB"));
+        assertFalse(EcuadorianCedula.isValid("171234567"));
+        assertFalse(EcuadorianCedula.isValid(null));
+    }
+
+    @Test
+    @DisplayName("Should apply the full cedula check in Person.hasValidEcuadorianId")
+    void shouldApplyCedulaCheckInPerson() {
+        assertTrue(person("1712345675").hasValidEcuadorianId());
+        assertTrue(person("3050000003").hasValidEcuadorianId(), "provincia 30 (exterior), antes rechazada");
+
+        // Con la verificación anterior (solo provincia 01-24) estas eran válidas
+        assertFalse(person("1712345678").hasValidEcuadorianId(), "dígito verificador");
+        assertFalse(person("1762345674").hasValidEcuadorianId(), "tercer dígito");
+
+        assertFalse(person("2512345675").hasValidEcuadorianId(), "provincia");
+        assertFalse(person("17123456789").hasValidEcuadorianId(), "largo");
+        assertFalse(person(null).hasValidEcuadorianId());
+    }
+
+    @Test
+    @DisplayName("Should accept non-cedula identifications in @Identification")
+    void shouldNotRequireCedulaInIdentification() {
+        IdentificationValidator validator = new IdentificationValidator();
+
+        assertTrue(validator.isValid("1712345678", null), "pasaporte/RUC con dígito verificador distinto");
+        assertTrue(validator.isValid("1790012345001", null), "RUC");
+        assertTrue(validator.isValid(null, null));
+        assertFalse(validator.isValid("17123456AB", null));
+    }
+
+    private static Person person(String identification) {
+        Customer customer = new Customer();
+        customer.setIdentification(identification);
+        return customer;
+    }
+}
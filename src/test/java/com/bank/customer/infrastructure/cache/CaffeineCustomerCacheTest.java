@@ -0,0 +1,111 @@
+package com.bank.customer.infrastructure.cache;
+
+import com.bank.customer.application.dto.CustomerDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas de CaffeineCustomerCache con un reloj manual para el TTL
+ */
+@DisplayName("Caffeine Customer Cache - Unit Tests")
+class CaffeineCustomerCacheTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+    private CaffeineCustomerCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new CaffeineCustomerCache(new SimpleMeterRegistry(), 100, Duration.ofMinutes(10), nanos::get);
+    }
+
+    @Test
+    @DisplayName("Should serve a cached customer by ID and by identification")
+    void put_ShouldCacheByIdAndIdentification() {
+        cache.put(customer(1L, "1234567890", 3L), cache.stamp());
+
+        assertEquals("John Doe", cache.getById(1L).orElseThrow().getName());
+        assertEquals(1L, cache.getIdByIdentification("1234567890").orElseThrow());
+    }
+
+    @Test
+    @DisplayName("Should hand out copies so callers cannot change the cached customer")
+    void getById_ShouldReturnCopies() {
+        CustomerDTO original = customer(1L, "1234567890", 3L);
+        cache.put(original, cache.stamp());
+        original.setName("Changed before read");
+
+        CustomerDTO first = cache.getById(1L).orElseThrow();
+        first.setName("Changed by caller");
+
+        assertEquals("John Doe", cache.getById(1L).orElseThrow().getName());
+        assertNotSame(first, cache.getById(1L).orElseThrow());
+    }
+
+    @Test
+    @DisplayName("Should remove both entries on evict")
+    void evict_ShouldRemoveByIdAndIdentification() {
+        cache.put(customer(1L, "1234567890", 3L), cache.stamp());
+
+        cache.evict(1L, "1234567890");
+
+        assertTrue(cache.getById(1L).isEmpty());
+        assertTrue(cache.getIdByIdentification("1234567890").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should discard a customer read before a later invalidation")
+    void put_AfterConcurrentEvict_ShouldBeDiscarded() {
+        // Given: la lectura empieza, una escritura se confirma e invalida
+        long readStamp = cache.stamp();
+        cache.evict(1L, "1234567890");
+
+        // When: la lectura termina con la fila anterior
+        cache.put(customer(1L, "1234567890", 3L), readStamp);
+
+        // Then: no queda cacheada; una lectura posterior sí
+        assertTrue(cache.getById(1L).isEmpty());
+        cache.put(customer(1L, "1234567890", 4L), cache.stamp());
+        assertEquals(4L, cache.getById(1L).orElseThrow().getVersion());
+    }
+
+    @Test
+    @DisplayName("Should keep the newer version when an older one arrives later")
+    void put_WithOlderVersion_ShouldKeepNewer() {
+        long slowRead = cache.stamp();
+        cache.put(customer(1L, "1234567890", 5L), cache.stamp());
+
+        cache.put(customer(1L, "1234567890", 4L), slowRead);
+
+        assertEquals(5L, cache.getById(1L).orElseThrow().getVersion());
+    }
+
+    @Test
+    @DisplayName("Should expire entries after the TTL")
+    void getById_AfterTtl_ShouldMiss() {
+        cache.put(customer(1L, "1234567890", 3L), cache.stamp());
+
+        nanos.addAndGet(Duration.ofMinutes(9).toNanos());
+        assertTrue(cache.getById(1L).isPresent());
+
+        nanos.addAndGet(Duration.ofMinutes(2).toNanos());
+        assertTrue(cache.getById(1L).isEmpty());
+        assertTrue(cache.getIdByIdentification("1234567890").isEmpty());
+    }
+
+    private static CustomerDTO customer(Long id, String identification, Long version) {
+        return CustomerDTO.builder()
+                .id(id)
+                .name("John Doe")
+                .identification(identification)
+                .status(true)
+                .version(version)
+                .build();
+    }
+}
@@ -0,0 +1,155 @@
+package com.bank.customer.infrastructure.execution;
+
+import com.bank.customer.presentation.exception.GlobalExceptionHandler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Cola acotada, rechazo (503) y métricas de BlockingExecutor con schedulers reales
+ * de pocos hilos. Las tareas se bloquean en un latch para fijar cuántas corren y
+ * cuántas esperan.
+ */
+@DisplayName("Blocking Executor - Unit Tests")
+class BlockingExecutorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private Scheduler scheduler;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        scheduler.dispose();
+    }
+
+    @Test
+    @DisplayName("Should reject with RejectedExecutionException once the bounded queue is full")
+    void call_WhenQueueIsFull_ShouldReject() throws Exception {
+        // Given: un hilo y una tarea en cola
+        scheduler = Schedulers.newBoundedElastic(1, 1, "test-bounded");
+        BlockingExecutor executor = new BlockingExecutor(scheduler, "bounded", meterRegistry);
+        CountDownLatch running = new CountDownLatch(1);
+        Disposable first = executor.call(() -> block(running)).subscribe();
+        assertTrue(running.await(5, TimeUnit.SECONDS));
+        Disposable second = executor.call(() -> "queued").subscribe();
+
+        // When & Then
+        StepVerifier.create(executor.call(() -> "rejected"))
+                .expectError(RejectedExecutionException.class)
+                .verify(Duration.ofSeconds(5));
+
+        first.dispose();
+        second.dispose();
+    }
+
+    @Test
+    @DisplayName("Should publish queue depth, active tasks, wait and execution time")
+    void call_ShouldPublishQueueAndTimingMetrics() throws Exception {
+        // Given
+        scheduler = Schedulers.newBoundedElastic(1, 10, "test-metrics");
+        BlockingExecutor executor = new BlockingExecutor(scheduler, "bounded", meterRegistry);
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(2);
+
+        // When: una tarea corre y otra espera hilo
+        executor.call(() -> block(running)).doFinally(signal -> done.countDown()).subscribe();
+        assertTrue(running.await(5, TimeUnit.SECONDS));
+        executor.call(() -> "second").doFinally(signal -> done.countDown()).subscribe();
+
+        // Then
+        assertEquals(1.0, gauge("customer.blocking.active"));
+        assertEquals(1.0, gauge("customer.blocking.queue.depth"));
+
+        release.countDown();
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(0.0, gauge("customer.blocking.active"));
+        assertEquals(0.0, gauge("customer.blocking.queue.depth"));
+        assertEquals(2, meterRegistry.get("customer.blocking.wait").timer().count());
+        assertEquals(2, meterRegistry.get("customer.blocking.execution").timer().count());
+    }
+
+    @Test
+    @DisplayName("Should cap virtual-thread tasks at maxConcurrent and reject beyond the queue capacity")
+    void call_WithVirtualThreads_ShouldLimitConcurrencyWithSemaphore() throws Exception {
+        // Given: hilos virtuales sin tope propio, 2 permisos y 1 en espera
+        scheduler = Schedulers.fromExecutorService(Executors.newVirtualThreadPerTaskExecutor(), "test-vt");
+        BlockingExecutor executor = new BlockingExecutor(scheduler, "customer.blocking", "virtual-threads",
+                meterRegistry, 2, 1);
+        AtomicInteger concurrent = new AtomicInteger();
+        AtomicInteger maxConcurrent = new AtomicInteger();
+        CountDownLatch running = new CountDownLatch(2);
+        CountDownLatch done = new CountDownLatch(3);
+
+        for (int i = 0; i < 3; i++) {
+            executor.call(() -> {
+                        maxConcurrent.accumulateAndGet(concurrent.incrementAndGet(), Math::max);
+                        try {
+                            return block(running);
+                        } finally {
+                            concurrent.decrementAndGet();
+                        }
+                    })
+                    .doFinally(signal -> done.countDown())
+                    .subscribe();
+        }
+        assertTrue(running.await(5, TimeUnit.SECONDS));
+
+        // When & Then: la tercera espera permiso y la cuarta no cabe en la cola
+        assertEquals(2.0, gauge("customer.blocking.active"));
+        awaitGauge("customer.blocking.queue.depth", 1.0);
+        StepVerifier.create(executor.call(() -> "rejected"))
+                .expectError(RejectedExecutionException.class)
+                .verify(Duration.ofSeconds(5));
+
+        release.countDown();
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(2, maxConcurrent.get());
+        assertEquals(3, meterRegistry.get("customer.blocking.execution").timer().count());
+    }
+
+    @Test
+    @DisplayName("Should answer 503 when the executor rejects a task")
+    void rejectedTask_ShouldMapTo503() {
+        GlobalExceptionHandler handler = new GlobalExceptionHandler(meterRegistry);
+
+        HttpStatus status = HttpStatus.valueOf(handler.handleRejectedExecution(
+                new RejectedExecutionException("queue full")).getStatusCode().value());
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, status);
+    }
+
+    private String block(CountDownLatch running) throws InterruptedException {
+        running.countDown();
+        assertTrue(release.await(10, TimeUnit.SECONDS));
+        return "done";
+    }
+
+    private double gauge(String name) {
+        return meterRegistry.get(name).gauge().value();
+    }
+
+    private void awaitGauge(String name, double expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (gauge(name) != expected && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(expected, gauge(name));
+    }
+}
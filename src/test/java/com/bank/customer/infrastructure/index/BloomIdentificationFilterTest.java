@@ -0,0 +1,102 @@
+package com.bank.customer.infrastructure.index;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.BooleanSupplier;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Carga y reconstrucción de BloomIdentificationFilter contra H2 en memoria (schema-h2.sql).
+ * El hash es determinista, así que los resultados "ausente" no dependen de la ejecución.
+ */
+@DisplayName("Bloom Identification Filter - H2 Tests")
+class BloomIdentificationFilterTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+    private static final long ROWS = 500;
+
+    private JdbcTemplate jdbcTemplate;
+    private SimpleMeterRegistry meterRegistry;
+    private BloomIdentificationFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:filter-" + UUID.randomUUID() + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+        new ResourceDatabasePopulator(new ClassPathResource("schema-h2.sql")).execute(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+
+        LongStream.rangeClosed(1, ROWS).forEach(id -> jdbcTemplate.update(
+                "INSERT INTO personas (id, nombre, identificacion) VALUES (?, ?, ?)",
+                id, "Cliente " + id, identification(id)));
+
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new BloomIdentificationFilter(jdbcTemplate, meterRegistry, 2 * ROWS, 0.01, 2, 100);
+    }
+
+    @Test
+    @DisplayName("Should answer maybe for everything until the filter is loaded")
+    void mightContain_ShouldBeConservativeBeforeLoad() {
+        assertTrue(filter.mightContain(identification(ROWS + 1)));
+    }
+
+    @Test
+    @DisplayName("Should never report loaded or added identifications as absent")
+    void mightContain_ShouldHaveNoFalseNegatives() {
+        filter.load();
+        await(() -> meterRegistry.get("customer.identification.filter.ready").gauge().value() == 1);
+
+        LongStream.rangeClosed(1, ROWS).forEach(id -> assertTrue(filter.mightContain(identification(id))));
+
+        LongStream.rangeClosed(ROWS + 1, 2 * ROWS).forEach(id -> filter.add(identification(id)));
+        LongStream.rangeClosed(1, 2 * ROWS).forEach(id -> assertTrue(filter.mightContain(identification(id))));
+
+        long absent = LongStream.rangeClosed(2 * ROWS + 1, 3 * ROWS)
+                .filter(id -> !filter.mightContain(identification(id)))
+                .count();
+        assertTrue(absent > ROWS * 9 / 10, "absent " + absent);
+    }
+
+    @Test
+    @DisplayName("Should rebuild in the background after rebuild-after-deletions removals")
+    void removed_ShouldTriggerRebuild() {
+        filter.load();
+        await(() -> meterRegistry.get("customer.identification.filter.ready").gauge().value() == 1);
+
+        List<String> deleted = LongStream.rangeClosed(1, 20).mapToObj(BloomIdentificationFilterTest::identification).toList();
+        deleted.forEach(identification -> assertTrue(filter.mightContain(identification)));
+        jdbcTemplate.update("DELETE FROM personas WHERE id <= 20");
+
+        filter.removed(1);
+        assertTrue(deleted.stream().allMatch(filter::mightContain), "rebuilt before the threshold");
+
+        filter.removed(1);
+        await(() -> deleted.stream().filter(filter::mightContain).count() <= 2);
+
+        LongStream.rangeClosed(21, ROWS).forEach(id -> assertTrue(filter.mightContain(identification(id))));
+    }
+
+    private static String identification(long id) {
+        return String.valueOf(1700000000L + id * 7919L);
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + TIMEOUT.toNanos();
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "condition not met in " + TIMEOUT);
+            Thread.onSpinWait();
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.bank.customer.infrastructure.index;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tabla hash de PrimitiveIdentificationIndex sin base de datos (no se llama a load).
+ * Con capacidad 16 las colisiones se arman buscando identificaciones por su slot ideal.
+ */
+@DisplayName("Primitive Identification Index - Unit Tests")
+class PrimitiveIdentificationIndexTest {
+
+    private static final int CAPACITY = 16;
+    private static final int MASK = CAPACITY - 1;
+
+    private PrimitiveIdentificationIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new PrimitiveIdentificationIndex(null, new SimpleMeterRegistry(), CAPACITY, 1000);
+    }
+
+    @Test
+    @DisplayName("Should find, replace and remove identifications")
+    void putFindRemove_ShouldWork() {
+        index.put("1712345675", 1);
+        index.put("0102030400", 2);
+        index.put("1712345675", 3);
+
+        assertEquals(OptionalLong.of(3), index.findCustomerId("1712345675"));
+        assertEquals(OptionalLong.of(2), index.findCustomerId("0102030400"));
+        assertEquals(2, index.size());
+
+        index.remove("1712345675");
+
+        assertTrue(index.findCustomerId("1712345675").isEmpty());
+        assertEquals(OptionalLong.of(2), index.findCustomerId("0102030400"));
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    @DisplayName("Should shift entries back across the end of the table when removing")
+    void remove_ShouldShiftBackAcrossWrapAround() {
+        // a, b, c con slot ideal 15 ocupan 15, 0 y 1; d (ideal 0) queda en 2
+        List<String> last = identificationsInSlot(MASK, 3);
+        String d = identificationsInSlot(0, 1).get(0);
+        List<String> all = List.of(last.get(0), last.get(1), last.get(2), d);
+        for (int i = 0; i < all.size(); i++) {
+            index.put(all.get(i), i + 1);
+        }
+
+        index.remove(last.get(0));
+        assertFound(all.subList(1, 4), 2);
+
+        index.remove(last.get(1));
+        assertFound(all.subList(2, 4), 3);
+
+        index.remove(last.get(2));
+        assertFound(all.subList(3, 4), 4);
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    @DisplayName("Should double the tables at 75% load and keep every entry")
+    void put_ShouldResize() {
+        List<String> identifications = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            identifications.add(String.valueOf(1700000000L + i * 7919L));
+        }
+        assertEquals(CAPACITY * Long.BYTES * 2, index.memoryBytes());
+
+        for (int i = 0; i < identifications.size(); i++) {
+            index.put(identifications.get(i), i + 1);
+        }
+
+        assertEquals(2 * CAPACITY * Long.BYTES * 2, index.memoryBytes());
+        assertEquals(20, index.size());
+        assertFound(identifications, 1);
+    }
+
+    @Test
+    @DisplayName("Should tell apart identifications that share the 18-digit tail")
+    void tag_ShouldDistinguishLeadingDigitsAndLength() {
+        String tail = "123456789012345678";
+        List<String> identifications = List.of(
+                "0123456789", "00123456789",
+                "1" + tail, "2" + tail, "01" + tail, "10" + tail, "99" + tail);
+
+        assertEquals(PrimitiveIdentificationIndex.key("0123456789"), PrimitiveIdentificationIndex.key("00123456789"));
+        assertEquals(PrimitiveIdentificationIndex.key("1" + tail), PrimitiveIdentificationIndex.key("01" + tail));
+        assertEquals(identifications.size(),
+                identifications.stream().map(PrimitiveIdentificationIndex::tag).distinct().count());
+
+        for (int i = 0; i < identifications.size(); i++) {
+            index.put(identifications.get(i), i + 1);
+        }
+        assertFound(identifications, 1);
+    }
+
+    @Test
+    @DisplayName("Should ignore values that are not 10 to 20 digit identifications")
+    void tag_ShouldRejectInvalidIdentifications() {
+        assertEquals(-1, PrimitiveIdentificationIndex.tag("123456789"));
+        assertEquals(-1, PrimitiveIdentificationIndex.tag("123456789012345678901"));
+        assertEquals(-1, PrimitiveIdentificationIndex.tag("17123456AB"));
+
+        index.put("17123456AB", 1);
+        assertEquals(0, index.size());
+        assertFalse(index.canAnswer("1712345675"));
+    }
+
+    private void assertFound(List<String> identifications, long firstId) {
+        for (int i = 0; i < identifications.size(); i++) {
+            assertEquals(OptionalLong.of(firstId + i), index.findCustomerId(identifications.get(i)),
+                    identifications.get(i));
+        }
+    }
+
+    private static List<String> identificationsInSlot(int slot, int count) {
+        List<String> found = new ArrayList<>();
+        for (long candidate = 1000000000L; found.size() < count; candidate++) {
+            String identification = String.valueOf(candidate);
+            if (PrimitiveIdentificationIndex.slot(PrimitiveIdentificationIndex.key(identification), MASK) == slot) {
+                found.add(identification);
+            }
+        }
+        return found;
+    }
+}
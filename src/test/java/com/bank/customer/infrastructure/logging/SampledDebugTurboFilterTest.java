@@ -0,0 +1,51 @@
+package com.bank.customer.infrastructure.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Decisiones de SampledDebugTurboFilter con un LoggerContext propio (sin tocar el de la aplicación)
+ */
+@DisplayName("Sampled Debug Turbo Filter - Unit Tests")
+class SampledDebugTurboFilterTest {
+
+    private SampledDebugTurboFilter filter;
+    private Logger logger;
+
+    @BeforeEach
+    void setUp() {
+        LoggerContext context = new LoggerContext();
+        logger = context.getLogger("com.bank.customer.Sample");
+        logger.setLevel(Level.DEBUG);
+
+        filter = new SampledDebugTurboFilter();
+        filter.setPrefix("com.bank.customer");
+        filter.setSampleRate(0.0);
+    }
+
+    @Test
+    @DisplayName("Should let isDebugEnabled guards through and sample only the logging call")
+    void decide_ShouldSampleOnlyCallsWithMessage() {
+        // Guard isDebugEnabled(): sin mensaje
+        assertEquals(FilterReply.NEUTRAL, filter.decide(null, logger, Level.DEBUG, null, null, null));
+
+        assertEquals(FilterReply.DENY, filter.decide(null, logger, Level.DEBUG, "Found {} customers", null, null));
+    }
+
+    @Test
+    @DisplayName("Should never filter INFO or loggers outside the prefix")
+    void decide_ShouldIgnoreInfoAndOtherLoggers() {
+        Logger other = logger.getLoggerContext().getLogger("org.hibernate.SQL");
+        other.setLevel(Level.DEBUG);
+
+        assertEquals(FilterReply.NEUTRAL, filter.decide(null, logger, Level.INFO, "Customer created", null, null));
+        assertEquals(FilterReply.NEUTRAL, filter.decide(null, other, Level.DEBUG, "select ...", null, null));
+    }
+}
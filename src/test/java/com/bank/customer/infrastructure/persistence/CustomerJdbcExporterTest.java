@@ -0,0 +1,143 @@
+package com.bank.customer.infrastructure.persistence;
+
+import com.bank.customer.application.dto.CustomerFileFormat;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Salida CSV / NDJSON de CustomerJdbcExporter contra H2 en memoria (schema-h2.sql).
+ * Buffer de 32 bytes: cada fila cruza varios vaciados del buffer, incluso a mitad
+ * de un carácter multibyte.
+ */
+@DisplayName("Customer JDBC Exporter - H2 Tests")
+class CustomerJdbcExporterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private JdbcTemplate jdbcTemplate;
+    private CustomerJdbcExporter exporter;
+    private long exportedRows;
+
+    @BeforeEach
+    void setUp() {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:export-" + UUID.randomUUID() + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+        new ResourceDatabasePopulator(new ClassPathResource("schema-h2.sql")).execute(dataSource);
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        exporter = new CustomerJdbcExporter(jdbcTemplate, 100, 32, 1);
+
+        insert(1, "Maria \"Mari\" López", "Female", "1712345675", "Av. Amazonas, N34\nQuito", "0999999999",
+                true, LocalDateTime.of(2024, 1, 15, 10, 30));
+        insert(2, "Juan\\Perez\t\u0001", null, "0102030400", null, null,
+                false, LocalDateTime.of(2024, 3, 1, 8, 0, 5));
+        insert(3, "Ana Torres", "Female", "3050000003", "Cuenca", "+593 7 2345678",
+                true, LocalDateTime.of(2024, 6, 30, 23, 59, 59));
+    }
+
+    @Test
+    @DisplayName("Should write a CSV header and quote values with commas, quotes and line breaks")
+    void export_ShouldWriteQuotedCsv() {
+        String csv = export(CustomerFileFormat.CSV, null, null);
+
+        assertEquals("""
+                id,name,gender,identification,address,phone,status,createdAt,updatedAt
+                1,"Maria ""Mari"" López",Female,1712345675,"Av. Amazonas, N34
+                Quito",0999999999,true,2024-01-15T10:30:00,2024-01-15T10:30:00
+                2,Juan\\Perez\t\u0001,,0102030400,,,false,2024-03-01T08:00:05,2024-03-01T08:00:05
+                3,Ana Torres,Female,3050000003,Cuenca,+593 7 2345678,true,2024-06-30T23:59:59,2024-06-30T23:59:59
+                """, csv);
+        assertEquals(3, exportedRows);
+    }
+
+    @Test
+    @DisplayName("Should write one escaped JSON object per line, omitting null columns and the password")
+    void export_ShouldWriteEscapedNdjson() throws Exception {
+        String ndjson = export(CustomerFileFormat.NDJSON, null, null);
+
+        assertTrue(ndjson.contains("\"name\":\"Juan\\\\Perez\\t\\u0001\""), ndjson);
+
+        List<JsonNode> rows = new ArrayList<>();
+        for (String line : ndjson.split("\n")) {
+            rows.add(objectMapper.readTree(line));
+        }
+        assertEquals(3, rows.size());
+
+        JsonNode maria = rows.get(0);
+        assertEquals(1, maria.get("id").asLong());
+        assertEquals("Maria \"Mari\" López", maria.get("name").asText());
+        assertEquals("Av. Amazonas, N34\nQuito", maria.get("address").asText());
+        assertTrue(maria.get("status").asBoolean());
+        assertEquals("2024-01-15T10:30:00", maria.get("createdAt").asText());
+
+        JsonNode juan = rows.get(1);
+        assertEquals("Juan\\Perez\t\u0001", juan.get("name").asText());
+        assertFalse(juan.has("gender"));
+        assertFalse(juan.has("address"));
+        assertFalse(juan.get("status").asBoolean());
+
+        rows.forEach(row -> assertFalse(row.has("password")));
+    }
+
+    @Test
+    @DisplayName("Should filter by status and updatedSince")
+    void export_ShouldApplyFilters() {
+        String active = export(CustomerFileFormat.NDJSON, true, null);
+        String activeSinceMarch = export(CustomerFileFormat.NDJSON, true, LocalDateTime.of(2024, 3, 1, 0, 0));
+
+        assertEquals(2, active.lines().count());
+        assertEquals(1, exportedRows);
+        assertEquals(1, activeSinceMarch.lines().count());
+        assertTrue(activeSinceMarch.contains("\"identification\":\"3050000003\""));
+    }
+
+    @Test
+    @DisplayName("Should replace a lone surrogate and keep the rest of the row and the next rows")
+    void export_WithLoneSurrogate_ShouldReplaceItWithoutTruncating() {
+        // Given: un nombre con la mitad alta de un par surrogate, sin la baja
+        insert(4, "Rosa \uD83D Vega", "Female", "1100000004", "Loja", "0977777777",
+                true, LocalDateTime.of(2024, 7, 1, 9, 0));
+        insert(5, "Luis 😀 Mora", "Male", "1100000005", "Ambato", null,
+                true, LocalDateTime.of(2024, 7, 2, 9, 0));
+
+        // When
+        String csv = export(CustomerFileFormat.CSV, null, null);
+
+        // Then
+        assertTrue(csv.contains("4,Rosa ? Vega,Female,1100000004,Loja,0977777777,true,2024-07-01T09:00:00"), csv);
+        assertTrue(csv.contains("5,Luis 😀 Mora,Male,1100000005,Ambato,,true,2024-07-02T09:00:00"), csv);
+        assertEquals(5, exportedRows);
+    }
+
+    private String export(CustomerFileFormat format, Boolean status, LocalDateTime updatedSince) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exportedRows = exporter.export(format, status, updatedSince, Channels.newChannel(out));
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private void insert(long id, String name, String gender, String identification, String address, String phone,
+                        boolean status, LocalDateTime timestamp) {
+        jdbcTemplate.update("INSERT INTO personas (id, nombre, genero, identificacion, direccion, telefono, "
+                        + "created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+                id, name, gender, identification, address, phone, timestamp, timestamp);
+        jdbcTemplate.update("INSERT INTO clientes (id, contrasena, estado) VALUES (?, ?, ?)",
+                id, "$2a$04$secret", status);
+    }
+}
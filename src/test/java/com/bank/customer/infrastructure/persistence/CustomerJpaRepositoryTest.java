@@ -0,0 +1,71 @@
+package com.bank.customer.infrastructure.persistence;
+
+import com.bank.customer.domain.entities.Customer;
+import com.bank.customer.domain.projections.CustomerCredentials;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Consultas nativas de CustomerJpaRepository contra H2 en modo MySQL (perfil h2)
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("h2")
+@DisplayName("Customer JPA Repository - H2 Tests")
+class CustomerJpaRepositoryTest {
+
+    @Autowired
+    private CustomerJpaRepository customerRepository;
+
+    @Test
+    @DisplayName("Should replace the password only if it did not change since it was read")
+    void updatePassword_ShouldNotOverwriteConcurrentChange() {
+        Customer customer = customer("7100000001", "plain-legacy");
+        Long id = customerRepository.saveAndFlush(customer).getId();
+
+        // Un cambio de contraseña llega entre la lectura del rehash y su UPDATE
+        assertEquals(1, customerRepository.updatePassword(id, "plain-legacy", "changed-by-user"));
+        assertEquals(0, customerRepository.updatePassword(id, "plain-legacy", "rehash-of-old"));
+
+        assertEquals("changed-by-user", customerRepository.findCredentialsByIdentification("7100000001")
+                .map(CustomerCredentials::password)
+                .orElseThrow());
+    }
+
+    @Test
+    @DisplayName("Should read the identifications of the rows about to be deleted")
+    void lockIdentificationsByIds_ShouldReturnIdAndIdentification() {
+        Long first = customerRepository.saveAndFlush(customer("7100000002", "secret")).getId();
+        Long second = customerRepository.saveAndFlush(customer("7100000003", "secret")).getId();
+
+        Map<Long, String> identifications = new HashMap<>();
+        for (Object[] row : customerRepository.lockIdentificationsByIds(List.of(first, second, 999_999L))) {
+            identifications.put(((Number) row[0]).longValue(), (String) row[1]);
+        }
+
+        assertEquals(Map.of(first, "7100000002", second, "7100000003"), identifications);
+        assertEquals(Optional.of("7100000002"), customerRepository.lockIdentificationById(first));
+        assertEquals(2, customerRepository.deleteDirectlyByIds(identifications.keySet()));
+        assertTrue(customerRepository.lockIdentificationById(first).isEmpty());
+    }
+
+    private static Customer customer(String identification, String password) {
+        Customer customer = new Customer();
+        customer.setName("Maria Lopez");
+        customer.setIdentification(identification);
+        customer.setPassword(password);
+        customer.setStatus(true);
+        return customer;
+    }
+}
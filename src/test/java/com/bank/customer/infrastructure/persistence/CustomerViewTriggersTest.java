@@ -0,0 +1,115 @@
+package com.bank.customer.infrastructure.persistence;
+
+import com.bank.customer.application.dto.CreateCustomerRequest;
+import com.bank.customer.application.dto.CustomerDTO;
+import com.bank.customer.application.dto.UpdateCustomerRequest;
+import com.bank.customer.application.services.CustomerService;
+import com.bank.customer.domain.projections.CustomerProjection;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.test.context.TestPropertySource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Triggers de customer_view (schema.sql) contra MySQL real: H2 no ejecuta triggers SQL,
+ * por eso el perfil h2 no crea la tabla. Se escribe con CustomerService y se lee con
+ * CustomerViewRepository. Sin Docker la prueba se omite.
+ */
+@SpringBootTest
+@Testcontainers(disabledWithoutDocker = true)
+@TestPropertySource(properties = {
+        // schema.sql completo (tablas, migraciones y triggers), sin los datos de ejemplo
+        "spring.sql.init.mode=always",
+        "spring.sql.init.schema-locations=classpath:schema.sql",
+        "spring.sql.init.data-locations=optional:classpath:none.sql",
+        "customer.access-log.enabled=false"
+})
+@DisplayName("Customer View Triggers - MySQL Tests")
+class CustomerViewTriggersTest {
+
+    // Hash BCrypt de "password": el servicio rechaza contraseñas sin hash
+    private static final String PASSWORD_HASH = "$2a$10$N9qo8uLOickgx2ZMRZoMyeIjZAgcfl7p92ldGxad68LJZdL17lhWy";
+
+    // root: crear triggers con binlog activo requiere SUPER
+    @Container
+    @ServiceConnection
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0")
+            .withDatabaseName("customer_db")
+            .withUsername("root")
+            .withPassword("test");
+
+    @Autowired
+    private CustomerService customerService;
+
+    @Autowired
+    private CustomerViewRepository customerViewRepository;
+
+    @Test
+    @DisplayName("Should copy a new customer into customer_view")
+    void insert_ShouldFillView() {
+        CustomerDTO created = customerService.createCustomer(customer("7300000001"));
+
+        CustomerProjection view = customerViewRepository.findById(created.getId()).orElseThrow();
+        assertEquals("Maria Lopez", view.name());
+        assertEquals("7300000001", view.identification());
+        assertEquals("Quito", view.address());
+        assertTrue(view.status());
+        assertEquals(created.getVersion(), view.version());
+    }
+
+    @Test
+    @DisplayName("Should follow updates of personas and clientes, including the version")
+    void update_ShouldRefreshView() {
+        CustomerDTO created = customerService.createCustomer(customer("7300000002"));
+
+        CustomerDTO updated = customerService.updateCustomer(created.getId(), UpdateCustomerRequest.builder()
+                .address("Cuenca")
+                .phone("0988888888")
+                .build());
+
+        CustomerProjection view = customerViewRepository.findByIdentification("7300000002").orElseThrow();
+        assertEquals("Cuenca", view.address());
+        assertEquals("0988888888", view.phone());
+        assertEquals(updated.getVersion(), view.version());
+        assertTrue(view.version() > created.getVersion());
+    }
+
+    @Test
+    @DisplayName("Should mark the view row inactive on soft delete")
+    void softDelete_ShouldDeactivateViewRow() {
+        CustomerDTO created = customerService.createCustomer(customer("7300000003"));
+
+        customerService.deleteCustomer(created.getId());
+
+        assertFalse(customerViewRepository.findById(created.getId()).orElseThrow().status());
+    }
+
+    @Test
+    @DisplayName("Should remove the view row on hard delete (cascade from personas)")
+    void hardDelete_ShouldRemoveViewRow() {
+        CustomerDTO created = customerService.createCustomer(customer("7300000004"));
+
+        customerService.hardDeleteCustomer(created.getId());
+
+        assertTrue(customerViewRepository.findById(created.getId()).isEmpty());
+        assertTrue(customerViewRepository.findByIdentification("7300000004").isEmpty());
+    }
+
+    private static CreateCustomerRequest customer(String identification) {
+        return CreateCustomerRequest.builder()
+                .name("Maria Lopez")
+                .gender("Female")
+                .identification(identification)
+                .address("Quito")
+                .phone("0999999999")
+                .password(PASSWORD_HASH)
+                .build();
+    }
+}
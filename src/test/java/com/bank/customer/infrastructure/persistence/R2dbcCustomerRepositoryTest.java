@@ -0,0 +1,117 @@
+package com.bank.customer.infrastructure.persistence;
+
+import com.bank.customer.domain.projections.CustomerProjection;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.r2dbc.connection.init.ResourceDatabasePopulator;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Lectura JOIN personas/clientes de R2dbcCustomerRepository contra H2 R2DBC
+ * en memoria (schema-h2.sql).
+ */
+@DisplayName("R2DBC Customer Repository - H2 Tests")
+class R2dbcCustomerRepositoryTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 1, 15, 10, 30);
+
+    private DatabaseClient databaseClient;
+    private R2dbcCustomerRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        ConnectionFactory connectionFactory = ConnectionFactories.get(
+                "r2dbc:h2:mem:///r2dbc-" + UUID.randomUUID() + "?options=MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+        new ResourceDatabasePopulator(new ClassPathResource("schema-h2.sql")).populate(connectionFactory).block();
+
+        databaseClient = DatabaseClient.create(connectionFactory);
+        repository = new R2dbcCustomerRepository(databaseClient);
+        ReflectionTestUtils.setField(repository, "chunkSize", 2);
+    }
+
+    @Test
+    @DisplayName("Should join personas and clientes into projections ordered by ID")
+    void findAll_ShouldJoinBothTablesInIdOrder() {
+        // Given: IDs insertados fuera de orden
+        insertCustomer(3, "Ana Torres", "3050000003", false);
+        insertCustomer(1, "Maria López", "1712345675", true);
+
+        // When & Then
+        StepVerifier.create(repository.findAll())
+                .assertNext(maria -> {
+                    assertEquals(1L, maria.id());
+                    assertEquals("Maria López", maria.name());
+                    assertEquals("Female", maria.gender());
+                    assertEquals("1712345675", maria.identification());
+                    assertEquals("Quito", maria.address());
+                    assertNull(maria.phone());
+                    assertTrue(maria.status());
+                    assertEquals(CREATED_AT, maria.createdAt());
+                    assertEquals(0L, maria.version());
+                })
+                .assertNext(ana -> {
+                    assertEquals(3L, ana.id());
+                    assertFalse(ana.status());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should skip personas rows without a clientes row")
+    void findAll_ShouldSkipPersonsThatAreNotCustomers() {
+        // Given
+        insertCustomer(1, "Maria López", "1712345675", true);
+        databaseClient.sql("INSERT INTO personas (id, nombre, identificacion) VALUES (2, 'Solo Persona', '0102030400')")
+                .fetch().rowsUpdated().block();
+
+        // When & Then
+        StepVerifier.create(repository.findAll().map(CustomerProjection::id))
+                .expectNext(1L)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should emit only what the subscriber requests")
+    void findAll_ShouldHonorDemand() {
+        // Given: más filas que el fetch size
+        for (int id = 1; id <= 5; id++) {
+            insertCustomer(id, "Cliente " + id, "17000000" + id + "0", true);
+        }
+
+        // When & Then
+        StepVerifier.create(repository.findAll().map(CustomerProjection::id), 0)
+                .thenRequest(1)
+                .expectNext(1L)
+                .thenRequest(3)
+                .expectNext(2L, 3L, 4L)
+                .thenCancel()
+                .verify();
+    }
+
+    private void insertCustomer(long id, String name, String identification, boolean status) {
+        databaseClient.sql("""
+                        INSERT INTO personas (id, nombre, genero, identificacion, direccion, created_at, updated_at)
+                        VALUES (:id, :name, 'Female', :identification, 'Quito', :createdAt, :createdAt)
+                        """)
+                .bind("id", id)
+                .bind("name", name)
+                .bind("identification", identification)
+                .bind("createdAt", CREATED_AT)
+                .fetch().rowsUpdated().block();
+        databaseClient.sql("INSERT INTO clientes (id, contrasena, estado) VALUES (:id, 'hash', :status)")
+                .bind("id", id)
+                .bind("status", status)
+                .fetch().rowsUpdated().block();
+    }
+}
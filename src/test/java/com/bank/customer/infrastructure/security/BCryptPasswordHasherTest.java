@@ -0,0 +1,112 @@
+package com.bank.customer.infrastructure.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas de BCryptPasswordHasher con costos bajos (4-5) para que sean rápidas
+ */
+@DisplayName("BCrypt Password Hasher - Unit Tests")
+class BCryptPasswordHasherTest {
+
+    private BCryptPasswordHasher hasher;
+
+    @AfterEach
+    void tearDown() {
+        if (hasher != null) {
+            hasher.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("Should verify legacy plaintext passwords and mark them for rehash when enabled")
+    void matches_ShouldAcceptLegacyPlaintextWhenEnabled() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        hasher = new BCryptPasswordHasher(meterRegistry, 1, 100, 4, 10, 14, Duration.ofMillis(250), true);
+
+        StepVerifier.create(hasher.matches("password123", "password123")).expectNext(true).verifyComplete();
+        StepVerifier.create(hasher.matches("password124", "password123")).expectNext(false).verifyComplete();
+        assertTrue(hasher.needsRehash("password123"));
+        assertEquals(2.0, legacyCount(meterRegistry, "accepted"));
+    }
+
+    @Test
+    @DisplayName("Should never match a plaintext stored password by default")
+    void matches_ShouldRejectLegacyPlaintextByDefault() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        hasher = new BCryptPasswordHasher(meterRegistry, 1, 100, 4, 10, 14, Duration.ofMillis(250), false);
+
+        StepVerifier.create(hasher.matches("password123", "password123")).expectNext(false).verifyComplete();
+        assertEquals(1.0, legacyCount(meterRegistry, "rejected"));
+        assertEquals(0.0, legacyCount(meterRegistry, "accepted"));
+    }
+
+    @Test
+    @DisplayName("Should compare against the dummy hash when the customer does not exist")
+    void matches_ShouldReturnFalseForMissingHash() {
+        hasher = hasher(4);
+
+        StepVerifier.create(hasher.matches("password123", null)).expectNext(false).verifyComplete();
+        assertFalse(hasher.needsRehash(null));
+    }
+
+    @Test
+    @DisplayName("Should ask for a rehash only when the stored cost is lower than the configured one")
+    void needsRehash_ShouldUpgradeLowerCost() {
+        hasher = hasher(5);
+
+        String lowerCost = new BCryptPasswordEncoder(4).encode("password123");
+        String sameCost = hasher.hash("password123").block();
+
+        assertTrue(hasher.needsRehash(lowerCost));
+        assertFalse(hasher.needsRehash(sameCost));
+        StepVerifier.create(hasher.matches("password123", lowerCost)).expectNext(true).verifyComplete();
+        StepVerifier.create(hasher.matches("password123", sameCost)).expectNext(true).verifyComplete();
+    }
+
+    // ========== COSTO ==========
+
+    @Test
+    @DisplayName("Should never calibrate below the minimum cost even if it exceeds the target")
+    void calibrate_ShouldNotGoBelowMinCost() {
+        assertEquals(5, BCryptPasswordHasher.calibrate(5, 12, Duration.ofNanos(1)));
+        assertEquals(4, BCryptPasswordHasher.calibrate(4, 4, Duration.ofNanos(1)));
+    }
+
+    @Test
+    @DisplayName("Should stop calibrating once the next cost would exceed the target")
+    void calibrate_ShouldStopBeforeExceedingTarget() {
+        // Sin el corte, probar costos hasta 31 tardaría horas
+        int cost = assertTimeoutPreemptively(Duration.ofSeconds(10),
+                () -> BCryptPasswordHasher.calibrate(4, 31, Duration.ofMillis(20)));
+
+        assertTrue(cost >= 4 && cost < 31, "cost " + cost);
+    }
+
+    @Test
+    @DisplayName("Should reject costs outside BCrypt bounds")
+    void constructor_ShouldRejectInvalidCost() {
+        assertThrows(IllegalStateException.class, () -> hasher(3));
+        assertThrows(IllegalStateException.class, () -> hasher(32));
+        assertThrows(IllegalStateException.class, () -> new BCryptPasswordHasher(
+                new SimpleMeterRegistry(), 1, 100, 0, 3, 14, Duration.ofMillis(250)));
+        assertThrows(IllegalStateException.class, () -> new BCryptPasswordHasher(
+                new SimpleMeterRegistry(), 1, 100, 0, 10, 32, Duration.ofMillis(250)));
+    }
+
+    private static double legacyCount(SimpleMeterRegistry meterRegistry, String result) {
+        return meterRegistry.get("customer.password.legacy").tag("result", result).counter().count();
+    }
+
+    private static BCryptPasswordHasher hasher(int cost) {
+        return new BCryptPasswordHasher(new SimpleMeterRegistry(), 1, 100, cost, 10, 14, Duration.ofMillis(250), false);
+    }
+}
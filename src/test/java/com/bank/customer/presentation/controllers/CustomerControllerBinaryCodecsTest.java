@@ -0,0 +1,123 @@
+package com.bank.customer.presentation.controllers;
+
+import com.bank.customer.application.dto.CreateCustomerRequest;
+import com.bank.customer.application.dto.CustomerDTO;
+import com.bank.customer.presentation.exception.ApiErrorResponse;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * CBOR y Smile de punta a punta: el cliente codifica y decodifica con sus propios
+ * ObjectMappers y el resultado debe coincidir con la salida JSON (app completa contra H2)
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureWebTestClient
+@ActiveProfiles("h2")
+@DisplayName("Customer Controller - CBOR and Smile")
+class CustomerControllerBinaryCodecsTest {
+
+    private static final MediaType APPLICATION_SMILE = new MediaType("application", "x-jackson-smile");
+
+    // Como el decoder JSON de Boot: ignora active/summary, que CustomerDTO solo expone con getters
+    private final ObjectMapper cborMapper = clientMapper(new CBORFactory());
+    private final ObjectMapper smileMapper = clientMapper(new SmileFactory());
+
+    @Autowired
+    private WebTestClient client;
+
+    @Test
+    @DisplayName("Should create a customer from a CBOR body and answer the same customer as JSON")
+    void shouldCreateAndReadCustomerAsCbor() throws IOException {
+        assertBinaryRoundTrip(MediaType.APPLICATION_CBOR, cborMapper, customer("7400000001"));
+    }
+
+    @Test
+    @DisplayName("Should create a customer from a Smile body and answer the same customer as JSON")
+    void shouldCreateAndReadCustomerAsSmile() throws IOException {
+        assertBinaryRoundTrip(APPLICATION_SMILE, smileMapper, customer("7400000002"));
+    }
+
+    @Test
+    @DisplayName("Should encode a 404 error as CBOR when the caller accepts CBOR")
+    void shouldEncodeNotFoundAsCbor() throws IOException {
+        byte[] body = client.get().uri("/api/v1/customers/{id}", 999_999_999L)
+                .accept(MediaType.APPLICATION_CBOR)
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_CBOR)
+                .expectBody(byte[].class)
+                .returnResult().getResponseBody();
+
+        ApiErrorResponse error = cborMapper.readValue(body, ApiErrorResponse.class);
+        assertEquals(404, error.getStatus());
+        assertNotNull(error.getTimestamp());
+        assertTrue(error.getMessage().contains("999999999"), error.getMessage());
+    }
+
+    private void assertBinaryRoundTrip(MediaType mediaType, ObjectMapper mapper, CreateCustomerRequest request)
+            throws IOException {
+        byte[] created = client.post().uri("/api/v1/customers")
+                .contentType(mediaType)
+                .accept(mediaType)
+                .bodyValue(mapper.writeValueAsBytes(request))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectHeader().contentTypeCompatibleWith(mediaType)
+                .expectBody(byte[].class)
+                .returnResult().getResponseBody();
+
+        CustomerDTO fromBinary = mapper.readValue(created, CustomerDTO.class);
+        assertEquals(request.getIdentification(), fromBinary.getIdentification());
+        assertEquals(request.getName(), fromBinary.getName());
+
+        CustomerDTO fromJson = client.get().uri("/api/v1/customers/{id}", fromBinary.getId())
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_JSON)
+                .expectBody(CustomerDTO.class)
+                .returnResult().getResponseBody();
+        assertEquals(fromJson, fromBinary);
+
+        byte[] fetched = client.get().uri("/api/v1/customers/{id}", fromBinary.getId())
+                .accept(mediaType)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(mediaType)
+                .expectBody(byte[].class)
+                .returnResult().getResponseBody();
+        assertEquals(fromJson, mapper.readValue(fetched, CustomerDTO.class));
+    }
+
+    private static ObjectMapper clientMapper(JsonFactory factory) {
+        return new ObjectMapper(factory)
+                .findAndRegisterModules()
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    }
+
+    private static CreateCustomerRequest customer(String identification) {
+        return CreateCustomerRequest.builder()
+                .name("Maria \"Mari\" López")
+                .gender("Female")
+                .identification(identification)
+                .address("Av. Amazonas N34, Quito")
+                .phone("0999999999")
+                .password("binary-secret")
+                .build();
+    }
+}
@@ -0,0 +1,115 @@
+package com.bank.customer.presentation.controllers;
+
+import com.bank.customer.application.dto.BatchCreateCustomersRequest;
+import com.bank.customer.application.dto.BatchCreateCustomersResponse;
+import com.bank.customer.application.dto.BatchCreateCustomersResponse.ItemStatus;
+import com.bank.customer.application.dto.CreateCustomerRequest;
+import com.bank.customer.application.dto.CustomerDTO;
+import com.bank.customer.application.dto.UpdateCustomerRequest;
+import com.bank.customer.domain.projections.CustomerCredentials;
+import com.bank.customer.infrastructure.persistence.CustomerJpaRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Las contraseñas se guardan siempre como hash BCrypt, nunca en claro, en todas las
+ * rutas de escritura del controller (app completa contra H2, perfil h2)
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureWebTestClient
+@ActiveProfiles("h2")
+@DisplayName("Customer Controller - Password Hashing")
+class CustomerControllerPasswordHashingTest {
+
+    private static final BCryptPasswordEncoder BCRYPT = new BCryptPasswordEncoder();
+
+    @Autowired
+    private WebTestClient client;
+
+    @Autowired
+    private CustomerJpaRepository customerRepository;
+
+    @Test
+    @DisplayName("Should store a BCrypt hash on create, update and patch")
+    void shouldHashPasswordOnCreateUpdateAndPatch() {
+        CustomerDTO created = client.post().uri("/api/v1/customers")
+                .bodyValue(customer("7200000001", "created-secret"))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(CustomerDTO.class)
+                .returnResult().getResponseBody();
+        assertNotNull(created);
+        assertStoredHash("7200000001", "created-secret");
+
+        client.put().uri("/api/v1/customers/{id}", created.getId())
+                .bodyValue(UpdateCustomerRequest.builder().password("updated-secret").build())
+                .exchange()
+                .expectStatus().isOk();
+        assertStoredHash("7200000001", "updated-secret");
+
+        client.patch().uri("/api/v1/customers/{id}", created.getId())
+                .contentType(MediaType.valueOf(CustomerController.MERGE_PATCH_JSON_VALUE))
+                .bodyValue("{\"password\":\"patched-secret\"}")
+                .exchange()
+                .expectStatus().isOk();
+        assertStoredHash("7200000001", "patched-secret");
+    }
+
+    @Test
+    @DisplayName("Should hash valid batch items and report items with an invalid password as INVALID")
+    void shouldHashBatchAndKeepInvalidPasswordsUnhashed() {
+        BatchCreateCustomersRequest batch = BatchCreateCustomersRequest.builder()
+                .customers(Arrays.asList(
+                        customer("7200000002", "batch-secret"),
+                        // 3 caracteres: con hash pasaría la validación de @Size(min = 4)
+                        customer("7200000003", "abc")))
+                .build();
+
+        BatchCreateCustomersResponse response = client.post().uri("/api/v1/customers/batch")
+                .bodyValue(batch)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(BatchCreateCustomersResponse.class)
+                .returnResult().getResponseBody();
+
+        assertNotNull(response);
+        assertEquals(List.of(ItemStatus.CREATED, ItemStatus.INVALID),
+                response.getResults().stream().map(BatchCreateCustomersResponse.ItemResult::getStatus).toList());
+        assertTrue(response.getResults().get(1).getMessage().contains("password"));
+
+        assertStoredHash("7200000002", "batch-secret");
+        assertTrue(customerRepository.findCredentialsByIdentification("7200000003").isEmpty());
+    }
+
+    private void assertStoredHash(String identification, String rawPassword) {
+        String stored = customerRepository.findCredentialsByIdentification(identification)
+                .map(CustomerCredentials::password)
+                .orElseThrow();
+
+        assertNotEquals(rawPassword, stored);
+        assertTrue(stored.startsWith("$2a$"), stored);
+        assertTrue(BCRYPT.matches(rawPassword, stored));
+    }
+
+    private static CreateCustomerRequest customer(String identification, String password) {
+        return CreateCustomerRequest.builder()
+                .name("Maria Lopez")
+                .gender("Female")
+                .identification(identification)
+                .phone("0999999999")
+                .password(password)
+                .build();
+    }
+}
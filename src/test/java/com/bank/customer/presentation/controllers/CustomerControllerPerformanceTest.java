@@ -0,0 +1,283 @@
+package com.bank.customer.presentation.controllers;
+
+import com.bank.customer.application.dto.BatchCreateCustomersRequest;
+import com.bank.customer.application.dto.BatchCreateCustomersResponse;
+import com.bank.customer.application.dto.BatchCreateCustomersResponse.ItemResult;
+import com.bank.customer.application.dto.BatchCreateCustomersResponse.ItemStatus;
+import com.bank.customer.application.dto.BulkCustomerIdsRequest;
+import com.bank.customer.application.dto.CreateCustomerRequest;
+import com.bank.customer.application.dto.CustomerDTO;
+import com.bank.customer.application.dto.UpdateCustomerRequest;
+import com.bank.customer.application.dto.UpdateStatusRequest;
+import com.bank.customer.application.dto.VerifyCredentialsRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Prueba de rendimiento de punta a punta de CustomerController.
+ *
+ * Levanta la app completa (Netty en un puerto aleatorio) contra H2 en modo MySQL
+ * (perfil perf), siembra perf.customers clientes y recorre todos los endpoints con
+ * perf.concurrency requests en vuelo usando el cliente de reactor-netty.
+ *
+ * Por cada escenario reporta throughput y latencias (p50/p90/p99/p999/máx en µs) en
+ * perf.report (JSON con orden estable, para comparar entre commits).
+ *
+ * Solo corre con el perfil de Maven perf: mvn -Pperf test
+ */
+@Tag("perf")
+@ActiveProfiles("perf")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@DisplayName("Customer Controller - Performance")
+class CustomerControllerPerformanceTest {
+
+    private static final String PASSWORD = "password123";
+    private static final int SEED_BATCH_SIZE = 1000;
+    private static final int BULK_SIZE = 100;
+    private static final double[] PERCENTILES = {0.5, 0.9, 0.99, 0.999};
+    private static final String[] PERCENTILE_NAMES = {"p50", "p90", "p99", "p999"};
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private WebClient.Builder webClientBuilder;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${perf.customers}")
+    private int customers;
+
+    @Value("${perf.requests}")
+    private int requests;
+
+    @Value("${perf.concurrency}")
+    private int concurrency;
+
+    @Value("${perf.warmup}")
+    private int warmup;
+
+    @Value("${perf.report}")
+    private Path report;
+
+    private WebClient client;
+
+    @Test
+    @DisplayName("Should report throughput and latency for every endpoint")
+    void shouldReportThroughputAndLatencyForEveryEndpoint() throws IOException {
+        client = webClientBuilder.baseUrl("http://localhost:" + port + "/api/v1/customers").build();
+
+        List<ItemResult> seeded = seed(1_000_000_000L, customers);
+        List<Long> ids = seeded.stream().map(ItemResult::getId).toList();
+        List<String> identifications = seeded.stream().map(ItemResult::getIdentification).toList();
+        assertEquals(customers, ids.size(), "All customers should be seeded");
+
+        int bulkRequests = Math.max(10, requests / BULK_SIZE);
+        List<Long> createdIds = Collections.synchronizedList(new ArrayList<>());
+        List<Long> batchCreatedIds = Collections.synchronizedList(new ArrayList<>());
+
+        measure("warmup", warmup, i -> i % 2 == 0
+                ? status(client.get().uri("/{id}", ids.get(i % ids.size())))
+                : status(client.get().uri("/page?size=20")));
+
+        List<Map<String, Object>> scenarios = new ArrayList<>();
+
+        // Lecturas
+        scenarios.add(measure("GET /{id}", requests,
+                i -> status(client.get().uri("/{id}", ids.get(i % ids.size())))));
+        scenarios.add(measure("GET /{id} (cbor)", requests,
+                i -> status(client.get().uri("/{id}", ids.get(i % ids.size())).accept(MediaType.APPLICATION_CBOR))));
+        scenarios.add(measure("GET /identification/{identification}", requests,
+                i -> status(client.get().uri("/identification/{identification}",
+                        identifications.get(i % identifications.size())))));
+        scenarios.add(measure("GET /page", requests,
+                i -> status(client.get().uri("/page?size=20&status=true&sort={sort}",
+                        i % 2 == 0 ? "id" : "updatedAt"))));
+        scenarios.add(measure("GET /", bulkRequests,
+                i -> status(client.get().uri("").accept(MediaType.APPLICATION_JSON))));
+        scenarios.add(measure("POST /{identification}/verify", requests,
+                i -> status(client.post().uri("/{identification}/verify",
+                                identifications.get(i % identifications.size()))
+                        .bodyValue(VerifyCredentialsRequest.builder().password(PASSWORD).build()))));
+
+        // Escrituras
+        scenarios.add(measure("POST /", requests,
+                i -> client.post().uri("")
+                        .bodyValue(customer(2_000_000_000L + i))
+                        .exchangeToMono(response -> response.bodyToMono(CustomerDTO.class)
+                                .doOnNext(created -> createdIds.add(created.getId()))
+                                .thenReturn(response.statusCode()))));
+        scenarios.add(measure("POST /batch", bulkRequests,
+                i -> client.post().uri("/batch")
+                        .bodyValue(batch(3_000_000_000L + (long) i * BULK_SIZE, BULK_SIZE))
+                        .exchangeToMono(response -> response.bodyToMono(BatchCreateCustomersResponse.class)
+                                .doOnNext(result -> batchCreatedIds.addAll(createdIds(result)))
+                                .thenReturn(response.statusCode()))));
+        scenarios.add(measure("PUT /{id}", requests,
+                i -> status(client.put().uri("/{id}", ids.get(i % ids.size()))
+                        .bodyValue(UpdateCustomerRequest.builder().address("Guayaquil, Urdesa " + i).build()))));
+        scenarios.add(measure("PATCH /{id}", requests,
+                i -> status(client.patch().uri("/{id}", ids.get(i % ids.size()))
+                        .contentType(MediaType.valueOf(CustomerController.MERGE_PATCH_JSON_VALUE))
+                        .bodyValue(Map.of("phone", "0988888888")))));
+        scenarios.add(measure("PUT /{id}/status", requests,
+                i -> status(client.put().uri("/{id}/status", ids.get(i % ids.size()))
+                        .bodyValue(UpdateStatusRequest.builder().status(i % 2 == 0).build()))));
+        scenarios.add(measure("POST /batch/deactivate", bulkRequests,
+                i -> status(client.post().uri("/batch/deactivate")
+                        .bodyValue(BulkCustomerIdsRequest.builder().ids(slice(ids, i)).build()))));
+
+        // Bajas
+        scenarios.add(measure("DELETE /{id}", requests,
+                i -> status(client.delete().uri("/{id}", ids.get(i % ids.size())))));
+        scenarios.add(measure("DELETE /{id}/hard", createdIds.size(),
+                i -> status(client.delete().uri("/{id}/hard", createdIds.get(i)))));
+        scenarios.add(measure("POST /batch/delete", batchCreatedIds.size() / BULK_SIZE,
+                i -> status(client.post().uri("/batch/delete")
+                        .bodyValue(BulkCustomerIdsRequest.builder().ids(slice(batchCreatedIds, i)).build()))));
+
+        writeReport(scenarios);
+
+        scenarios.forEach(scenario -> assertEquals(0, scenario.get("errors"),
+                "Unexpected errors in " + scenario.get("endpoint")));
+    }
+
+    /**
+     * Ejecuta count requests con concurrency en vuelo y resume sus latencias.
+     * Cualquier status fuera de 2xx o error de red cuenta como error.
+     */
+    private Map<String, Object> measure(String endpoint, int count, IntFunction<Mono<HttpStatusCode>> request) {
+        long[] latencies = new long[count];
+        AtomicInteger errors = new AtomicInteger();
+
+        long startedAt = System.nanoTime();
+        Flux.range(0, count)
+                .flatMap(i -> Mono.defer(() -> {
+                    long start = System.nanoTime();
+                    return request.apply(i)
+                            .onErrorResume(e -> Mono.empty())
+                            .defaultIfEmpty(HttpStatusCode.valueOf(599))
+                            .doOnNext(status -> {
+                                latencies[i] = System.nanoTime() - start;
+                                if (!status.is2xxSuccessful()) {
+                                    errors.incrementAndGet();
+                                }
+                            });
+                }), concurrency)
+                .blockLast();
+        long elapsed = System.nanoTime() - startedAt;
+
+        Arrays.sort(latencies);
+        Map<String, Object> latencyMicros = new LinkedHashMap<>();
+        for (int p = 0; p < PERCENTILES.length; p++) {
+            latencyMicros.put(PERCENTILE_NAMES[p], percentile(latencies, PERCENTILES[p]) / 1_000);
+        }
+        latencyMicros.put("max", count > 0 ? latencies[count - 1] / 1_000 : 0);
+
+        Map<String, Object> scenario = new LinkedHashMap<>();
+        scenario.put("endpoint", endpoint);
+        scenario.put("requests", count);
+        scenario.put("errors", errors.get());
+        scenario.put("throughputPerSecond", count > 0 ? Math.round(count * 1_000_000_000.0 / elapsed) : 0);
+        scenario.put("latencyMicros", latencyMicros);
+        return scenario;
+    }
+
+    private List<ItemResult> seed(long firstIdentification, int count) {
+        return Flux.range(0, (count + SEED_BATCH_SIZE - 1) / SEED_BATCH_SIZE)
+                .concatMap(chunk -> client.post().uri("/batch")
+                        .bodyValue(batch(firstIdentification + (long) chunk * SEED_BATCH_SIZE,
+                                Math.min(SEED_BATCH_SIZE, count - chunk * SEED_BATCH_SIZE)))
+                        .retrieve()
+                        .bodyToMono(BatchCreateCustomersResponse.class))
+                .flatMapIterable(BatchCreateCustomersResponse::getResults)
+                .filter(item -> item.getStatus() == ItemStatus.CREATED)
+                .collectList()
+                .block();
+    }
+
+    private void writeReport(List<Map<String, Object>> scenarios) throws IOException {
+        Map<String, Object> content = new LinkedHashMap<>();
+        content.put("customers", customers);
+        content.put("requests", requests);
+        content.put("concurrency", concurrency);
+        content.put("javaVersion", System.getProperty("java.version"));
+        content.put("availableProcessors", Runtime.getRuntime().availableProcessors());
+        content.put("scenarios", scenarios);
+
+        Path parent = report.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(report.toFile(), content);
+    }
+
+    private static Mono<HttpStatusCode> status(WebClient.RequestHeadersSpec<?> request) {
+        return request.exchangeToMono(response -> response.toBodilessEntity().map(ResponseEntity::getStatusCode));
+    }
+
+    private static long percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+
+    private static List<Long> slice(List<Long> ids, int index) {
+        int from = (index * BULK_SIZE) % ids.size();
+        return new ArrayList<>(ids.subList(from, Math.min(from + BULK_SIZE, ids.size())));
+    }
+
+    private static List<Long> createdIds(BatchCreateCustomersResponse result) {
+        return result.getResults().stream()
+                .filter(item -> item.getStatus() == ItemStatus.CREATED)
+                .map(ItemResult::getId)
+                .toList();
+    }
+
+    private static BatchCreateCustomersRequest batch(long firstIdentification, int size) {
+        List<CreateCustomerRequest> batch = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            batch.add(customer(firstIdentification + i));
+        }
+        return BatchCreateCustomersRequest.builder().customers(batch).build();
+    }
+
+    private static CreateCustomerRequest customer(long identification) {
+        return CreateCustomerRequest.builder()
+                .name("Customer " + identification)
+                .gender("Other")
+                .identification(String.valueOf(identification))
+                .address("Quito, La Mariscal")
+                .phone("0999999999")
+                .password(PASSWORD)
+                .build();
+    }
+}
@@ -0,0 +1,84 @@
+package com.bank.customer.presentation.json;
+
+import com.bank.customer.application.dto.CustomerDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * CustomerDTOSerializer debe producir byte a byte el mismo JSON que la serialización
+ * reflexiva por defecto de CustomerDTO.
+ */
+@DisplayName("CustomerDTO Serializer - Unit Tests")
+class CustomerDTOSerializerTest {
+
+    private ObjectMapper reflective;
+    private ObjectMapper custom;
+
+    @BeforeEach
+    void setUp() {
+        reflective = mapper();
+        custom = mapper().registerModule(new SimpleModule().addSerializer(new CustomerDTOSerializer()));
+    }
+
+    @Test
+    @DisplayName("Should write the same JSON as the reflective serializer")
+    void shouldWriteSameJsonAsReflectiveSerializer() throws Exception {
+        CustomerDTO customer = CustomerDTO.builder()
+                .id(42L)
+                .name("María \"Mari\" López")
+                .gender("Female")
+                .identification("1712345678")
+                .address("Quito, La Mariscal\nOf. 3")
+                .phone("0999999999")
+                .status(true)
+                .createdAt(LocalDateTime.of(2024, 1, 5, 7, 3, 9, 123_456_789))
+                .updatedAt(LocalDateTime.of(987, 12, 31, 23, 59, 59))
+                .version(3L)
+                .build();
+
+        assertEquals(reflective.writeValueAsString(customer), custom.writeValueAsString(customer));
+    }
+
+    @Test
+    @DisplayName("Should omit null fields like the reflective serializer")
+    void shouldOmitNullFieldsLikeReflectiveSerializer() throws Exception {
+        CustomerDTO customer = CustomerDTO.builder()
+                .name("John Doe")
+                .identification("1234567890")
+                .build();
+
+        String json = custom.writeValueAsString(customer);
+
+        assertEquals(reflective.writeValueAsString(customer), json);
+        assertFalse(json.contains("\"id\""));
+        assertFalse(json.contains("\"version\""));
+    }
+
+    @Test
+    @DisplayName("Should write lists the same as the reflective serializer")
+    void shouldWriteListsSameAsReflectiveSerializer() throws Exception {
+        List<CustomerDTO> customers = List.of(
+                CustomerDTO.builder().id(1L).name("A").status(false).build(),
+                CustomerDTO.builder().id(2L).name("B").status(true)
+                        .createdAt(LocalDateTime.of(2025, 10, 19, 10, 30)).build()
+        );
+
+        assertEquals(reflective.writeValueAsString(customers), custom.writeValueAsString(customers));
+    }
+
+    private static ObjectMapper mapper() {
+        return Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+    }
+}
@@ -0,0 +1,31 @@
+-- Esquema de schema.sql para H2 en modo MySQL (perfiles perf y h2 de las pruebas)
+-- Sin CREATE DATABASE/USE ni triggers; customer_view no se crea (customer.read-model.enabled=false).
+-- Los triggers de customer_view se prueban contra MySQL en CustomerViewTriggersTest (Testcontainers).
+-- H2 tiene secuencias: personas_seq es una SEQUENCE con incremento 50 (allocationSize de Person).
+
+CREATE TABLE IF NOT EXISTS personas (
+    id BIGINT PRIMARY KEY,
+    nombre VARCHAR(100) NOT NULL,
+    genero VARCHAR(20),
+    identificacion VARCHAR(20) UNIQUE NOT NULL,
+    direccion VARCHAR(200),
+    telefono VARCHAR(15),
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    version BIGINT NOT NULL DEFAULT 0
+);
+
+CREATE INDEX IF NOT EXISTS idx_personas_updated_at_id ON personas (updated_at, id);
+
+CREATE SEQUENCE IF NOT EXISTS personas_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS clientes (
+    id BIGINT PRIMARY KEY,
+    contrasena VARCHAR(255) NOT NULL,
+    estado BOOLEAN DEFAULT TRUE,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    FOREIGN KEY (id) REFERENCES personas(id) ON DELETE CASCADE
+);
+
+CREATE INDEX IF NOT EXISTS idx_clientes_estado_id ON clientes (estado, id);